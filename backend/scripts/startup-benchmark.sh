@@ -0,0 +1,93 @@
+#!/usr/bin/env bash
+# Time to first request and resident memory of each start mode.
+#
+#   scripts/startup-benchmark.sh [runs] [mode...]
+#
+# Modes:
+#   jar      the plain fat jar                 (mvn package)
+#   aot      the same with Spring AOT          (mvn -Pfaststart package)
+#   aot-cds  AOT plus the CDS archive          (mvn -Pfaststart package)
+#   native   GraalVM native image              (mvn -Pnative native:compile)
+# Modes whose artifact has not been built are skipped. Every mode runs with the
+# faststart profile, so only packaging differs. Needs the configured Postgres;
+# JAVA_OPTS and APP_ARGS are passed through, PORT defaults to 8081.
+#
+# Time to first request runs from launch until the API port answers an
+# unauthenticated request (403, no database work). RSS is read at that moment.
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-5}
+shift || true
+MODES=${*:-jar aot aot-cds native}
+PORT=${PORT:-8081}
+URL="http://localhost:${PORT}/api/v1/doctors"
+TIMEOUT_SECONDS=180
+
+FAT_JAR=$(ls target/backend-*.jar 2>/dev/null | grep -v plain | head -1 || true)
+FASTSTART_JAR=$(ls target/faststart/backend-*.jar 2>/dev/null | head -1 || true)
+CDS_ARCHIVE=target/faststart/app.jsa
+NATIVE=target/backend
+PROFILE=-Dspring.profiles.active=faststart
+
+command_for() {
+    case "$1" in
+        jar) [[ -n "$FAT_JAR" ]] && echo "java ${JAVA_OPTS:-} $PROFILE -jar $FAT_JAR" ;;
+        aot) [[ -n "$FASTSTART_JAR" ]] && echo "java ${JAVA_OPTS:-} $PROFILE -Dspring.aot.enabled=true -jar $FASTSTART_JAR" ;;
+        aot-cds) [[ -n "$FASTSTART_JAR" && -f "$CDS_ARCHIVE" ]] &&
+            echo "java ${JAVA_OPTS:-} $PROFILE -Dspring.aot.enabled=true -XX:SharedArchiveFile=$CDS_ARCHIVE -Xlog:cds=off -jar $FASTSTART_JAR" ;;
+        native) [[ -x "$NATIVE" ]] && echo "$NATIVE $PROFILE" ;;
+        *) echo "Unknown mode: $1" >&2; exit 2 ;;
+    esac
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+# Prints "<millis> <rss kB>" for one launch
+measure() {
+    local cmd=$1 start pid code rss
+    start=$(date +%s%N)
+    # shellcheck disable=SC2086
+    $cmd ${APP_ARGS:-} > "target/startup-benchmark.log" 2>&1 &
+    pid=$!
+    while true; do
+        code=$(curl -s -o /dev/null -w '%{http_code}' --max-time 1 "$URL" || true)
+        if [[ "$code" != "000" ]]; then
+            break
+        fi
+        if ! kill -0 "$pid" 2>/dev/null || (( ($(date +%s%N) - start) / 1000000000 > TIMEOUT_SECONDS )); then
+            echo "Mode did not answer, see target/startup-benchmark.log" >&2
+            kill "$pid" 2>/dev/null || true
+            exit 1
+        fi
+        sleep 0.01
+    done
+    local elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+    rss=$(awk '/VmRSS/ { print $2 }' "/proc/$pid/status")
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo "$elapsed $rss"
+}
+
+printf '%-8s %5s %14s %14s %12s\n' mode runs "first req ms" "(min-max)" "RSS MB"
+for mode in $MODES; do
+    cmd=$(command_for "$mode" || true)
+    if [[ -z "$cmd" ]]; then
+        printf '%-8s %5s\n' "$mode" "not built, skipped"
+        continue
+    fi
+    times=()
+    rss=()
+    for ((i = 0; i < RUNS; i++)); do
+        read -r t r < <(measure "$cmd")
+        times+=("$t")
+        rss+=("$r")
+    done
+    t_median=$(printf '%s\n' "${times[@]}" | median)
+    t_min=$(printf '%s\n' "${times[@]}" | sort -n | head -1)
+    t_max=$(printf '%s\n' "${times[@]}" | sort -n | tail -1)
+    rss_median=$(printf '%s\n' "${rss[@]}" | median)
+    printf '%-8s %5d %14d %14s %12d\n' "$mode" "$RUNS" "$t_median" "($t_min-$t_max)" $((rss_median / 1024))
+done
@@ -0,0 +1,70 @@
+package com.hms.main.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.hms.main.dto.response.DoctorResponse;
+import com.hms.main.entity.Doctor;
+import com.hms.main.mapper.DoctorFixtures;
+import com.hms.main.mapper.DoctorMapper;
+
+/**
+ * Serialization of the doctor list response body, configured the way Spring
+ * Boot configures its {@link ObjectMapper}. {@code mapAndWrite} includes the
+ * entity mapping, which is what a request to the list endpoint pays.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DoctorJsonBenchmark {
+
+    @Param({ "20", "500" })
+    public int doctors;
+
+    private List<Doctor> graph;
+
+    private List<DoctorResponse> responses;
+
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        graph = DoctorFixtures.doctors(doctors, 42);
+        responses = graph.stream().map(DoctorMapper::toResponse).toList();
+        ObjectMapper json = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        writer = json.writerFor(json.getTypeFactory().constructCollectionType(List.class, DoctorResponse.class));
+    }
+
+    @Benchmark
+    public byte[] write() throws JsonProcessingException {
+        return writer.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] mapAndWrite() throws JsonProcessingException {
+        return writer.writeValueAsBytes(graph.stream().map(DoctorMapper::toResponse).toList());
+    }
+}
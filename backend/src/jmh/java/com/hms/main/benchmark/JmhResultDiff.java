@@ -0,0 +1,95 @@
+package com.hms.main.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares two JMH JSON result files, typically the previous release against
+ * the current build:
+ *
+ * <pre>
+ * java -cp target/test-classes:... com.hms.main.benchmark.JmhResultDiff \
+ *     target/jmh-0.0.1.json target/jmh-0.0.2-SNAPSHOT.json [threshold-percent]
+ * </pre>
+ *
+ * A benchmark counts as regressed when it got worse by more than the
+ * threshold (default 10%) and by more than the two runs' combined error, so
+ * run-to-run noise alone does not fail the comparison. Exits with status 1 if
+ * anything regressed.
+ */
+public final class JmhResultDiff {
+
+    private JmhResultDiff() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: JmhResultDiff <baseline.json> <current.json> [threshold-percent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        Map<String, Result> baseline = read(new File(args[0]));
+        Map<String, Result> current = read(new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-64s %14s %14s %9s%n", "benchmark", "baseline", "current", "change");
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result now = entry.getValue();
+            Result before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-64s %14s %14.3f %9s%n", entry.getKey(), "-", now.score(), "new");
+                continue;
+            }
+            // Positive change always means worse, whichever direction the mode counts in
+            double change = (now.score() - before.score()) / before.score() * 100.0;
+            if (now.higherIsBetter()) {
+                change = -change;
+            }
+            boolean regressed = change > threshold
+                    && Math.abs(now.score() - before.score()) > before.error() + now.error();
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-64s %14.3f %14.3f %+8.1f%%%s%n", entry.getKey(), before.score(), now.score(),
+                    change, regressed ? "  REGRESSED" : "");
+        }
+        for (String missing : baseline.keySet()) {
+            if (!current.containsKey(missing)) {
+                System.out.printf("%-64s %14s %14s %9s%n", missing, "", "-", "removed");
+            }
+        }
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) regressed by more than %.1f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Result> read(File file) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText()
+                    .replace("com.hms.main.benchmark.", ""));
+            Map<String, String> params = new TreeMap<>();
+            run.path("params").properties().forEach(param -> params.put(param.getKey(), param.getValue().asText()));
+            params.forEach((name, value) -> key.append(' ').append(name).append('=').append(value));
+            key.append(" (").append(run.path("primaryMetric").path("scoreUnit").asText()).append(')');
+
+            JsonNode metric = run.path("primaryMetric");
+            double error = metric.path("scoreError").asDouble(0);
+            results.put(key.toString(), new Result(
+                    metric.path("score").asDouble(),
+                    Double.isNaN(error) ? 0 : error,
+                    "thrpt".equals(run.path("mode").asText())));
+        }
+        return results;
+    }
+
+    private record Result(double score, double error, boolean higherIsBetter) {
+    }
+}
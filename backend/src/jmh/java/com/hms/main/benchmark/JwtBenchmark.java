@@ -0,0 +1,61 @@
+package com.hms.main.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hms.main.entity.User;
+import com.hms.main.entity.enums.Roles;
+import com.hms.main.mapper.DoctorFixtures;
+import com.hms.main.service.JwtService;
+import com.hms.main.service.implementation.JwtServiceImpl;
+
+/**
+ * Token issue and validation cost, paid on every login and every
+ * authenticated request respectively.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private final JwtService jwtService = new JwtServiceImpl();
+
+    private User user;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        user = DoctorFixtures.user(0, Roles.PATIENT, new SplittableRandom(42));
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(token, user);
+    }
+}
@@ -0,0 +1,85 @@
+package com.hms.main.benchmark;
+
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import com.hms.main.entity.User;
+import com.hms.main.entity.enums.Roles;
+import com.hms.main.mapper.DoctorFixtures;
+import com.hms.main.observability.AuthMetrics;
+import com.hms.main.security.JwtAuthenticationFilter;
+import com.hms.main.service.JwtService;
+import com.hms.main.service.implementation.JwtServiceImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+
+/**
+ * {@link JwtAuthenticationFilter} end to end, from the Authorization header
+ * to a populated security context. The user lookup is an in-memory stub, so
+ * the numbers cover the filter's own work and exclude the database round
+ * trip.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        User user = DoctorFixtures.user(0, Roles.PATIENT, new SplittableRandom(42));
+        JwtService jwtService = new JwtServiceImpl();
+        filter = new JwtAuthenticationFilter(jwtService, username -> {
+            if (!username.equals(user.getUsername())) {
+                throw new UsernameNotFoundException(username);
+            }
+            return user;
+        }, new AuthMetrics(new SimpleMeterRegistry()));
+        authorization = "Bearer " + jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public MockFilterChain authenticated() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/doctors");
+        request.addHeader("Authorization", authorization);
+        MockFilterChain chain = new MockFilterChain();
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return chain;
+    }
+
+    @Benchmark
+    public MockFilterChain anonymous() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/doctors");
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return chain;
+    }
+}
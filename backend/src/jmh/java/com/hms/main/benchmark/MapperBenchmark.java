@@ -0,0 +1,60 @@
+package com.hms.main.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hms.main.dto.response.DoctorResponse;
+import com.hms.main.dto.response.user.UserResponse;
+import com.hms.main.entity.Doctor;
+import com.hms.main.entity.User;
+import com.hms.main.mapper.DoctorFixtures;
+import com.hms.main.mapper.DoctorMapper;
+import com.hms.main.mapper.UserMapper;
+
+/**
+ * Entity to DTO mapping over fully populated doctors (user plus a schedule
+ * for every weekday), at the page sizes the list endpoints actually return.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({ "20", "500" })
+    public int doctors;
+
+    private List<Doctor> graph;
+
+    private List<User> users;
+
+    @Setup
+    public void setUp() {
+        graph = DoctorFixtures.doctors(doctors, 42);
+        users = graph.stream().map(Doctor::getUser).toList();
+    }
+
+    @Benchmark
+    public List<DoctorResponse> doctorToResponse() {
+        return graph.stream().map(DoctorMapper::toResponse).toList();
+    }
+
+    @Benchmark
+    public List<UserResponse> userToResponse() {
+        return users.stream().map(UserMapper::toUserResponseDto).toList();
+    }
+}
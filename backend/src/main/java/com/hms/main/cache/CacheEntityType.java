@@ -0,0 +1,11 @@
+package com.hms.main.cache;
+
+public enum CacheEntityType {
+    DOCTOR,
+    SERVICE,
+    USER,
+    SCHEDULE,
+    DRUG_SYNONYM,
+    // Any allergy or other clinical record; the id is the patient's
+    CLINICAL_RECORD,
+}
@@ -0,0 +1,295 @@
+package com.hms.main.cache;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Cross-node cache invalidation over Postgres LISTEN/NOTIFY.
+ * <p>
+ * Writers call {@link #publish(CacheEntityType, UUID)}; once the surrounding
+ * transaction commits, local listeners are evicted immediately and the change
+ * is queued for the other nodes. Queued changes are coalesced and sent as a
+ * single NOTIFY per window. Every node keeps one dedicated connection outside
+ * the pool that LISTENs on the channel, reconnects with backoff when it drops,
+ * and evicts everything after reconnecting because notifications sent while it
+ * was away are lost.
+ */
+@Component
+public class CacheInvalidationBus implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    // NOTIFY payloads must be shorter than 8000 bytes
+    private static final int MAX_PAYLOAD_LENGTH = 7900;
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+    private static final long KEEPALIVE_INTERVAL_MILLIS = 30_000;
+    private static final long INITIAL_BACKOFF_MILLIS = 1000;
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+    private static final long STOP_TIMEOUT_MILLIS = 5000;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    // Orders queueing against stop(): nothing is queued once the final flush may have run
+    private final ReentrantLock stateLock = new ReentrantLock();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final ObjectProvider<CacheInvalidationListener> listeners;
+    private final boolean enabled;
+    private final String channel;
+    private final Duration coalesceWindow;
+
+    private ScheduledExecutorService publisher;
+    private Thread listenerThread;
+    private volatile boolean running;
+    private volatile Connection listenConnection;
+
+    public CacheInvalidationBus(JdbcTemplate jdbcTemplate,
+            DataSourceProperties dataSourceProperties,
+            ObjectProvider<CacheInvalidationListener> listeners,
+            @Value("${hms.cache.invalidation.enabled:true}") boolean enabled,
+            @Value("${hms.cache.invalidation.channel:hms_cache_invalidation}") String channel,
+            @Value("${hms.cache.invalidation.coalesce-window:PT0.05S}") Duration coalesceWindow) {
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalStateException("Invalid notification channel name: " + channel);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.listeners = listeners;
+        this.enabled = enabled;
+        this.channel = channel;
+        this.coalesceWindow = coalesceWindow;
+    }
+
+    /**
+     * Announce that an entity changed. If a transaction is active, nothing
+     * happens until it commits; a rolled back change is never announced.
+     *
+     * @param type the kind of entity that changed
+     * @param id   the entity's UUID
+     */
+    public void publish(CacheEntityType type, UUID id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishCommitted(type, id);
+                }
+            });
+        } else {
+            publishCommitted(type, id);
+        }
+    }
+
+    private void publishCommitted(CacheEntityType type, UUID id) {
+        listeners.orderedStream().forEach(listener -> listener.onInvalidate(type, id));
+        stateLock.lock();
+        try {
+            if (running) {
+                pending.add(type.name() + ":" + id);
+            }
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            log.info("Cache invalidation bus disabled; caches are only evicted locally");
+            return;
+        }
+        running = true;
+
+        publisher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-invalidation-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long window = Math.max(1, coalesceWindow.toMillis());
+        publisher.scheduleWithFixedDelay(() -> flushPending(true), window, window, TimeUnit.MILLISECONDS);
+
+        listenerThread = new Thread(this::listen, "cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        stateLock.lock();
+        try {
+            if (!running) {
+                return;
+            }
+            running = false;
+        } finally {
+            stateLock.unlock();
+        }
+        // Everything queued before running was cleared is in pending now. Let a
+        // scheduled flush in progress finish, then send the rest once, without
+        // requeueing failures that nothing would pick up any more.
+        publisher.shutdown();
+        try {
+            if (!publisher.awaitTermination(STOP_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                log.warn("Cache invalidation publisher did not finish within {} ms", STOP_TIMEOUT_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushPending(false);
+        Connection connection = listenConnection;
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                log.debug("Failed to close listening connection", e);
+            }
+        }
+        listenerThread.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void flushPending(boolean requeueFailures) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        StringBuilder payload = new StringBuilder(nodeId);
+        Iterator<String> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            String entry = iterator.next();
+            iterator.remove();
+            if (payload.length() + entry.length() + 1 > MAX_PAYLOAD_LENGTH) {
+                send(payload.toString(), requeueFailures);
+                payload = new StringBuilder(nodeId);
+            }
+            payload.append(' ').append(entry);
+        }
+        if (payload.length() > nodeId.length()) {
+            send(payload.toString(), requeueFailures);
+        }
+    }
+
+    private void send(String payload, boolean requeueFailures) {
+        try {
+            jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, channel, payload);
+        } catch (RuntimeException e) {
+            if (!requeueFailures) {
+                log.warn("Failed to publish cache invalidation while stopping: {}", e.getMessage());
+                return;
+            }
+            log.warn("Failed to publish cache invalidation, retrying in the next window: {}", e.getMessage());
+            for (String entry : payload.substring(nodeId.length()).trim().split(" ")) {
+                pending.add(entry);
+            }
+        }
+    }
+
+    private void listen() {
+        long backoff = INITIAL_BACKOFF_MILLIS;
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                listenConnection = connection;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                if (reconnecting) {
+                    log.info("Cache invalidation listener reconnected; evicting all cached entries");
+                    listeners.orderedStream().forEach(CacheInvalidationListener::onInvalidateAll);
+                }
+                backoff = INITIAL_BACKOFF_MILLIS;
+                reconnecting = true;
+                receive(connection);
+            } catch (SQLException e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("Cache invalidation listener lost its connection, retrying in {} ms: {}", backoff,
+                        e.getMessage());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+                reconnecting = true;
+            } finally {
+                listenConnection = null;
+            }
+        }
+    }
+
+    private void receive(Connection connection) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        long lastActivity = System.currentTimeMillis();
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+            long now = System.currentTimeMillis();
+            if (notifications != null && notifications.length > 0) {
+                dispatch(notifications);
+                lastActivity = now;
+            } else if (now - lastActivity > KEEPALIVE_INTERVAL_MILLIS) {
+                // A half-open socket never raises an error while waiting, so probe it
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+                lastActivity = now;
+            }
+        }
+    }
+
+    private void dispatch(PGNotification[] notifications) {
+        // Bursts of changes to the same entity collapse into one eviction
+        Set<String> entries = new LinkedHashSet<>();
+        for (PGNotification notification : notifications) {
+            String[] parts = notification.getParameter().split(" ");
+            if (parts.length == 0 || nodeId.equals(parts[0])) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                entries.add(parts[i]);
+            }
+        }
+        for (String entry : entries) {
+            int separator = entry.indexOf(':');
+            try {
+                CacheEntityType type = CacheEntityType.valueOf(entry.substring(0, separator));
+                UUID id = UUID.fromString(entry.substring(separator + 1));
+                listeners.orderedStream().forEach(listener -> listener.onInvalidate(type, id));
+            } catch (RuntimeException e) {
+                log.warn("Ignoring malformed cache invalidation entry '{}'", entry);
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.hms.main.cache;
+
+import java.util.UUID;
+
+/**
+ * Implemented by in-process caches that must drop entries when another
+ * transaction, on this node or any other, changes the underlying rows.
+ */
+public interface CacheInvalidationListener {
+
+    /**
+     * Evict the entry for a single entity.
+     *
+     * @param type the kind of entity that changed
+     * @param id   the entity's UUID
+     */
+    void onInvalidate(CacheEntityType type, UUID id);
+
+    /**
+     * Evict everything. Called when notifications may have been missed, for
+     * example after the listening connection was re-established.
+     */
+    void onInvalidateAll();
+}
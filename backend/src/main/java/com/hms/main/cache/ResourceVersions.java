@@ -0,0 +1,84 @@
+package com.hms.main.cache;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Cheap ETags for conditional GETs. Collections are tagged with counters that
+ * move on every invalidation of the entity types they are built from, so a
+ * tag is known without loading or serializing anything. Single entities are
+ * tagged with their id and optimistic lock version.
+ * <p>
+ * Counters are per node and start from a random epoch, so a tag from another
+ * node or an earlier run is only ever a miss, never a false match. Compute the
+ * tag before loading the data: counters move after commit, so a racing change
+ * costs one extra miss rather than a stale hit.
+ */
+@Component
+public class ResourceVersions implements CacheInvalidationListener {
+
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final Map<CacheEntityType, AtomicLong> counters = new EnumMap<>(CacheEntityType.class);
+    private final MeterRegistry meterRegistry;
+
+    public ResourceVersions(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (CacheEntityType type : CacheEntityType.values()) {
+            counters.put(type, new AtomicLong());
+        }
+    }
+
+    /**
+     * Weak ETag for a collection built from the given entity types.
+     */
+    public String collectionTag(String resource, CacheEntityType... dependsOn) {
+        // Counters only grow, so the sum changes whenever any of them does
+        long version = 0;
+        for (CacheEntityType type : dependsOn) {
+            version += counters.get(type).get();
+        }
+        return "W/\"" + resource + "-" + epoch + "-" + version + "\"";
+    }
+
+    /**
+     * Weak ETag for one entity.
+     */
+    public String entityTag(String resource, UUID id, Long version) {
+        return "W/\"" + resource + "-" + id + "-" + version + "\"";
+    }
+
+    /**
+     * Compare against If-None-Match, set the ETag header and record the
+     * outcome. When this returns true the response is already a 304 and the
+     * handler should return null without building a body.
+     */
+    public boolean checkNotModified(WebRequest request, String resource, String etag) {
+        boolean notModified = request.checkNotModified(etag);
+        Counter.builder("hms.http.conditional.requests")
+                .description("Conditional GETs by whether the client copy was still current")
+                .tag("resource", resource)
+                .tag("result", notModified ? "not_modified" : "modified")
+                .register(meterRegistry)
+                .increment();
+        return notModified;
+    }
+
+    @Override
+    public void onInvalidate(CacheEntityType type, UUID id) {
+        counters.get(type).incrementAndGet();
+    }
+
+    @Override
+    public void onInvalidateAll() {
+        counters.values().forEach(AtomicLong::incrementAndGet);
+    }
+}
@@ -0,0 +1,149 @@
+package com.hms.main.concurrency;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AIMD limit on concurrent callers of a shared resource. Each fast sample
+ * raises the limit by {@code 1/limit}, about one per round of permits. A slow
+ * or failed one multiplies it by {@code backoff}, at most once per round, so
+ * a burst of slow callers that were admitted together counts as one signal.
+ * Callers beyond the limit wait for a permit, up to a deadline, or are turned
+ * away at once with {@link #tryAcquire}.
+ * <p>
+ * Uses a lock rather than {@code synchronized}, so waiting virtual threads
+ * release their carrier.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private final double minLimit;
+    private final double maxLimit;
+    private final double backoff;
+    private final long slowNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private double limit;
+    private int inFlight;
+    private long rejected;
+    // Samples since the last decrease; starts high so the first slow one counts
+    private long sinceDecrease = Integer.MAX_VALUE;
+
+    public AdaptiveConcurrencyLimit(int minLimit, int maxLimit, double backoff, long slowNanos) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Need 1 <= min-limit <= max-limit");
+        }
+        if (backoff <= 0 || backoff >= 1) {
+            throw new IllegalArgumentException("Backoff must be between 0 and 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoff = backoff;
+        this.slowNanos = slowNanos;
+        this.limit = maxLimit;
+    }
+
+    /**
+     * @return whether a permit was obtained within the timeout; if so it must
+     *         be handed back with {@link #release}
+     */
+    public boolean acquire(long timeout, TimeUnit unit) throws InterruptedException {
+        long remaining = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            while (inFlight >= (int) limit) {
+                if (remaining <= 0) {
+                    rejected++;
+                    return false;
+                }
+                remaining = released.awaitNanos(remaining);
+            }
+            inFlight++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes a permit without waiting, if fewer than {@code share} of the limit
+     * are in use. Lower shares are turned away first as the limit shrinks.
+     */
+    public boolean tryAcquire(double share) {
+        lock.lock();
+        try {
+            if (inFlight >= Math.max(1, (int) (limit * share))) {
+                rejected++;
+                return false;
+            }
+            inFlight++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release() {
+        lock.lock();
+        try {
+            inFlight--;
+            released.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Feeds back how long the resource took to serve a permit holder.
+     *
+     * @param failed the resource gave up, e.g. the pool timed out
+     */
+    public void onSample(long nanos, boolean failed) {
+        lock.lock();
+        try {
+            int before = (int) limit;
+            if (failed || nanos > slowNanos) {
+                if (sinceDecrease >= before) {
+                    limit = Math.max(minLimit, limit * backoff);
+                    sinceDecrease = 0;
+                }
+            } else {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+            sinceDecrease++;
+            if ((int) limit > before) {
+                released.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long rejected() {
+        lock.lock();
+        try {
+            return rejected;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
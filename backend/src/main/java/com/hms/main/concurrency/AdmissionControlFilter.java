@@ -0,0 +1,171 @@
+package com.hms.main.concurrency;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Sheds API requests by priority when the server is overloaded. In-flight
+ * requests share one {@link AdaptiveConcurrencyLimit}. It shrinks when
+ * critical or normal requests get slower than {@code target-latency} and
+ * grows back while they are fast. Each priority may only fill its share of
+ * the current limit, so low-priority routes are turned away first and
+ * critical ones last. Turned-away requests get 503 with Retry-After.
+ * <p>
+ * Runs in the security chain ahead of the JWT filter, so shed requests cost
+ * no token parsing or user lookup. Low-priority routes are expected to be
+ * slow, e.g. bulk sync, so their latency does not steer the limit.
+ */
+@Component
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    public enum Priority {
+        CRITICAL, NORMAL, LOW
+    }
+
+    private static final String API_PREFIX = "/api/";
+
+    // Critical patterns win over low ones when both match
+    private static final List<Priority> MATCH_ORDER = List.of(Priority.CRITICAL, Priority.LOW);
+
+    private final boolean enabled;
+    private final int retryAfterSeconds;
+    private final AdaptiveConcurrencyLimit limit;
+    private final Map<Priority, Double> shares = new EnumMap<>(Priority.class);
+    private final Map<Priority, List<Route>> routes = new EnumMap<>(Priority.class);
+    private final Map<Priority, Counter> admitted = new EnumMap<>(Priority.class);
+    private final Map<Priority, Counter> rejected = new EnumMap<>(Priority.class);
+
+    /**
+     * A path pattern, optionally preceded by an HTTP method:
+     * {@code GET /api/v1/doctors/**}.
+     */
+    private record Route(String method, PathPattern pattern) {
+
+        static Route parse(String spec) {
+            String[] parts = spec.trim().split("\\s+", 2);
+            return parts.length == 2
+                    ? new Route(parts[0].toUpperCase(Locale.ROOT), PathPatternParser.defaultInstance.parse(parts[1]))
+                    : new Route(null, PathPatternParser.defaultInstance.parse(parts[0]));
+        }
+
+        boolean matches(String requestMethod, PathContainer path) {
+            return (method == null || method.equals(requestMethod)) && pattern.matches(path);
+        }
+    }
+
+    public AdmissionControlFilter(MeterRegistry meterRegistry,
+            @Value("${hms.admission.enabled:true}") boolean enabled,
+            @Value("${hms.admission.min-limit:20}") int minLimit,
+            @Value("${hms.admission.max-limit:200}") int maxLimit,
+            @Value("${hms.admission.backoff:0.9}") double backoff,
+            @Value("${hms.admission.target-latency:PT0.5S}") Duration targetLatency,
+            @Value("${hms.admission.retry-after-seconds:2}") int retryAfterSeconds,
+            @Value("${hms.admission.share.critical:1.0}") double criticalShare,
+            @Value("${hms.admission.share.normal:0.8}") double normalShare,
+            @Value("${hms.admission.share.low:0.5}") double lowShare,
+            @Value("${hms.admission.routes.critical:}") String[] criticalRoutes,
+            @Value("${hms.admission.routes.low:}") String[] lowRoutes) {
+        this.enabled = enabled;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.limit = new AdaptiveConcurrencyLimit(minLimit, maxLimit, backoff, targetLatency.toNanos());
+        shares.put(Priority.CRITICAL, criticalShare);
+        shares.put(Priority.NORMAL, normalShare);
+        shares.put(Priority.LOW, lowShare);
+        routes.put(Priority.CRITICAL, parse(criticalRoutes));
+        routes.put(Priority.LOW, parse(lowRoutes));
+
+        for (Priority priority : Priority.values()) {
+            String tag = priority.name().toLowerCase(Locale.ROOT);
+            admitted.put(priority, counter(meterRegistry, tag, "admitted"));
+            rejected.put(priority, counter(meterRegistry, tag, "rejected"));
+        }
+        Gauge.builder("hms.admission.limit", limit, AdaptiveConcurrencyLimit::limit)
+                .description("API requests admitted at once when all are critical")
+                .register(meterRegistry);
+        Gauge.builder("hms.admission.in.flight", limit, AdaptiveConcurrencyLimit::inFlight)
+                .description("API requests being served")
+                .register(meterRegistry);
+    }
+
+    private static List<Route> parse(String[] specs) {
+        List<Route> parsed = new ArrayList<>();
+        for (String spec : specs) {
+            if (!spec.isBlank()) {
+                parsed.add(Route.parse(spec));
+            }
+        }
+        return parsed;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String priority, String outcome) {
+        return Counter.builder("hms.admission.requests")
+                .description("API requests by priority and admission outcome")
+                .tag("priority", priority)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        // Actuator probes and everything outside the API are never shed
+        return !enabled || !request.getRequestURI().startsWith(request.getContextPath() + API_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        Priority priority = priorityOf(request);
+        if (!limit.tryAcquire(shares.get(priority))) {
+            rejected.get(priority).increment();
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            return;
+        }
+        admitted.get(priority).increment();
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (priority != Priority.LOW) {
+                limit.onSample(System.nanoTime() - start, false);
+            }
+            limit.release();
+        }
+    }
+
+    Priority priorityOf(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(
+                request.getRequestURI().substring(request.getContextPath().length()));
+        for (Priority priority : MATCH_ORDER) {
+            for (Route route : routes.get(priority)) {
+                if (route.matches(request.getMethod(), path)) {
+                    return priority;
+                }
+            }
+        }
+        return Priority.NORMAL;
+    }
+}
@@ -0,0 +1,44 @@
+package com.hms.main.concurrency;
+
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.autoconfigure.web.embedded.TomcatVirtualThreadsWebServerFactoryCustomizer;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stops a faststart (AOT) build from starting in a threading mode it was not
+ * built for. Spring AOT evaluates {@code @ConditionalOnThreading} at build
+ * time, so flipping {@code spring.threads.virtual.enabled} at runtime would
+ * switch the connection limiter and pinning monitor while Tomcat and the task
+ * executors stayed in the build's mode. Fails before the web server starts.
+ */
+@Component
+public class AotThreadingGuard implements SmartInitializingSingleton {
+
+    private final ListableBeanFactory beanFactory;
+    private final Environment environment;
+
+    public AotThreadingGuard(ListableBeanFactory beanFactory, Environment environment) {
+        this.beanFactory = beanFactory;
+        this.environment = environment;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!AotDetector.useGeneratedArtifacts()) {
+            return;
+        }
+        // Registered only when the build ran with virtual threads
+        boolean builtVirtual = beanFactory.getBeanNamesForType(
+                TomcatVirtualThreadsWebServerFactoryCustomizer.class, false, false).length > 0;
+        boolean requestedVirtual = Threading.VIRTUAL.isActive(environment);
+        if (builtVirtual != requestedVirtual) {
+            throw new IllegalStateException("This build was AOT-processed with spring.threads.virtual.enabled="
+                    + builtVirtual + " but is starting with " + requestedVirtual
+                    + "; rebuild with mvn -Pfaststart package -Dfaststart.virtual-threads=" + requestedVirtual);
+        }
+    }
+}
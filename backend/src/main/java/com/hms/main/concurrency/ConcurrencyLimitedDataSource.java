@@ -0,0 +1,102 @@
+package com.hms.main.concurrency;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Lets at most {@link AdaptiveConcurrencyLimit#limit()} callers hold or wait
+ * for a pooled connection. The rest wait here, briefly, and then fail fast
+ * instead of queueing in the pool until its connection timeout. A permit is
+ * held from the call to {@code getConnection} until the connection is closed.
+ * How long the pool took to hand out a connection drives the limit.
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+    private final AdaptiveConcurrencyLimit limit;
+    private final Duration maxWait;
+
+    public ConcurrencyLimitedDataSource(DataSource target, AdaptiveConcurrencyLimit limit, Duration maxWait) {
+        super(target);
+        this.limit = limit;
+        this.maxWait = maxWait;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return limited(() -> obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return limited(() -> obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private interface ConnectionSource {
+        Connection get() throws SQLException;
+    }
+
+    private Connection limited(ConnectionSource source) throws SQLException {
+        try {
+            if (!limit.acquire(maxWait.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException("Database concurrency limit of " + limit.limit()
+                        + " reached; waited " + maxWait.toMillis() + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database permit", e);
+        }
+
+        long start = System.nanoTime();
+        Connection connection;
+        try {
+            connection = source.get();
+        } catch (SQLException | RuntimeException e) {
+            limit.onSample(System.nanoTime() - start, true);
+            limit.release();
+            throw e;
+        }
+        limit.onSample(System.nanoTime() - start, false);
+        return releasingOnClose(connection);
+    }
+
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(ConcurrencyLimitedDataSource.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                        try {
+                            connection.close();
+                        } finally {
+                            limit.release();
+                        }
+                        return null;
+                    }
+                    if ("equals".equals(method.getName())) {
+                        return proxy == args[0];
+                    }
+                    if ("hashCode".equals(method.getName())) {
+                        return System.identityHashCode(proxy);
+                    }
+                    if ("isWrapperFor".equals(method.getName()) || "unwrap".equals(method.getName())) {
+                        if (((Class<?>) args[0]).isInstance(connection)) {
+                            return "unwrap".equals(method.getName()) ? connection : true;
+                        }
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
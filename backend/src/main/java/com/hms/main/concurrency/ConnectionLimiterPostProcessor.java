@@ -0,0 +1,92 @@
+package com.hms.main.concurrency;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Puts an {@link AdaptiveConcurrencyLimit} in front of every
+ * {@link DataSource}. On by default in virtual thread mode, where Tomcat's
+ * thread pool no longer caps how many requests wait on the connection pool
+ * at once.
+ * <p>
+ * Applied after {@link com.hms.main.observability.DataSourceProxyPostProcessor},
+ * so the limiter is the outermost wrapper: a caller waits for a permit before
+ * anything else runs, and statement listeners only see work that got one.
+ */
+@Component
+public class ConnectionLimiterPostProcessor implements BeanPostProcessor, MeterBinder, Ordered {
+
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 10;
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoff;
+    private final Duration slowAcquire;
+    private final Duration maxWait;
+
+    private final Map<String, AdaptiveConcurrencyLimit> limits = new ConcurrentHashMap<>();
+
+    public ConnectionLimiterPostProcessor(
+            @Value("${hms.db.limiter.enabled:${spring.threads.virtual.enabled:false}}") boolean enabled,
+            @Value("${hms.db.limiter.min-limit:2}") int minLimit,
+            @Value("${hms.db.limiter.max-limit:20}") int maxLimit,
+            @Value("${hms.db.limiter.backoff:0.9}") double backoff,
+            @Value("${hms.db.limiter.slow-acquire:PT0.02S}") Duration slowAcquire,
+            @Value("${hms.db.limiter.max-wait:PT1S}") Duration maxWait) {
+        this.enabled = enabled;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoff = backoff;
+        this.slowAcquire = slowAcquire;
+        this.maxWait = maxWait;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource) {
+            return bean;
+        }
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(minLimit, maxLimit, backoff,
+                slowAcquire.toNanos());
+        limits.put(beanName, limit);
+        return new ConcurrencyLimitedDataSource(dataSource, limit, maxWait);
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        limits.forEach((name, limit) -> {
+            Gauge.builder("hms.db.limiter.limit", limit, AdaptiveConcurrencyLimit::limit)
+                    .description("Callers allowed to hold or wait for a pooled connection")
+                    .tag("pool", name)
+                    .register(registry);
+            Gauge.builder("hms.db.limiter.in.flight", limit, AdaptiveConcurrencyLimit::inFlight)
+                    .description("Callers holding or waiting for a pooled connection")
+                    .tag("pool", name)
+                    .register(registry);
+            FunctionCounter.builder("hms.db.limiter.rejected", limit, AdaptiveConcurrencyLimit::rejected)
+                    .description("Connection requests refused after waiting for a permit")
+                    .tag("pool", name)
+                    .register(registry);
+        });
+    }
+}
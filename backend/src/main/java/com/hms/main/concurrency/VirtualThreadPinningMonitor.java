@@ -0,0 +1,101 @@
+package com.hms.main.concurrency;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Streams JFR's {@code jdk.VirtualThreadPinned} events in virtual thread
+ * mode. A virtual thread that blocks inside {@code synchronized} or a native
+ * frame keeps its carrier thread, so a few of them can stall every request.
+ * Each event is counted under the innermost frame of our own code, and the
+ * first one per frame is logged with its stack.
+ */
+@Component
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final String OWN_CODE = "com.hms.";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration threshold;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+            @Value("${hms.virtual-threads.pinning.enabled:${spring.threads.virtual.enabled:false}}") boolean enabled,
+            @Value("${hms.virtual-threads.pinning.threshold:PT0.02S}") Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Reporting virtual threads pinned for longer than {}", threshold);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+        String site = frames.stream()
+                .filter(frame -> frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(OWN_CODE))
+                .findFirst()
+                .map(VirtualThreadPinningMonitor::describe)
+                .orElse("(outside application code)");
+        boolean first = !counters.containsKey(site);
+        counters.computeIfAbsent(site, key -> Counter.builder("hms.virtual_threads.pinned")
+                .description("Virtual threads that blocked while pinned to their carrier")
+                .tag("site", key)
+                .register(meterRegistry))
+                .increment();
+        if (first) {
+            StringBuilder stack = new StringBuilder();
+            frames.stream().limit(LOGGED_FRAMES)
+                    .forEach(frame -> stack.append(System.lineSeparator()).append("    at ").append(describe(frame))
+                            .append(':').append(frame.getLineNumber()));
+            log.warn("Virtual thread pinned for {} ms at {}{}", event.getDuration().toMillis(), site, stack);
+        }
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+
+    @Override
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+}
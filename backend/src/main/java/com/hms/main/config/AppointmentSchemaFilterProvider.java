@@ -0,0 +1,60 @@
+package com.hms.main.config;
+
+import org.hibernate.boot.model.relational.Namespace;
+import org.hibernate.boot.model.relational.Sequence;
+import org.hibernate.mapping.Table;
+import org.hibernate.tool.schema.spi.SchemaFilter;
+import org.hibernate.tool.schema.spi.SchemaFilterProvider;
+
+/**
+ * Keeps the partitioned appointments table out of Hibernate's create, drop and
+ * update actions. Its DDL lives in db/appointments-schema.sql; validation still
+ * checks the mapping against it.
+ */
+public class AppointmentSchemaFilterProvider implements SchemaFilterProvider {
+
+    private static final String APPOINTMENTS = "appointments";
+
+    private static final SchemaFilter EXCLUDE_APPOINTMENTS = new SchemaFilter() {
+
+        @Override
+        public boolean includeNamespace(Namespace namespace) {
+            return true;
+        }
+
+        @Override
+        public boolean includeTable(Table table) {
+            return !APPOINTMENTS.equalsIgnoreCase(table.getName());
+        }
+
+        @Override
+        public boolean includeSequence(Sequence sequence) {
+            return true;
+        }
+    };
+
+    @Override
+    public SchemaFilter getCreateFilter() {
+        return EXCLUDE_APPOINTMENTS;
+    }
+
+    @Override
+    public SchemaFilter getDropFilter() {
+        return EXCLUDE_APPOINTMENTS;
+    }
+
+    @Override
+    public SchemaFilter getTruncatorFilter() {
+        return SchemaFilter.ALL;
+    }
+
+    @Override
+    public SchemaFilter getMigrateFilter() {
+        return EXCLUDE_APPOINTMENTS;
+    }
+
+    @Override
+    public SchemaFilter getValidateFilter() {
+        return SchemaFilter.ALL;
+    }
+}
@@ -0,0 +1,52 @@
+package com.hms.main.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Configuration;
+
+import com.hms.main.entity.DrugClassSynonym;
+import com.hms.main.repository.DrugClassSynonymRepository;
+
+/**
+ * Seeds a starter drug-class vocabulary on an empty database. Admins extend
+ * it through /api/v1/drug-synonyms.
+ */
+@Configuration
+public class DefaultDrugClassSynonymCreator implements CommandLineRunner {
+
+    private static final Map<String, List<String>> DEFAULT_CLASSES = Map.of(
+            "penicillin", List.of("penicillins", "amoxicillin", "ampicillin", "co-amoxiclav", "augmentin",
+                    "piperacillin", "flucloxacillin", "dicloxacillin"),
+            "cephalosporin", List.of("cephalosporins", "cefazolin", "cefalexin", "cephalexin", "ceftriaxone",
+                    "cefuroxime", "cefepime"),
+            "sulfonamide", List.of("sulfa", "sulfonamides", "sulfamethoxazole", "co-trimoxazole", "bactrim"),
+            "nsaid", List.of("nsaids", "ibuprofen", "naproxen", "diclofenac", "aspirin", "ketorolac", "celecoxib"),
+            "opioid", List.of("opioids", "morphine", "codeine", "oxycodone", "hydromorphone", "tramadol",
+                    "fentanyl"),
+            "macrolide", List.of("macrolides", "erythromycin", "azithromycin", "clarithromycin"),
+            "fluoroquinolone", List.of("fluoroquinolones", "ciprofloxacin", "levofloxacin", "moxifloxacin"),
+            "tetracycline", List.of("tetracyclines", "doxycycline", "minocycline"));
+
+    private final DrugClassSynonymRepository drugClassSynonymRepository;
+
+    public DefaultDrugClassSynonymCreator(DrugClassSynonymRepository drugClassSynonymRepository) {
+        this.drugClassSynonymRepository = drugClassSynonymRepository;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        if (drugClassSynonymRepository.count() > 0) {
+            return;
+        }
+
+        List<DrugClassSynonym> synonyms = new ArrayList<>();
+        DEFAULT_CLASSES.forEach((drugClass, terms) -> terms.forEach(term -> synonyms.add(DrugClassSynonym.builder()
+                .term(term)
+                .drugClass(drugClass)
+                .build())));
+        drugClassSynonymRepository.saveAll(synonyms);
+    }
+}
@@ -0,0 +1,30 @@
+package com.hms.main.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.hms.main.observability.RequestSqlStats;
+import com.hms.main.observability.Tracing;
+
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * Runs independent, I/O-bound sub-queries of a single request concurrently.
+     * Each task gets its own virtual thread, so blocking on JDBC is cheap; the
+     * number of tasks is bounded by the connection pool, not by this executor.
+     * Threads are created by the submitting thread, which is where the task
+     * picks up that request's SQL statement counter and the span it was
+     * submitted under.
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService sectionExecutor() {
+        ThreadFactory virtualThreads = Thread.ofVirtual().name("section-", 0).factory();
+        return Executors.newThreadPerTaskExecutor(
+                task -> virtualThreads.newThread(Tracing.propagate(RequestSqlStats.propagate(task))));
+    }
+}
@@ -0,0 +1,71 @@
+package com.hms.main.config;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import com.hms.main.dto.request.VitalReadingRequest;
+import com.hms.main.observability.TraceRecord;
+
+/**
+ * Reflection the AOT engine cannot see for a native image. Controllers,
+ * entities, actuator endpoints and proxies of our own beans are covered by
+ * Spring AOT; Lombok only generates plain code. What remains is JJWT loading
+ * its implementation by name, JDK proxies created by datasource-proxy and the
+ * connection limiter, and types serialized by hand rather than by a
+ * controller.
+ */
+@Configuration
+@ImportRuntimeHints(RuntimeHintsConfig.Hints.class)
+@RegisterReflectionForBinding({ VitalReadingRequest.class, TraceRecord.class })
+public class RuntimeHintsConfig {
+
+    static class Hints implements RuntimeHintsRegistrar {
+
+        // Looked up by io.jsonwebtoken.lang.Classes from the jjwt-api facades
+        private static final List<String> JJWT_IMPLEMENTATIONS = List.of(
+                "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+                "io.jsonwebtoken.impl.security.KeysBridge",
+                "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardKeyOperations",
+                "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+                "io.jsonwebtoken.jackson.io.JacksonDeserializer",
+                "io.jsonwebtoken.jackson.io.JacksonSerializer");
+
+        private static final String PROXY_JDBC_OBJECT = "net.ttddyy.dsproxy.proxy.ProxyJdbcObject";
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (String type : JJWT_IMPLEMENTATIONS) {
+                hints.reflection().registerType(TypeReference.of(type),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+            for (Class<?> jdbcType : List.of(DataSource.class, Connection.class, Statement.class,
+                    PreparedStatement.class, CallableStatement.class, ResultSet.class)) {
+                hints.proxies().registerJdkProxy(TypeReference.of(PROXY_JDBC_OBJECT), TypeReference.of(jdbcType));
+            }
+            hints.proxies().registerJdkProxy(Connection.class);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.hms.main.controller;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hms.main.dto.request.AllergyRequest;
+import com.hms.main.dto.response.AllergyResponse;
+import com.hms.main.entity.User;
+import com.hms.main.service.AllergyService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1")
+public class AllergyController {
+
+    private final AllergyService allergyService;
+
+    @GetMapping("/patients/{patientId}/allergies")
+    public List<AllergyResponse> getAllergies(@AuthenticationPrincipal User currentUser,
+            @PathVariable UUID patientId) {
+        return allergyService.getAllergies(currentUser, patientId);
+    }
+
+    @PostMapping("/patients/{patientId}/allergies")
+    public ResponseEntity<AllergyResponse> createAllergy(@AuthenticationPrincipal User currentUser,
+            @PathVariable UUID patientId,
+            @RequestBody AllergyRequest request) {
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(allergyService.createAllergy(currentUser, patientId, request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PutMapping("/allergies/{id}")
+    public ResponseEntity<AllergyResponse> updateAllergy(@AuthenticationPrincipal User currentUser,
+            @PathVariable UUID id,
+            @RequestBody AllergyRequest request) {
+        try {
+            return ResponseEntity.ok(allergyService.updateAllergy(currentUser, id, request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @DeleteMapping("/allergies/{id}")
+    public ResponseEntity<Void> deleteAllergy(@AuthenticationPrincipal User currentUser, @PathVariable UUID id) {
+        allergyService.deleteAllergy(currentUser, id);
+        return ResponseEntity.noContent().build();
+    }
+}
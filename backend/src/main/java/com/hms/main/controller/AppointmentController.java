@@ -0,0 +1,43 @@
+package com.hms.main.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hms.main.dto.response.AppointmentResponse;
+import com.hms.main.entity.User;
+import com.hms.main.observability.SqlBudget;
+import com.hms.main.service.AppointmentHistoryService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/patients/{patientId}/appointments")
+public class AppointmentController {
+
+    private final AppointmentHistoryService appointmentHistoryService;
+
+    // Archived months are only read when explicitly requested
+    @SqlBudget(3)
+    @GetMapping
+    public List<AppointmentResponse> getPatientHistory(@AuthenticationPrincipal User currentUser,
+            @PathVariable UUID patientId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        LocalDate today = LocalDate.now();
+        return appointmentHistoryService.getPatientHistory(currentUser, patientId,
+                from != null ? from : today.minusYears(1),
+                to != null ? to : today.plusYears(1),
+                includeArchived);
+    }
+}
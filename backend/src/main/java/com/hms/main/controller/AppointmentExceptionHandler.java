@@ -0,0 +1,37 @@
+package com.hms.main.controller;
+
+import java.sql.SQLException;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import com.hms.main.service.AppointmentDateOutOfRangeException;
+
+/**
+ * Appointments can be written from any endpoint that cascades to them, so the
+ * partition errors of an insert are mapped here rather than per controller.
+ */
+@RestControllerAdvice
+public class AppointmentExceptionHandler {
+
+    // check_violation, raised for a row no partition accepts
+    private static final String CHECK_VIOLATION = "23514";
+
+    @ExceptionHandler(AppointmentDateOutOfRangeException.class)
+    public ResponseEntity<Void> handleOutOfRange(AppointmentDateOutOfRangeException e) {
+        return ResponseEntity.badRequest().build();
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Void> handleIntegrityViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql && CHECK_VIOLATION.equals(sql.getSQLState())
+                    && sql.getMessage() != null && sql.getMessage().contains("no partition of relation")) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+        throw e;
+    }
+}
@@ -5,11 +5,14 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.hms.main.cache.ResourceVersions;
 import com.hms.main.dto.request.auth.AuthenticationRequest;
 import com.hms.main.dto.request.auth.RegisterRequest;
 import com.hms.main.dto.response.AuthenticationResponse;
 import com.hms.main.entity.User;
+import com.hms.main.observability.SqlBudget;
 import com.hms.main.service.AuthenticationService;
 
 import lombok.RequiredArgsConstructor;
@@ -23,6 +26,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 public class AuthenticationController {
 
     private final AuthenticationService authenticationService;
+    private final ResourceVersions resourceVersions;
 
     @PostMapping("/auth/register")
     public ResponseEntity<AuthenticationResponse> register(@RequestBody RegisterRequest request) {
@@ -34,8 +38,14 @@ public class AuthenticationController {
         return ResponseEntity.ok(authenticationService.authenticate(request));
     }
 
+    @SqlBudget(1)
     @GetMapping("/profile")
-    public ResponseEntity<User> getProfile(@AuthenticationPrincipal User user) {
+    public ResponseEntity<User> getProfile(@AuthenticationPrincipal User user, WebRequest request) {
+        // The principal is already loaded, so the tag costs nothing
+        if (resourceVersions.checkNotModified(request, "profile",
+                resourceVersions.entityTag("profile", user.getId(), user.getVersion()))) {
+            return null;
+        }
         return ResponseEntity.ok(user);
     }
 }
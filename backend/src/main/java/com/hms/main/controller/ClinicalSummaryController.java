@@ -0,0 +1,48 @@
+package com.hms.main.controller;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hms.main.dto.response.ClinicalSummaryResponse;
+import com.hms.main.entity.User;
+import com.hms.main.observability.SqlBudget;
+import com.hms.main.service.ClinicalSummaryService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1")
+public class ClinicalSummaryController {
+
+    private final ClinicalSummaryService clinicalSummaryService;
+
+    @GetMapping("/patients/{patientId}/clinical-summary")
+    public ClinicalSummaryResponse getSummary(@AuthenticationPrincipal User currentUser,
+            @PathVariable UUID patientId) {
+        return clinicalSummaryService.getSummary(currentUser, patientId);
+    }
+
+    // Triage lists: body is a JSON array of patient ids. Cold, 1000 patients take the
+    // user lookup plus two chunks each of allergies and patient ids.
+    @SqlBudget(5)
+    @PostMapping("/clinical-summaries")
+    public ResponseEntity<Map<UUID, ClinicalSummaryResponse>> getSummaries(@AuthenticationPrincipal User currentUser,
+            @RequestBody List<UUID> patientIds) {
+        try {
+            return ResponseEntity.ok(clinicalSummaryService.getSummaries(currentUser, patientIds));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.hms.main.controller;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -12,20 +15,29 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.hms.main.cache.CacheEntityType;
+import com.hms.main.cache.ResourceVersions;
 import com.hms.main.dto.request.CreateDoctorRequest;
+import com.hms.main.dto.request.FieldSelection;
 import com.hms.main.dto.response.DoctorResponse;
 import com.hms.main.entity.User;
+import com.hms.main.observability.SqlBudget;
 import com.hms.main.service.DoctorService;
 
-@Controller
+@RestController
 @RequestMapping("/api/v1/doctors")
 public class DoctorController {
 
     private final DoctorService doctorService;
+    private final ResourceVersions resourceVersions;
 
-    public DoctorController(DoctorService doctorService) {
+    public DoctorController(DoctorService doctorService, ResourceVersions resourceVersions) {
         this.doctorService = doctorService;
+        this.resourceVersions = resourceVersions;
     }
     
     @PostMapping
@@ -35,10 +47,18 @@ public class DoctorController {
 
         // Update Doctor
     @PutMapping("/{id}")
-    public DoctorResponse updateDoctor(@AuthenticationPrincipal User currentUser,
+    public ResponseEntity<DoctorResponse> updateDoctor(@AuthenticationPrincipal User currentUser,
                                        @PathVariable UUID id,
                                        @RequestBody CreateDoctorRequest doctor) {
-        return doctorService.updateDoctor(currentUser, id, doctor);
+        try {
+            return ResponseEntity.ok(doctorService.updateDoctor(currentUser, id, doctor));
+        } catch (IllegalArgumentException e) {
+            // The version the client last read is required
+            return ResponseEntity.badRequest().build();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // 409 carrying the current state, so the client can merge and retry
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(doctorService.getDoctorById(id));
+        }
     }
 
     // Delete Doctor
@@ -49,9 +69,29 @@ public class DoctorController {
     }
 
     // Get All Doctors
+    // ?fields=id,specialty,user.fullName for pickers; only those columns are read
+    @SqlBudget(3)
     @GetMapping
-    public List<DoctorResponse> getAllDoctors() {
-        return doctorService.getAllDoctors();
+    public ResponseEntity<List<?>> getAllDoctors(WebRequest request,
+            @RequestParam(required = false) String fields) {
+        Set<String> selected = FieldSelection.parse(fields);
+        // Validated before the ETag check, so an invalid selection is never answered with 304
+        List<String> resolved;
+        try {
+            resolved = selected.isEmpty() ? List.of() : doctorService.resolveDoctorFields(selected);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        String etag = resourceVersions.collectionTag(
+                resolved.isEmpty() ? "doctors" : "doctors;" + String.join(",", resolved),
+                CacheEntityType.DOCTOR, CacheEntityType.USER, CacheEntityType.SCHEDULE);
+        if (resourceVersions.checkNotModified(request, "doctors", etag)) {
+            return null;
+        }
+        if (selected.isEmpty()) {
+            return ResponseEntity.ok(doctorService.getAllDoctors());
+        }
+        return ResponseEntity.ok(doctorService.getAllDoctors(selected));
     }
 
 }
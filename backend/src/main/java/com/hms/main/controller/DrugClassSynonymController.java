@@ -0,0 +1,54 @@
+package com.hms.main.controller;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hms.main.dto.request.DrugClassSynonymRequest;
+import com.hms.main.dto.response.DrugClassSynonymResponse;
+import com.hms.main.entity.User;
+import com.hms.main.service.DrugVocabularyService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/drug-synonyms")
+public class DrugClassSynonymController {
+
+    private final DrugVocabularyService drugVocabularyService;
+
+    @GetMapping
+    public List<DrugClassSynonymResponse> getAllSynonyms() {
+        return drugVocabularyService.getAllSynonyms();
+    }
+
+    @PostMapping
+    public ResponseEntity<DrugClassSynonymResponse> addSynonym(@AuthenticationPrincipal User currentUser,
+            @RequestBody DrugClassSynonymRequest request) {
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(drugVocabularyService.addSynonym(currentUser, request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteSynonym(@AuthenticationPrincipal User currentUser, @PathVariable UUID id) {
+        drugVocabularyService.deleteSynonym(currentUser, id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.hms.main.controller;
+
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hms.main.dto.request.MedicationCheckRequest;
+import com.hms.main.dto.response.MedicationCheckResponse;
+import com.hms.main.entity.User;
+import com.hms.main.service.MedicationSafetyService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/patients/{patientId}/medication-check")
+public class MedicationSafetyController {
+
+    private final MedicationSafetyService medicationSafetyService;
+
+    @PostMapping
+    public ResponseEntity<MedicationCheckResponse> check(@AuthenticationPrincipal User currentUser,
+            @PathVariable UUID patientId,
+            @RequestBody MedicationCheckRequest request) {
+        try {
+            return ResponseEntity.ok(medicationSafetyService.check(currentUser, patientId, request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
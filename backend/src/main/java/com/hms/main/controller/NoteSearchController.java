@@ -0,0 +1,61 @@
+package com.hms.main.controller;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hms.main.dto.request.NoteSource;
+import com.hms.main.dto.response.NoteSearchResponse;
+import com.hms.main.entity.User;
+import com.hms.main.service.NoteSearchService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/notes/search")
+public class NoteSearchController {
+
+    private final NoteSearchService noteSearchService;
+
+    // e.g. ?q="chest pain" cardi*&sources=appointment&from=2024-01-01
+    @GetMapping
+    public ResponseEntity<NoteSearchResponse> searchNotes(@AuthenticationPrincipal User currentUser,
+            @RequestParam String q,
+            @RequestParam(required = false) List<String> sources,
+            @RequestParam(required = false) UUID patientId,
+            @RequestParam(required = false) UUID doctorId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Set<NoteSource> requested = EnumSet.allOf(NoteSource.class);
+        if (sources != null && !sources.isEmpty()) {
+            requested = EnumSet.noneOf(NoteSource.class);
+            try {
+                for (String source : sources) {
+                    requested.add(NoteSource.valueOf(source.trim().toUpperCase()));
+                }
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+
+        try {
+            return ResponseEntity.ok(noteSearchService.searchNotes(currentUser, q, requested, patientId, doctorId,
+                    from, to, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
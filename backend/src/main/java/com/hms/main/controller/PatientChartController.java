@@ -0,0 +1,53 @@
+package com.hms.main.controller;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hms.main.dto.request.ChartSection;
+import com.hms.main.dto.response.PatientChartResponse;
+import com.hms.main.entity.User;
+import com.hms.main.observability.SqlBudget;
+import com.hms.main.service.PatientChartService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/patients/{patientId}/chart")
+public class PatientChartController {
+
+    private final PatientChartService patientChartService;
+
+    // e.g. ?sections=profile,allergies; all sections when omitted
+    @SqlBudget(5)
+    @GetMapping
+    public ResponseEntity<PatientChartResponse> getChart(@AuthenticationPrincipal User currentUser,
+            @PathVariable UUID patientId,
+            @RequestParam(required = false) List<String> sections) {
+        Set<ChartSection> requested = EnumSet.allOf(ChartSection.class);
+        if (sections != null && !sections.isEmpty()) {
+            requested = EnumSet.noneOf(ChartSection.class);
+            try {
+                for (String section : sections) {
+                    requested.add(ChartSection.valueOf(section.trim().toUpperCase()));
+                }
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+
+        return patientChartService.getChart(currentUser, patientId, requested)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,35 @@
+package com.hms.main.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hms.main.dto.response.user.UserSliceResponse;
+import com.hms.main.entity.User;
+import com.hms.main.service.PatientSearchService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/patients/search")
+public class PatientSearchController {
+
+    private final PatientSearchService patientSearchService;
+
+    // e.g. ?q=jon smth, ?q=0912 345 678, ?q=1990-04-12
+    @GetMapping
+    public ResponseEntity<UserSliceResponse> searchPatients(@AuthenticationPrincipal User currentUser,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(patientSearchService.searchPatients(currentUser, q, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.hms.main.controller;
+
+import java.util.List;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.hms.main.cache.CacheEntityType;
+import com.hms.main.cache.ResourceVersions;
+import com.hms.main.dto.response.ServiceResponse;
+import com.hms.main.observability.SqlBudget;
+import com.hms.main.service.ServiceCatalogService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/services")
+public class ServiceController {
+
+    private final ServiceCatalogService serviceCatalogService;
+    private final ResourceVersions resourceVersions;
+
+    @SqlBudget(2)
+    @GetMapping
+    public List<ServiceResponse> getAllServices(WebRequest request) {
+        if (resourceVersions.checkNotModified(request, "services",
+                resourceVersions.collectionTag("services", CacheEntityType.SERVICE))) {
+            return null;
+        }
+        return serviceCatalogService.getAllServices();
+    }
+}
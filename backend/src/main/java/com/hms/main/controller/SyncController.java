@@ -0,0 +1,48 @@
+package com.hms.main.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hms.main.dto.response.SyncResponse;
+import com.hms.main.entity.User;
+import com.hms.main.entity.enums.SyncCollection;
+import com.hms.main.service.SyncService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/sync")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    // e.g. /api/v1/sync/doctors?since=<watermark from the previous call>
+    @GetMapping("/{collection}")
+    public ResponseEntity<SyncResponse<Object>> getChanges(@AuthenticationPrincipal User currentUser,
+            @PathVariable String collection,
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int limit) {
+        SyncCollection syncCollection;
+        try {
+            syncCollection = SyncCollection.valueOf(collection.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+
+        try {
+            return ResponseEntity.ok(syncService.getChanges(currentUser, syncCollection, since, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            // Tombstones for this watermark are gone; the client must drop its copy and resync
+            return ResponseEntity.status(HttpStatus.GONE).build();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.hms.main.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hms.main.dto.request.VitalReadingRequest;
+import com.hms.main.dto.response.TelemetryIngestResponse;
+import com.hms.main.dto.response.TelemetryIngestResponse.Durability;
+import com.hms.main.entity.User;
+import com.hms.main.entity.enums.Roles;
+import com.hms.main.service.TelemetryIngestService;
+import com.hms.main.telemetry.TelemetryFrameCodec;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+@RestController
+@RequestMapping("/api/v1/telemetry")
+public class TelemetryController {
+
+    private final TelemetryIngestService telemetryIngestService;
+    private final TelemetryFrameCodec codec;
+    private final int maxReadingsPerRequest;
+    private final int retryAfterSeconds;
+
+    public TelemetryController(TelemetryIngestService telemetryIngestService,
+            ObjectMapper objectMapper,
+            @Value("${hms.telemetry.max-readings-per-request:50000}") int maxReadingsPerRequest,
+            @Value("${hms.telemetry.retry-after-seconds:1}") int retryAfterSeconds) {
+        this.telemetryIngestService = telemetryIngestService;
+        this.codec = new TelemetryFrameCodec(objectMapper);
+        this.maxReadingsPerRequest = maxReadingsPerRequest;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Bulk ingest for bedside monitors, as NDJSON or binary frames (see
+     * {@link TelemetryFrameCodec}). By default readings are buffered and the
+     * response is 202 before they reach the database; pass
+     * {@code durability=committed} to get 200 only after they are committed.
+     * A full buffer answers 429 with Retry-After and nothing is queued.
+     */
+    @PostMapping(path = "/vitals", consumes = { TelemetryFrameCodec.NDJSON, TelemetryFrameCodec.BINARY })
+    public ResponseEntity<TelemetryIngestResponse> ingest(@AuthenticationPrincipal User currentUser,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestParam(defaultValue = "buffered") String durability,
+            HttpServletRequest request) {
+        if (currentUser.getRole() == Roles.PATIENT) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        List<VitalReadingRequest> readings;
+        try (InputStream body = request.getInputStream()) {
+            readings = contentType.startsWith(TelemetryFrameCodec.BINARY)
+                    ? TelemetryFrameCodec.readBinary(body, maxReadingsPerRequest)
+                    : codec.readNdjson(body, maxReadingsPerRequest);
+        } catch (IllegalArgumentException | IOException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            if ("committed".equalsIgnoreCase(durability)) {
+                int stored = telemetryIngestService.storeNow(readings);
+                return ResponseEntity.ok(new TelemetryIngestResponse(readings.size(), stored, Durability.COMMITTED));
+            }
+            if (!telemetryIngestService.enqueue(readings)) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                        .build();
+            }
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(new TelemetryIngestResponse(readings.size(), null, Durability.BUFFERED));
+    }
+}
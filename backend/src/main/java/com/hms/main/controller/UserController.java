@@ -1,23 +1,36 @@
 package com.hms.main.controller;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.hms.main.cache.ResourceVersions;
+import com.hms.main.dto.request.FieldSelection;
 import com.hms.main.dto.request.user.CreateUserRequest;
 import com.hms.main.dto.request.user.UpdateUserRequest;
+import com.hms.main.dto.response.FieldSliceResponse;
+import com.hms.main.dto.response.user.UserCountEstimateResponse;
 import com.hms.main.dto.response.user.UserResponse;
+import com.hms.main.dto.response.user.UserSliceResponse;
+import com.hms.main.observability.SqlBudget;
+import com.hms.main.service.UserCountEstimateService;
 import com.hms.main.service.UserService;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import org.springframework.web.bind.annotation.PutMapping;
 
@@ -25,9 +38,14 @@ import org.springframework.web.bind.annotation.PutMapping;
 @RequestMapping("/api/v1/users")
 public class UserController {
     private final UserService userService;
+    private final UserCountEstimateService userCountEstimateService;
+    private final ResourceVersions resourceVersions;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, UserCountEstimateService userCountEstimateService,
+            ResourceVersions resourceVersions) {
         this.userService = userService;
+        this.userCountEstimateService = userCountEstimateService;
+        this.resourceVersions = resourceVersions;
     }
 
     @PostMapping
@@ -35,13 +53,79 @@ public class UserController {
         return userService.createUser(user);
     }
 
+    @SqlBudget(3)
     @GetMapping
     public Page<UserResponse> getAllUsers(Pageable pageable) {
         return userService.getAllUsers(pageable);
     }
 
+    // Slice mode: "has next" without a count query
+    @GetMapping(params = "paging=slice")
+    public ResponseEntity<UserSliceResponse> getUserSlice(Pageable pageable) {
+        try {
+            return ResponseEntity.ok(userService.getUserSlice(pageable));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Keyset mode: ordered by (createdAt, id), continued with the returned cursor
+    @GetMapping(params = "paging=keyset")
+    public ResponseEntity<UserSliceResponse> getUsersByKeyset(@RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(userService.getUsersAfter(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/count-estimate")
+    public UserCountEstimateResponse getUserCountEstimate() {
+        return userCountEstimateService.getEstimate();
+    }
+
+    // e.g. ?fields=id,fullName,email; only those columns are read
+    @GetMapping(params = "fields")
+    public ResponseEntity<FieldSliceResponse> getUserFields(@RequestParam String fields,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(userService.getUserFields(FieldSelection.parse(fields), page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Sparse fields only come in offset pages. Without this mapping a request with
+    // both parameters matches the paging and the fields handlers equally and fails.
+    @GetMapping(params = { "paging", "fields" })
+    public ResponseEntity<Void> rejectPagingWithFields() {
+        return ResponseEntity.badRequest().build();
+    }
+
+    @GetMapping(path = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getUserFieldsById(@PathVariable UUID id,
+            @RequestParam String fields) {
+        try {
+            return userService.getUserFields(id, FieldSelection.parse(fields))
+                    .map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<UserResponse> getUserById(@PathVariable UUID id) {
+    public ResponseEntity<UserResponse> getUserById(@PathVariable UUID id, WebRequest request) {
+        // The version is an index lookup; the row is only loaded when the client copy is stale
+        Optional<Long> version = userService.getUserVersion(id);
+        if (version.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (resourceVersions.checkNotModified(request, "user", resourceVersions.entityTag("user", id, version.get()))) {
+            return null;
+        }
         Optional<UserResponse> userById = userService.getUserById(id);
         if (userById.isPresent()) {
             return ResponseEntity.ok(userById.get());
@@ -52,7 +136,14 @@ public class UserController {
 
     @PutMapping("/{id}")
     public ResponseEntity<UserResponse> updateUser(@PathVariable UUID id, @RequestBody UpdateUserRequest request) {
-        Optional<UserResponse> updatedUser = userService.updateUser(id, request);
+        Optional<UserResponse> updatedUser;
+        try {
+            updatedUser = userService.updateUser(id, request);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return conflict(id);
+        }
         if (updatedUser.isPresent()) {
             return ResponseEntity.ok(updatedUser.get());
         } else {
@@ -60,6 +151,23 @@ public class UserController {
         }
     }
 
+    @PatchMapping("/{id}")
+    public ResponseEntity<UserResponse> patchUser(@PathVariable UUID id, @RequestBody UpdateUserRequest request) {
+        Optional<UserResponse> patchedUser;
+        try {
+            patchedUser = userService.patchUser(id, request);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return conflict(id);
+        }
+        if (patchedUser.isPresent()) {
+            return ResponseEntity.ok(patchedUser.get());
+        } else {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteUser(@PathVariable UUID id) {
         try {
@@ -69,4 +177,11 @@ public class UserController {
             return ResponseEntity.notFound().build();
         }
     }
+
+    // 409 carrying the current state, so the client can merge and retry with its version
+    private ResponseEntity<UserResponse> conflict(UUID id) {
+        return userService.getUserById(id)
+                .map(current -> ResponseEntity.status(HttpStatus.CONFLICT).body(current))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
 }
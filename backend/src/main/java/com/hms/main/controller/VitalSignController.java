@@ -0,0 +1,68 @@
+package com.hms.main.controller;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hms.main.dto.request.VitalReadingRequest;
+import com.hms.main.dto.response.VitalIngestResponse;
+import com.hms.main.dto.response.VitalReadingResponse;
+import com.hms.main.dto.response.VitalSeriesResponse;
+import com.hms.main.entity.User;
+import com.hms.main.entity.enums.VitalType;
+import com.hms.main.service.VitalSignService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1")
+public class VitalSignController {
+
+    private final VitalSignService vitalSignService;
+
+    // Batch ingest from bedside devices; readings may span several patients
+    @PostMapping("/vitals/batch")
+    public ResponseEntity<VitalIngestResponse> ingest(@AuthenticationPrincipal User currentUser,
+            @RequestBody List<VitalReadingRequest> readings) {
+        try {
+            int stored = vitalSignService.ingest(currentUser, readings);
+            return ResponseEntity.ok(new VitalIngestResponse(readings.size(), stored));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // e.g. ?type=HEART_RATE&from=2025-01-01T00:00:00Z&to=2025-01-02T00:00:00Z&bucket=PT5M
+    @GetMapping("/patients/{patientId}/vitals")
+    public ResponseEntity<VitalSeriesResponse> getSeries(@AuthenticationPrincipal User currentUser,
+            @PathVariable UUID patientId,
+            @RequestParam VitalType type,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) Duration bucket) {
+        try {
+            return ResponseEntity.ok(vitalSignService.getSeries(currentUser, patientId, type, from, to, bucket));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/patients/{patientId}/vitals/latest")
+    public List<VitalReadingResponse> getLatest(@AuthenticationPrincipal User currentUser,
+            @PathVariable UUID patientId) {
+        return vitalSignService.getLatest(currentUser, patientId);
+    }
+}
@@ -0,0 +1,537 @@
+package com.hms.main.datagen;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.hms.main.cache.CacheInvalidationListener;
+import com.hms.main.entity.enums.AppointmentStatus;
+import com.hms.main.entity.enums.BloodType;
+import com.hms.main.entity.enums.Gender;
+import com.hms.main.entity.enums.PaymentStatus;
+import com.hms.main.entity.enums.Roles;
+import com.hms.main.entity.enums.Severity;
+import com.hms.main.repository.BulkCopyRepository;
+import com.hms.main.service.AppointmentPartitionService;
+
+/**
+ * Fills an empty schema with a synthetic hospital for load and scale tests.
+ * Enabled by the {@code datagen} profile, volumes come from
+ * {@code hms.datagen.*}.
+ * <p>
+ * Output is a pure function of the seed, the volumes, the batch size and the
+ * anchor date: ids are derived from (table, row number) and every batch draws
+ * from its own random stream, so the number of workers and their scheduling
+ * do not change a single row. Rows are streamed with COPY, one batch per
+ * worker connection at a time.
+ */
+@Component
+@Profile("datagen")
+public class SyntheticDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final String EMAIL_DOMAIN = "@synthetic.example";
+
+    private static final String[] FIRST_NAMES = { "Anna", "Bao", "Carlos", "Dina", "Elif", "Farid", "Grace", "Hiro",
+            "Ines", "Jamal", "Kim", "Lena", "Minh", "Nora", "Omar", "Priya", "Quang", "Rosa", "Sven", "Thu", "Uma",
+            "Viktor", "Wei", "Yara", "Zoe" };
+
+    private static final String[] LAST_NAMES = { "Nguyen", "Smith", "Garcia", "Tran", "Kowalski", "Haddad", "Ito",
+            "Okafor", "Larsen", "Pham", "Rossi", "Khan", "Dubois", "Le", "Silva", "Novak", "Cohen", "Hoang", "Murphy",
+            "Schmidt" };
+
+    private static final String[] STREETS = { "Oak Street", "Hospital Road", "Riverside Avenue", "Market Lane",
+            "Station Road", "Park Boulevard", "Hill Street" };
+
+    private static final String[] SPECIALTIES = { "Cardiology", "Dermatology", "Neurology", "Pediatrics", "Oncology",
+            "Orthopedics", "General Practice", "Gynecology", "Ophthalmology", "Psychiatry" };
+
+    private static final String[] SERVICES = { "General Consultation", "Follow-up Visit", "Blood Test", "ECG",
+            "Ultrasound", "X-Ray", "Vaccination", "Physiotherapy Session", "Skin Check", "Eye Exam",
+            "Prenatal Check", "Mental Health Assessment", "Allergy Test", "MRI Review", "Minor Surgery" };
+
+    private static final String[] ALLERGENS = { "Penicillin", "Amoxicillin", "Sulfa drugs", "Aspirin", "Ibuprofen",
+            "Codeine", "Latex", "Peanuts", "Shellfish", "Eggs", "Pollen", "Dust mites", "Cat dander", "Bee stings",
+            "Iodine contrast" };
+
+    private static final String[] REACTIONS = { "Rash", "Hives", "Itching", "Swelling", "Shortness of breath",
+            "Nausea", "Anaphylaxis", "Sneezing" };
+
+    private static final String[] VISIT_NOTES = { "Patient reports mild headache for three days",
+            "Blood pressure slightly elevated, recheck in two weeks", "Follow-up after antibiotic course",
+            "Complains of persistent cough, chest clear on auscultation", "Routine check, no concerns raised",
+            "Knee pain after running, advised rest and ice", "Medication adjusted, monitor for dizziness",
+            "Requested referral to specialist", "Lab results reviewed with patient" };
+
+    // Salts keep the id spaces of different tables apart
+    private static final long PATIENT = 1, DOCTOR_USER = 2, ADMIN = 3, DOCTOR = 4, SERVICE = 5, SCHEDULE = 6,
+            APPOINTMENT = 7, ALLERGY = 8, DOCTOR_SERVICES = 9;
+
+    private static final int MAX_ALLERGIES_PER_PATIENT = 4;
+
+    private static final String USER_COLUMNS = "id, email, password, full_name, phone_number, gender, blood_type, "
+            + "address, date_of_birth, emergency_contact_name, emergency_contact_phone, role, created_at, updated_at, "
+            + "version";
+
+    private final BulkCopyRepository bulkCopyRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final AppointmentPartitionService appointmentPartitionService;
+    private final ObjectProvider<CacheInvalidationListener> cacheListeners;
+    private final ApplicationContext applicationContext;
+
+    private final long seed;
+    private final int patients;
+    private final int doctors;
+    private final int admins;
+    private final int services;
+    private final long appointments;
+    private final double allergiesPerPatient;
+    private final int monthsBack;
+    private final int monthsAhead;
+    private final String anchorDate;
+    private final String password;
+    private final int workers;
+    private final int batchSize;
+    private final boolean exitWhenDone;
+
+    public SyntheticDataGenerator(BulkCopyRepository bulkCopyRepository,
+            JdbcTemplate jdbcTemplate,
+            PasswordEncoder passwordEncoder,
+            AppointmentPartitionService appointmentPartitionService,
+            ObjectProvider<CacheInvalidationListener> cacheListeners,
+            ApplicationContext applicationContext,
+            @Value("${hms.datagen.seed:42}") long seed,
+            @Value("${hms.datagen.patients:100000}") int patients,
+            @Value("${hms.datagen.doctors:500}") int doctors,
+            @Value("${hms.datagen.admins:5}") int admins,
+            @Value("${hms.datagen.services:60}") int services,
+            @Value("${hms.datagen.appointments:1000000}") long appointments,
+            @Value("${hms.datagen.allergies-per-patient:0.4}") double allergiesPerPatient,
+            @Value("${hms.datagen.months-back:12}") int monthsBack,
+            @Value("${hms.datagen.months-ahead:2}") int monthsAhead,
+            @Value("${hms.datagen.anchor-date:}") String anchorDate,
+            @Value("${hms.datagen.password:aA@123456789}") String password,
+            @Value("${hms.datagen.workers:4}") int workers,
+            @Value("${hms.datagen.batch-size:50000}") int batchSize,
+            @Value("${hms.datagen.exit-when-done:false}") boolean exitWhenDone) {
+        if (patients < 1 || doctors < 1 || services < 1 || workers < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("hms.datagen volumes, workers and batch-size must be positive");
+        }
+        this.bulkCopyRepository = bulkCopyRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.appointmentPartitionService = appointmentPartitionService;
+        this.cacheListeners = cacheListeners;
+        this.applicationContext = applicationContext;
+        this.seed = seed;
+        this.patients = patients;
+        this.doctors = doctors;
+        this.admins = admins;
+        this.services = services;
+        this.appointments = appointments;
+        this.allergiesPerPatient = allergiesPerPatient;
+        this.monthsBack = monthsBack;
+        this.monthsAhead = monthsAhead;
+        this.anchorDate = anchorDate;
+        this.password = password;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.exitWhenDone = exitWhenDone;
+    }
+
+    // After the partitioning and search index DDL listeners
+    @Order(10)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM users WHERE email = ?)", Boolean.class, email(PATIENT, 0)))) {
+            log.info("Synthetic dataset already present; skipping generation");
+        } else {
+            generate();
+        }
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+
+    public void generate() {
+        long started = System.nanoTime();
+        LocalDate anchor = anchorDate.isBlank() ? LocalDate.now() : LocalDate.parse(anchorDate);
+        LocalDateTime createdAt = anchor.minusMonths(monthsBack).atStartOfDay();
+        String passwordHash = passwordEncoder.encode(password);
+        Catalog catalog = new Catalog(anchor);
+
+        appointmentPartitionService.ensurePartitions(YearMonth.from(catalog.firstDay),
+                YearMonth.from(catalog.lastDay));
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(workers)) {
+            copy(executor, "users", USER_COLUMNS, ADMIN, admins,
+                    (i, random, csv) -> user(csv, ADMIN, Roles.ADMIN, i, random, passwordHash, createdAt, catalog.ceiling));
+            copy(executor, "users", USER_COLUMNS, DOCTOR_USER, doctors,
+                    (i, random, csv) -> user(csv, DOCTOR_USER, Roles.DOCTOR, i, random, passwordHash, createdAt, catalog.ceiling));
+            copy(executor, "users", USER_COLUMNS, PATIENT, patients,
+                    (i, random, csv) -> user(csv, PATIENT, Roles.PATIENT, i, random, passwordHash, createdAt, catalog.ceiling));
+            copy(executor, "services", "id, name, description, price, duration_minutes, is_active, created_at, updated_at",
+                    SERVICE, services, (i, random, csv) -> service(csv, catalog, (int) i, createdAt));
+            copy(executor, "doctors",
+                    "id, user_id, specialty, license_number, years_of_experience, created_at, updated_at, version",
+                    DOCTOR, doctors, (i, random, csv) -> doctor(csv, i, random, createdAt, catalog.ceiling));
+            copy(executor, "doctor_schedules",
+                    "id, doctor_id, day_of_week, start_time, end_time, is_active, created_at, updated_at",
+                    SCHEDULE, doctors, (i, random, csv) -> schedules(csv, catalog, (int) i, createdAt));
+            copy(executor, "doctor_services", "doctor_id, service_id", DOCTOR_SERVICES, doctors,
+                    (i, random, csv) -> doctorServices(csv, catalog, (int) i));
+            copy(executor, "appointments", "id, patient_id, doctor_id, service_id, appointment_date, start_time, "
+                    + "end_time, status, amount, payment_status, notes, created_at, updated_at, version",
+                    APPOINTMENT, appointments, (i, random, csv) -> appointment(csv, catalog, i, random));
+            copy(executor, "allergies",
+                    "id, patient_id, name, severity, reaction, date_of_diagnosis, notes, created_at, updated_at",
+                    ALLERGY, patients, (i, random, csv) -> allergies(csv, catalog, i, random));
+        }
+
+        for (String table : List.of("users", "services", "doctors", "doctor_schedules", "doctor_services",
+                "appointments", "allergies")) {
+            bulkCopyRepository.analyze(table);
+        }
+        // Rows went in behind Hibernate's back, so nothing cached before now can be trusted
+        cacheListeners.orderedStream().forEach(CacheInvalidationListener::onInvalidateAll);
+        log.info("Synthetic dataset (seed {}) generated in {} s", seed,
+                (System.nanoTime() - started) / 1_000_000_000);
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(long index, SplittableRandom random, StringBuilder csv);
+    }
+
+    /**
+     * Generates rows [0, count) in batches of {@code batchSize}, each batch
+     * on a worker with its own seeded random stream, and waits for all of
+     * them before returning.
+     */
+    private void copy(ExecutorService executor, String table, String columns, long salt, long count,
+            RowWriter writer) {
+        long started = System.nanoTime();
+        AtomicLong copied = new AtomicLong();
+        List<Future<?>> batches = new ArrayList<>();
+        for (long from = 0, batch = 0; from < count; from += batchSize, batch++) {
+            long start = from;
+            long end = Math.min(count, from + batchSize);
+            SplittableRandom random = new SplittableRandom(mix(seed, salt, batch));
+            batches.add(executor.submit(() -> {
+                StringBuilder csv = new StringBuilder((int) Math.min(end - start, batchSize) * 160);
+                for (long i = start; i < end; i++) {
+                    writer.write(i, random, csv);
+                }
+                copied.addAndGet(bulkCopyRepository.copy(table, columns, new StringReader(csv.toString())));
+            }));
+        }
+        try {
+            for (Future<?> batch : batches) {
+                batch.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            batches.forEach(batch -> batch.cancel(true));
+            throw new IllegalStateException("Synthetic data generation interrupted", e);
+        } catch (ExecutionException e) {
+            batches.forEach(batch -> batch.cancel(true));
+            throw new IllegalStateException("Copying synthetic rows into " + table + " failed", e.getCause());
+        }
+        log.info("Copied {} rows into {} in {} ms", copied.get(), table, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void user(StringBuilder csv, long salt, Roles role, long i, SplittableRandom random, String passwordHash,
+            LocalDateTime createdAt, LocalDateTime ceiling) {
+        Gender gender = random.nextInt(100) < 49 ? Gender.MALE : random.nextInt(100) < 98 ? Gender.FEMALE : Gender.OTHER;
+        int age = role == Roles.PATIENT ? ageOfPatient(random) : 28 + random.nextInt(38);
+        LocalDate dateOfBirth = createdAt.toLocalDate().minusYears(age).minusDays(random.nextInt(365));
+        String name = pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES);
+        field(csv, id(salt, i));
+        field(csv, email(salt, i));
+        field(csv, passwordHash);
+        field(csv, role == Roles.DOCTOR ? "Dr. " + name : name);
+        field(csv, phone(random));
+        field(csv, gender.name());
+        field(csv, pick(random, BloodType.values()).name());
+        field(csv, (1 + random.nextInt(500)) + " " + pick(random, STREETS) + ", District " + (1 + random.nextInt(12)));
+        field(csv, dateOfBirth);
+        field(csv, role == Roles.PATIENT ? pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES) : null);
+        field(csv, role == Roles.PATIENT ? phone(random) : null);
+        field(csv, role.name());
+        LocalDateTime registeredAt = notAfter(createdAt.plusMinutes(random.nextInt(60 * 24 * 30)), ceiling);
+        field(csv, registeredAt);
+        field(csv, notAfter(registeredAt.plusMinutes(random.nextInt(60 * 24 * 60)), ceiling));
+        last(csv, 0);
+    }
+
+    private void service(StringBuilder csv, Catalog catalog, int i, LocalDateTime createdAt) {
+        String name = SERVICES[i % SERVICES.length];
+        field(csv, id(SERVICE, i));
+        field(csv, i < SERVICES.length ? name : name + " " + (i / SERVICES.length + 1));
+        field(csv, name + " provided by the outpatient department");
+        field(csv, price(catalog.servicePriceCents[i]));
+        field(csv, catalog.serviceMinutes[i]);
+        field(csv, true);
+        field(csv, createdAt);
+        last(csv, createdAt);
+    }
+
+    private void doctor(StringBuilder csv, long i, SplittableRandom random, LocalDateTime createdAt,
+            LocalDateTime ceiling) {
+        field(csv, id(DOCTOR, i));
+        field(csv, id(DOCTOR_USER, i));
+        field(csv, SPECIALTIES[(int) (i % SPECIALTIES.length)]);
+        field(csv, String.format("LIC-%08d", i));
+        field(csv, 1 + random.nextInt(35));
+        field(csv, createdAt);
+        field(csv, notAfter(createdAt.plusDays(random.nextInt(30)), ceiling));
+        last(csv, 0);
+    }
+
+    private void schedules(StringBuilder csv, Catalog catalog, int i, LocalDateTime createdAt) {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (catalog.worksOn(i, day)) {
+                field(csv, id(SCHEDULE, i * 7L + day.ordinal()));
+                field(csv, id(DOCTOR, i));
+                field(csv, day.name());
+                field(csv, catalog.shiftStart(i));
+                field(csv, catalog.shiftStart(i).plusHours(Catalog.SHIFT_HOURS));
+                field(csv, true);
+                field(csv, createdAt);
+                last(csv, createdAt);
+            }
+        }
+    }
+
+    private void doctorServices(StringBuilder csv, Catalog catalog, int i) {
+        for (int service : catalog.doctorServices[i]) {
+            field(csv, id(DOCTOR, i));
+            last(csv, id(SERVICE, service));
+        }
+    }
+
+    private void appointment(StringBuilder csv, Catalog catalog, long i, SplittableRandom random) {
+        // A minority of patients and doctors account for most of the traffic
+        long patient = (long) (patients * Math.pow(random.nextDouble(), 2.5));
+        int doctor = (int) (doctors * Math.pow(random.nextDouble(), 1.5));
+        int[] offered = catalog.doctorServices[doctor];
+        int service = offered[random.nextInt(offered.length)];
+
+        LocalDate date = catalog.firstDay.plusDays(random.nextLong(catalog.days));
+        while (!catalog.worksOn(doctor, date.getDayOfWeek())) {
+            date = date.plusDays(1);
+        }
+        int slots = Catalog.SHIFT_HOURS * 60 / 15 - (catalog.serviceMinutes[service] + 14) / 15;
+        LocalTime start = catalog.shiftStart(doctor).plusMinutes(15L * random.nextInt(Math.max(1, slots)));
+
+        AppointmentStatus status = status(random, !date.isBefore(catalog.anchor));
+        PaymentStatus payment = payment(random, status);
+        LocalDateTime bookedAt = notAfter(date.atStartOfDay().minusDays(1 + random.nextInt(45)), catalog.ceiling);
+
+        field(csv, id(APPOINTMENT, i));
+        field(csv, id(PATIENT, patient));
+        field(csv, id(DOCTOR, doctor));
+        field(csv, id(SERVICE, service));
+        field(csv, date);
+        field(csv, start);
+        field(csv, start.plusMinutes(catalog.serviceMinutes[service]));
+        field(csv, status.name());
+        field(csv, price(catalog.servicePriceCents[service]));
+        field(csv, payment.name());
+        field(csv, status == AppointmentStatus.COMPLETED && random.nextInt(100) < 35 ? pick(random, VISIT_NOTES)
+                : null);
+        field(csv, bookedAt);
+        field(csv, notAfter(status == AppointmentStatus.SCHEDULED ? bookedAt : date.atTime(start).plusHours(1),
+                catalog.ceiling));
+        last(csv, status == AppointmentStatus.SCHEDULED ? 0 : 1);
+    }
+
+    private void allergies(StringBuilder csv, Catalog catalog, long patient, SplittableRandom random) {
+        // Geometric count with the configured mean, most patients have none
+        double more = allergiesPerPatient / (1 + allergiesPerPatient);
+        int count = 0;
+        while (count < MAX_ALLERGIES_PER_PATIENT && random.nextDouble() < more) {
+            count++;
+        }
+        int first = random.nextInt(ALLERGENS.length);
+        LocalDateTime recordedAt = catalog.ceiling.minusMinutes(random.nextInt(60 * 24 * 30 * Math.max(1, monthsBack)));
+        for (int k = 0; k < count; k++) {
+            int roll = random.nextInt(100);
+            Severity severity = roll < 55 ? Severity.MILD : roll < 90 ? Severity.MODERATE : Severity.SEVERE;
+            LocalDate diagnosed = catalog.anchor.minusDays(30 + random.nextInt(365 * 15));
+            field(csv, id(ALLERGY, patient * MAX_ALLERGIES_PER_PATIENT + k));
+            field(csv, id(PATIENT, patient));
+            field(csv, ALLERGENS[(first + k * 7) % ALLERGENS.length]);
+            field(csv, severity.name());
+            field(csv, pick(random, REACTIONS));
+            field(csv, diagnosed);
+            field(csv, severity == Severity.SEVERE ? "Carries epinephrine auto-injector" : null);
+            field(csv, recordedAt);
+            last(csv, recordedAt);
+        }
+    }
+
+    private static AppointmentStatus status(SplittableRandom random, boolean upcoming) {
+        int roll = random.nextInt(100);
+        if (upcoming) {
+            return roll < 92 ? AppointmentStatus.SCHEDULED : AppointmentStatus.CANCELLED;
+        }
+        return roll < 78 ? AppointmentStatus.COMPLETED : roll < 90 ? AppointmentStatus.CANCELLED
+                : AppointmentStatus.NO_SHOW;
+    }
+
+    private static PaymentStatus payment(SplittableRandom random, AppointmentStatus status) {
+        int roll = random.nextInt(100);
+        return switch (status) {
+            case COMPLETED -> roll < 85 ? PaymentStatus.PAID : roll < 91 ? PaymentStatus.PENDING
+                    : roll < 95 ? PaymentStatus.PARTIAL : roll < 98 ? PaymentStatus.FAILED : PaymentStatus.REFUNDED;
+            case CANCELLED -> roll < 40 ? PaymentStatus.REFUNDED : roll < 90 ? PaymentStatus.PENDING
+                    : PaymentStatus.FAILED;
+            case NO_SHOW -> roll < 70 ? PaymentStatus.PENDING : PaymentStatus.PAID;
+            case SCHEDULED -> roll < 80 ? PaymentStatus.PENDING : PaymentStatus.PAID;
+        };
+    }
+
+    private static int ageOfPatient(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        return roll < 18 ? random.nextInt(18) : roll < 70 ? 18 + random.nextInt(42) : 60 + random.nextInt(35);
+    }
+
+    /**
+     * The parts of the dataset that rows of other tables refer to, derived
+     * once up front from the seed.
+     */
+    private final class Catalog {
+
+        static final int SHIFT_HOURS = 8;
+
+        final LocalDate anchor;
+        // Nothing is stamped later than this, or delta sync would treat rows as not yet settled
+        final LocalDateTime ceiling;
+        final LocalDate firstDay;
+        final LocalDate lastDay;
+        final long days;
+        final int[] servicePriceCents = new int[services];
+        final int[] serviceMinutes = new int[services];
+        final int[][] doctorServices = new int[doctors][];
+        private final int[] workDays = new int[doctors];
+        private final int[] shiftStartHour = new int[doctors];
+
+        Catalog(LocalDate anchor) {
+            this.anchor = anchor;
+            this.ceiling = anchor.atStartOfDay();
+            this.firstDay = anchor.minusMonths(monthsBack).withDayOfMonth(1);
+            this.lastDay = YearMonth.from(anchor.plusMonths(monthsAhead)).atEndOfMonth();
+            this.days = ChronoUnit.DAYS.between(firstDay, lastDay) - 6;
+
+            SplittableRandom random = new SplittableRandom(mix(seed, DOCTOR_SERVICES, -1));
+            int[] durations = { 15, 20, 30, 30, 45, 60 };
+            for (int i = 0; i < services; i++) {
+                serviceMinutes[i] = durations[random.nextInt(durations.length)];
+                servicePriceCents[i] = (20 + random.nextInt(280)) * 100 + 50 * random.nextInt(2);
+            }
+            for (int d = 0; d < doctors; d++) {
+                int[] offered = random.ints(2 + random.nextInt(4), 0, services).distinct().toArray();
+                doctorServices[d] = offered;
+                // Monday to Friday, a fifth of doctors also on Saturday, with a rotating day off
+                int mask = 0b0011111;
+                if (random.nextInt(5) == 0) {
+                    mask |= 1 << DayOfWeek.SATURDAY.ordinal();
+                    mask &= ~(1 << random.nextInt(5));
+                }
+                workDays[d] = mask;
+                shiftStartHour[d] = 7 + random.nextInt(3);
+            }
+        }
+
+        boolean worksOn(int doctor, DayOfWeek day) {
+            return (workDays[doctor] & (1 << day.ordinal())) != 0;
+        }
+
+        LocalTime shiftStart(int doctor) {
+            return LocalTime.of(shiftStartHour[doctor], 0);
+        }
+    }
+
+    private static void field(StringBuilder csv, Object value) {
+        value(csv, value);
+        csv.append(',');
+    }
+
+    private static void last(StringBuilder csv, Object value) {
+        value(csv, value);
+        csv.append('\n');
+    }
+
+    private static void value(StringBuilder csv, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof String text) {
+            csv.append('"').append(text.replace("\"", "\"\"")).append('"');
+        } else {
+            csv.append(value);
+        }
+    }
+
+    private UUID id(long salt, long index) {
+        long msb = mix(seed, salt, 0) & ~0xF000L | 0x4000L;
+        return new UUID(msb, index & 0x3FFF_FFFF_FFFF_FFFFL | 0x8000_0000_0000_0000L);
+    }
+
+    private static String email(long salt, long index) {
+        String prefix = salt == PATIENT ? "patient" : salt == DOCTOR_USER ? "doctor" : "admin";
+        return prefix + index + EMAIL_DOMAIN;
+    }
+
+    private static String price(int cents) {
+        return BigDecimal.valueOf(cents, 2).toPlainString();
+    }
+
+    private static String phone(SplittableRandom random) {
+        return String.format("09%08d", random.nextInt(100_000_000));
+    }
+
+    private static LocalDateTime notAfter(LocalDateTime time, LocalDateTime ceiling) {
+        return time.isAfter(ceiling) ? ceiling : time;
+    }
+
+    private static <T> T pick(SplittableRandom random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static long mix(long seed, long salt, long stream) {
+        return new SplittableRandom(seed ^ salt * 0x9E3779B97F4A7C15L ^ stream * 0xBF58476D1CE4E5B9L).nextLong();
+    }
+}
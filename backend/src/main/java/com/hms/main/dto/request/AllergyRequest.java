@@ -0,0 +1,27 @@
+package com.hms.main.dto.request;
+
+import java.time.LocalDate;
+
+import com.hms.main.entity.enums.Severity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AllergyRequest {
+
+    private String name;
+
+    private Severity severity;
+
+    private String reaction;
+
+    private LocalDate dateOfDiagnosis;
+
+    private String notes;
+}
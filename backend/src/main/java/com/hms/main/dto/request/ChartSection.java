@@ -0,0 +1,10 @@
+package com.hms.main.dto.request;
+
+/**
+ * Sections of the patient chart that a client can ask for.
+ */
+public enum ChartSection {
+    PROFILE,
+    ALLERGIES,
+    VITALS,
+}
@@ -44,4 +44,7 @@ public class CreateDoctorRequest {
     private Integer yearsOfExperience;
 
     private List<ScheduleRequest> schedules;
+
+    // Required on update, where a stale version is rejected with 409; ignored on create
+    private Long version;
 }
@@ -0,0 +1,17 @@
+package com.hms.main.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DrugClassSynonymRequest {
+
+    private String term;
+
+    private String drugClass;
+}
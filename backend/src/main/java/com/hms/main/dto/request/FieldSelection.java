@@ -0,0 +1,32 @@
+package com.hms.main.dto.request;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Parses a {@code fields=} query parameter such as
+ * {@code id,specialty,user.fullName}. A bare association name such as
+ * {@code user} stands for all of its fields.
+ */
+public final class FieldSelection {
+
+    private FieldSelection() {
+    }
+
+    /**
+     * @return the requested fields, or an empty set when the parameter is absent
+     */
+    public static Set<String> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return Set.of();
+        }
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            if (!field.isBlank()) {
+                selected.add(field.trim());
+            }
+        }
+        return Collections.unmodifiableSet(selected);
+    }
+}
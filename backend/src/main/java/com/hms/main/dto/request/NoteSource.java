@@ -0,0 +1,6 @@
+package com.hms.main.dto.request;
+
+public enum NoteSource {
+    APPOINTMENT,
+    ALLERGY,
+}
@@ -0,0 +1,26 @@
+package com.hms.main.dto.request;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.hms.main.entity.enums.VitalType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class VitalReadingRequest {
+
+    private UUID patientId;
+
+    private VitalType type;
+
+    private Instant recordedAt;
+
+    private Double value;
+}
@@ -34,4 +34,10 @@ public class UpdateUserRequest {
     private String emergencyContactPhone;
 
     private Roles role;
+
+    /**
+     * Version the client last read; required for PUT and PATCH, where a stale
+     * value is rejected with 409 instead of overwriting a concurrent edit.
+     */
+    private Long version;
 }
@@ -0,0 +1,30 @@
+package com.hms.main.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.hms.main.entity.enums.Severity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AllergyResponse {
+
+    private UUID id;
+    private UUID patientId;
+    private String name;
+    private Severity severity;
+    private String reaction;
+    private LocalDate dateOfDiagnosis;
+    private String notes;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,39 @@
+package com.hms.main.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import com.hms.main.entity.enums.AppointmentStatus;
+import com.hms.main.entity.enums.PaymentStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AppointmentResponse {
+
+    private UUID id;
+    private UUID patientId;
+    private UUID doctorId;
+    private UUID serviceId;
+    private LocalDate appointmentDate;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private AppointmentStatus status;
+    private BigDecimal amount;
+    private PaymentStatus paymentStatus;
+    private String notes;
+    private boolean archived;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long version;
+}
@@ -0,0 +1,30 @@
+package com.hms.main.dto.response;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import com.hms.main.entity.enums.Severity;
+
+/**
+ * Compact, immutable view of a patient's clinical state for chart headers
+ * and triage lists. Instances are cached and shared between requests.
+ *
+ * @param patientId       the patient's UUID
+ * @param highestSeverity the most severe allergy, or null if there are none
+ * @param allergies       most severe first
+ */
+public record ClinicalSummaryResponse(UUID patientId, Severity highestSeverity, List<AllergySummary> allergies) {
+
+    public record AllergySummary(UUID id, String name, Severity severity, String reaction) {
+    }
+
+    private static final Comparator<AllergySummary> MOST_SEVERE_FIRST = Comparator
+            .comparing(AllergySummary::severity, Comparator.reverseOrder())
+            .thenComparing(AllergySummary::name, String.CASE_INSENSITIVE_ORDER);
+
+    public static ClinicalSummaryResponse of(UUID patientId, List<AllergySummary> allergies) {
+        List<AllergySummary> sorted = allergies.stream().sorted(MOST_SEVERE_FIRST).toList();
+        return new ClinicalSummaryResponse(patientId, sorted.isEmpty() ? null : sorted.get(0).severity(), sorted);
+    }
+}
@@ -27,6 +27,7 @@ public class DoctorResponse {
 
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
 
     private List<ScheduleResponse> schedules;
@@ -0,0 +1,23 @@
+package com.hms.main.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DrugClassSynonymResponse {
+
+    private UUID id;
+    private String term;
+    private String drugClass;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
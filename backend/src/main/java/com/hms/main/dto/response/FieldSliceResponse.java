@@ -0,0 +1,21 @@
+package com.hms.main.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class FieldSliceResponse {
+
+    // Only the requested fields of each record
+    private List<Map<String, Object>> content;
+
+    private boolean hasNext;
+}
@@ -0,0 +1,21 @@
+package com.hms.main.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MedicationCheckResponse {
+
+    private UUID patientId;
+    private boolean safe;
+    // Most severe first
+    private List<MedicationConflictResponse> conflicts;
+}
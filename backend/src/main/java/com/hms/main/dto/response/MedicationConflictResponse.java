@@ -0,0 +1,27 @@
+package com.hms.main.dto.response;
+
+import java.util.UUID;
+
+import com.hms.main.entity.enums.Severity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MedicationConflictResponse {
+
+    private UUID allergyId;
+    private String allergen;
+    private Severity severity;
+    private String reaction;
+
+    // Term found in the medication name or ingredients
+    private String matchedTerm;
+    // Shared drug class, null when the allergen itself was named
+    private String drugClass;
+}
@@ -0,0 +1,34 @@
+package com.hms.main.dto.response;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import com.hms.main.dto.request.NoteSource;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class NoteSearchHitResponse {
+
+    private NoteSource source;
+    // Appointment or allergy id, depending on source
+    private UUID id;
+    private UUID patientId;
+    // Only set for appointments
+    private UUID doctorId;
+    // Appointment date, or the day the allergy was recorded
+    private LocalDate date;
+    private double rank;
+
+    /**
+     * HTML-escaped fragments of the note with matches wrapped in
+     * {@code <mark>}; safe to render as HTML.
+     */
+    private String snippet;
+}
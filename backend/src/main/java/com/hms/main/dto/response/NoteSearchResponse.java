@@ -0,0 +1,19 @@
+package com.hms.main.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class NoteSearchResponse {
+
+    private List<NoteSearchHitResponse> content;
+
+    private boolean hasNext;
+}
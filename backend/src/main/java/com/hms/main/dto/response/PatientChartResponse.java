@@ -0,0 +1,31 @@
+package com.hms.main.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+import com.hms.main.dto.response.user.UserResponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PatientChartResponse {
+
+    private UserResponse profile;
+
+    private List<AllergyResponse> allergies;
+
+    // Latest reading of each vital type
+    private List<VitalReadingResponse> vitals;
+
+    /**
+     * Sections that were requested but could not be loaded, with the reason.
+     * The other sections are still returned.
+     */
+    private Map<String, String> failedSections;
+}
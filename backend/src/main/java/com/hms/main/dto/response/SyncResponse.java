@@ -0,0 +1,30 @@
+package com.hms.main.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SyncResponse<T> {
+
+    // Records created or updated since the watermark, oldest change first
+    private List<T> changed;
+
+    // Ids of records deleted since the watermark
+    private List<UUID> deleted;
+
+    /**
+     * Opaque watermark to send as {@code since} on the next call. When
+     * {@code hasMore} is set, call again straight away to fetch the rest.
+     */
+    private String watermark;
+
+    private boolean hasMore;
+}
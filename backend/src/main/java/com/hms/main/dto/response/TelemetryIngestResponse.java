@@ -0,0 +1,27 @@
+package com.hms.main.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TelemetryIngestResponse {
+
+    public enum Durability {
+        /** Held in memory and written within the flush interval; lost if the node crashes first. */
+        BUFFERED,
+        /** Written and committed before the response was sent. */
+        COMMITTED,
+    }
+
+    private int accepted;
+
+    // Only known for COMMITTED; excludes readings that were already stored
+    private Integer stored;
+
+    private Durability durability;
+}
@@ -0,0 +1,21 @@
+package com.hms.main.dto.response;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class VitalBucketResponse {
+
+    private Instant bucketStart;
+    private double min;
+    private double max;
+    private double avg;
+    private long count;
+}
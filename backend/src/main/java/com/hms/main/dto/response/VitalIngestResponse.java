@@ -0,0 +1,18 @@
+package com.hms.main.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class VitalIngestResponse {
+
+    private int received;
+
+    // Lower than received when some readings were already stored
+    private int stored;
+}
@@ -0,0 +1,21 @@
+package com.hms.main.dto.response;
+
+import java.time.Instant;
+
+import com.hms.main.entity.enums.VitalType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class VitalReadingResponse {
+
+    private VitalType type;
+    private Instant recordedAt;
+    private double value;
+}
@@ -0,0 +1,27 @@
+package com.hms.main.dto.response;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import com.hms.main.entity.enums.VitalType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class VitalSeriesResponse {
+
+    private UUID patientId;
+    private VitalType type;
+    private Instant from;
+    private Instant to;
+    private Duration bucket;
+    private List<VitalBucketResponse> buckets;
+}
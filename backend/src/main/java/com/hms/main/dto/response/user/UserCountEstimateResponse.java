@@ -0,0 +1,21 @@
+package com.hms.main.dto.response.user;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserCountEstimateResponse {
+
+    private long estimate;
+
+    private boolean exact;
+
+    private LocalDateTime refreshedAt;
+}
@@ -43,4 +43,6 @@ public class UserResponse {
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
+
+    private Long version;
 }
\ No newline at end of file
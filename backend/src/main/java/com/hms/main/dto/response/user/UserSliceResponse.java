@@ -0,0 +1,24 @@
+package com.hms.main.dto.response.user;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSliceResponse {
+
+    private List<UserResponse> content;
+
+    private boolean hasNext;
+
+    /**
+     * Opaque keyset cursor for the next page; only set in keyset mode.
+     */
+    private String nextCursor;
+}
@@ -20,7 +20,10 @@ import java.util.UUID;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "allergies")
+@Table(name = "allergies", indexes = {
+        @Index(name = "idx_allergies_updated_at_id", columnList = "updated_at, id"),
+        @Index(name = "idx_allergies_patient_updated_at_id", columnList = "patient_id, updated_at, id")
+})
 public class Allergy {
 
     @Id
@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import com.hms.main.entity.enums.AppointmentStatus;
@@ -22,14 +23,22 @@ import java.time.LocalTime;
 import java.util.UUID;
 
 @Entity
+@EntityListeners(AppointmentPartitionListener.class)
+@DynamicUpdate
 @Builder
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "appointments")
+@Table(name = "appointments", indexes = {
+        @Index(name = "idx_appointments_patient_date", columnList = "patient_id, appointment_date"),
+        @Index(name = "idx_appointments_doctor_date", columnList = "doctor_id, appointment_date")
+})
 public class Appointment {
 
+    // The table is partitioned on appointment_date (db/appointments-schema.sql),
+    // so its primary key is (id, appointment_date). id alone is mapped as the
+    // identifier: it is a generated UUID, unique on its own and never updated.
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -87,4 +96,8 @@ public class Appointment {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
 }
\ No newline at end of file
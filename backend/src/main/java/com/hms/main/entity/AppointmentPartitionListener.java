@@ -0,0 +1,28 @@
+package com.hms.main.entity;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.hms.main.service.AppointmentPartitionService;
+
+import jakarta.persistence.PrePersist;
+
+/**
+ * Creates the monthly partition of a new appointment before it is inserted;
+ * Postgres rejects rows no partition accepts. Instantiated by Spring through
+ * Hibernate's bean container.
+ */
+public class AppointmentPartitionListener {
+
+    private final ObjectProvider<AppointmentPartitionService> partitionService;
+
+    public AppointmentPartitionListener(ObjectProvider<AppointmentPartitionService> partitionService) {
+        this.partitionService = partitionService;
+    }
+
+    @PrePersist
+    void ensurePartition(Appointment appointment) {
+        if (appointment.getAppointmentDate() != null) {
+            partitionService.getObject().ensurePartitionFor(appointment.getAppointmentDate());
+        }
+    }
+}
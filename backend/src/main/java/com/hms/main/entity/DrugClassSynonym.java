@@ -0,0 +1,44 @@
+package com.hms.main.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Maps a drug, ingredient or brand name to the drug class it belongs to, so
+ * an allergy recorded as "penicillin" also flags "amoxicillin".
+ */
+@Entity
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "drug_class_synonyms")
+public class DrugClassSynonym {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false, unique = true)
+    @NotBlank(message = "Term is required")
+    private String term;
+
+    @Column(name = "drug_class", nullable = false)
+    @NotBlank(message = "Drug class is required")
+    private String drugClass;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
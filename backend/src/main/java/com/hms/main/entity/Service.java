@@ -19,7 +19,9 @@ import java.util.UUID;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "services")
+@Table(name = "services", indexes = {
+        @Index(name = "idx_services_updated_at_id", columnList = "updated_at, id")
+})
 public class Service {
 
     @Id
@@ -0,0 +1,30 @@
+package com.hms.main.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Single row recording that sync tombstones deleted before
+ * {@code purgedBefore} have been purged. Watermarks older than that may have
+ * missed deletions and must resync from scratch; younger ones, including
+ * continuation cursors over old rows, are still complete.
+ */
+@Entity
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "sync_purge_horizon")
+public class SyncPurgeHorizon {
+
+    public static final short ID = 1;
+
+    @Id
+    private short id;
+
+    @Column(name = "purged_before", nullable = false)
+    private LocalDateTime purgedBefore;
+}
@@ -0,0 +1,46 @@
+package com.hms.main.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import com.hms.main.entity.enums.SyncCollection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Records a deleted row so delta sync clients can drop their copy. Kept for
+ * hms.sync.tombstone-retention; watermarks older than the last purge (see
+ * {@link SyncPurgeHorizon}) must resync from scratch.
+ */
+@Entity
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "sync_tombstones", indexes = {
+        @Index(name = "idx_sync_tombstones_collection_deleted_at", columnList = "collection, deleted_at, entity_id")
+})
+public class SyncTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SyncCollection collection;
+
+    @Column(name = "entity_id", nullable = false)
+    private UUID entityId;
+
+    // Patient the record belonged to, for collections patients may sync
+    @Column(name = "owner_id")
+    private UUID ownerId;
+
+    @CreationTimestamp
+    @Column(name = "deleted_at", nullable = false, updatable = false)
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,24 @@
+package com.hms.main.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * An hour whose {@link VitalSignRollup} rows have to be recomputed: either the
+ * watermark just passed it, or a reading for it arrived after it was rolled up.
+ */
+@Entity
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "vital_rollup_due_hours")
+public class VitalRollupDueHour {
+
+    @Id
+    @Column(name = "bucket_start", nullable = false)
+    private Instant bucketStart;
+}
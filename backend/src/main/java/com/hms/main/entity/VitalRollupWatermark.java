@@ -0,0 +1,27 @@
+package com.hms.main.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Single row recording how far the hourly {@link VitalSignRollup} rows are
+ * complete. Range reads take rollups before it and raw readings after it; the
+ * rollup job advances it one whole hour at a time.
+ */
+@Entity
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "vital_rollup_watermark")
+public class VitalRollupWatermark {
+
+    @Id
+    private short id;
+
+    @Column(name = "rolled_up_until", nullable = false)
+    private Instant rolledUpUntil;
+}
@@ -0,0 +1,43 @@
+package com.hms.main.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import com.hms.main.entity.enums.VitalType;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A single raw vital sign reading. Rows are kept deliberately narrow: the key
+ * is (patient, type, time), the patient is referenced by id only and the type
+ * is stored as a small integer. Raw rows are written in batches through
+ * {@link com.hms.main.repository.VitalSignRepository} and expire after the raw
+ * retention period; {@link VitalSignRollup} keeps the hourly aggregates.
+ */
+@Entity
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(VitalSignId.class)
+@Table(name = "vital_signs")
+public class VitalSign {
+
+    @Id
+    @Column(name = "patient_id", nullable = false)
+    private UUID patientId;
+
+    @Id
+    @Enumerated(EnumType.ORDINAL)
+    @Column(name = "vital_type", nullable = false)
+    private VitalType vitalType;
+
+    @Id
+    @Column(name = "recorded_at", nullable = false)
+    private Instant recordedAt;
+
+    @Column(nullable = false)
+    private double value;
+}
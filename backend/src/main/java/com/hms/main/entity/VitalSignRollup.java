@@ -0,0 +1,49 @@
+package com.hms.main.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import com.hms.main.entity.enums.VitalType;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Hourly aggregate of {@link VitalSign} readings. Sum and count are kept
+ * instead of the average so buckets can be merged into coarser ones.
+ */
+@Entity
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(VitalSignRollupId.class)
+@Table(name = "vital_sign_rollups")
+public class VitalSignRollup {
+
+    @Id
+    @Column(name = "patient_id", nullable = false)
+    private UUID patientId;
+
+    @Id
+    @Enumerated(EnumType.ORDINAL)
+    @Column(name = "vital_type", nullable = false)
+    private VitalType vitalType;
+
+    @Id
+    @Column(name = "bucket_start", nullable = false)
+    private Instant bucketStart;
+
+    @Column(name = "min_value", nullable = false)
+    private double minValue;
+
+    @Column(name = "max_value", nullable = false)
+    private double maxValue;
+
+    @Column(name = "sum_value", nullable = false)
+    private double sumValue;
+
+    @Column(name = "sample_count", nullable = false)
+    private long sampleCount;
+}
@@ -0,0 +1,21 @@
+package com.hms.main.entity;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+import com.hms.main.entity.enums.VitalType;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VitalSignRollupId implements Serializable {
+
+    private UUID patientId;
+    private VitalType vitalType;
+    private Instant bucketStart;
+}
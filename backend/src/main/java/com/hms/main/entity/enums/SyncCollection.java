@@ -0,0 +1,8 @@
+package com.hms.main.entity.enums;
+
+public enum SyncCollection {
+    DOCTORS,
+    SERVICES,
+    PATIENTS,
+    ALLERGIES,
+}
@@ -0,0 +1,16 @@
+package com.hms.main.entity.enums;
+
+/**
+ * Stored by ordinal in the vitals tables to keep rows small, so new types must
+ * only ever be appended.
+ */
+public enum VitalType {
+    HEART_RATE,
+    SYSTOLIC_BLOOD_PRESSURE,
+    DIASTOLIC_BLOOD_PRESSURE,
+    RESPIRATORY_RATE,
+    OXYGEN_SATURATION,
+    TEMPERATURE,
+    BLOOD_GLUCOSE,
+    WEIGHT,
+}
@@ -0,0 +1,26 @@
+package com.hms.main.mapper;
+
+import com.hms.main.dto.response.AllergyResponse;
+import com.hms.main.entity.Allergy;
+
+public class AllergyMapper {
+
+    private AllergyMapper() {
+    }
+
+    public static AllergyResponse toResponse(Allergy allergy) {
+        if (allergy == null) return null;
+
+        return AllergyResponse.builder()
+                .id(allergy.getId())
+                .patientId(allergy.getPatient().getId())
+                .name(allergy.getName())
+                .severity(allergy.getSeverity())
+                .reaction(allergy.getReaction())
+                .dateOfDiagnosis(allergy.getDateOfDiagnosis())
+                .notes(allergy.getNotes())
+                .createdAt(allergy.getCreatedAt())
+                .updatedAt(allergy.getUpdatedAt())
+                .build();
+    }
+}
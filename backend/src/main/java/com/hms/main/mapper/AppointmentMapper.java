@@ -0,0 +1,31 @@
+package com.hms.main.mapper;
+
+import com.hms.main.dto.response.AppointmentResponse;
+import com.hms.main.entity.Appointment;
+
+public class AppointmentMapper {
+
+    private AppointmentMapper() {
+    }
+
+    public static AppointmentResponse toResponse(Appointment appointment) {
+        if (appointment == null) return null;
+
+        return AppointmentResponse.builder()
+                .id(appointment.getId())
+                .patientId(appointment.getPatient().getId())
+                .doctorId(appointment.getDoctor().getId())
+                .serviceId(appointment.getService().getId())
+                .appointmentDate(appointment.getAppointmentDate())
+                .startTime(appointment.getStartTime())
+                .endTime(appointment.getEndTime())
+                .status(appointment.getStatus())
+                .amount(appointment.getAmount())
+                .paymentStatus(appointment.getPaymentStatus())
+                .notes(appointment.getNotes())
+                .createdAt(appointment.getCreatedAt())
+                .updatedAt(appointment.getUpdatedAt())
+                .version(appointment.getVersion())
+                .build();
+    }
+}
@@ -26,6 +26,7 @@ public class DoctorMapper {
                                 .yearsOfExperience(doctor.getYearsOfExperience())
                                 .createdAt(doctor.getCreatedAt())
                                 .updatedAt(doctor.getUpdatedAt())
+                                .version(doctor.getVersion())
                                 .user(UserResponse.builder()
                                                 .id(doctor.getUser().getId())
                                                 .fullName(doctor.getUser().getFullName())
@@ -36,6 +37,7 @@ public class DoctorMapper {
                                                 .address(doctor.getUser().getAddress())
                                                 .emergencyContactName(doctor.getUser().getEmergencyContactName())
                                                 .emergencyContactPhone(doctor.getUser().getEmergencyContactPhone())
+                                                .version(doctor.getUser().getVersion())
                                                 .build())
                                 .schedules(mapSchedules(doctor.getSchedules()))
                                 .build();
@@ -0,0 +1,22 @@
+package com.hms.main.mapper;
+
+import com.hms.main.dto.response.DrugClassSynonymResponse;
+import com.hms.main.entity.DrugClassSynonym;
+
+public class DrugClassSynonymMapper {
+
+    private DrugClassSynonymMapper() {
+    }
+
+    public static DrugClassSynonymResponse toResponse(DrugClassSynonym synonym) {
+        if (synonym == null) return null;
+
+        return DrugClassSynonymResponse.builder()
+                .id(synonym.getId())
+                .term(synonym.getTerm())
+                .drugClass(synonym.getDrugClass())
+                .createdAt(synonym.getCreatedAt())
+                .updatedAt(synonym.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.hms.main.mapper;
+
+import com.hms.main.dto.response.ServiceResponse;
+import com.hms.main.entity.Service;
+
+public class ServiceMapper {
+
+    private ServiceMapper() {
+    }
+
+    public static ServiceResponse toResponse(Service service) {
+        if (service == null) return null;
+
+        return ServiceResponse.builder()
+                .id(service.getId())
+                .name(service.getName())
+                .description(service.getDescription())
+                .price(service.getPrice() == null ? null : service.getPrice().toPlainString())
+                .durationMinutes(service.getDurationMinutes())
+                .isActive(service.getIsActive())
+                .createdAt(service.getCreatedAt() == null ? null : service.getCreatedAt().toString())
+                .updatedAt(service.getUpdatedAt() == null ? null : service.getUpdatedAt().toString())
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+package com.hms.main.observability;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Authentication timings and failures. Causes are a fixed vocabulary derived
+ * from the exception type, never the user or the token, so tag cardinality
+ * stays bounded.
+ */
+@Component
+public class AuthMetrics {
+
+    public static final String ANONYMOUS = "anonymous";
+    public static final String AUTHENTICATED = "authenticated";
+    public static final String REJECTED = "rejected";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> filterTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> failures = new ConcurrentHashMap<>();
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Records the JWT filter's own work, excluding the rest of the chain.
+     *
+     * @param outcome one of {@link #ANONYMOUS}, {@link #AUTHENTICATED},
+     *                {@link #REJECTED}
+     */
+    public void recordFilter(String outcome, long nanos) {
+        filterTimers.computeIfAbsent(outcome, key -> Timer.builder("hms.auth.filter")
+                .description("Time the JWT filter spends authenticating a request")
+                .tag("outcome", key)
+                .publishPercentileHistogram()
+                .register(meterRegistry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordTokenFailure(Exception cause) {
+        recordFailure("token", cause);
+    }
+
+    public void recordLoginFailure(Exception cause) {
+        recordFailure("login", cause);
+    }
+
+    private void recordFailure(String stage, Exception cause) {
+        String reason = reason(cause);
+        failures.computeIfAbsent(stage + ':' + reason, key -> Counter.builder("hms.auth.failures")
+                .description("Failed logins and rejected tokens by cause")
+                .tag("stage", stage)
+                .tag("cause", reason)
+                .register(meterRegistry))
+                .increment();
+    }
+
+    private static String reason(Exception cause) {
+        return switch (cause) {
+            case null -> "invalid_token";
+            case ExpiredJwtException e -> "expired_token";
+            case SignatureException e -> "bad_signature";
+            case MalformedJwtException e -> "malformed_token";
+            case UnsupportedJwtException e -> "unsupported_token";
+            case UsernameNotFoundException e -> "unknown_user";
+            case BadCredentialsException e -> "bad_credentials";
+            case DisabledException e -> "disabled";
+            case LockedException e -> "locked";
+            default -> "other";
+        };
+    }
+}
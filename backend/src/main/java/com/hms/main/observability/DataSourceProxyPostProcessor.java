@@ -0,0 +1,78 @@
+package com.hms.main.observability;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Wraps every {@link DataSource} so each JDBC statement, whether issued by
+ * Hibernate or a {@code JdbcTemplate}, is reported to the
+ * {@link QueryExecutionListener} beans. Listeners are looked up on first use,
+ * so they may depend on beans that need the data source themselves.
+ * <p>
+ * Ordered to wrap the pool directly, inside the connection limiter (see
+ * {@link com.hms.main.concurrency.ConnectionLimiterPostProcessor#ORDER}).
+ */
+@Component
+public class DataSourceProxyPostProcessor implements BeanPostProcessor, Ordered {
+
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 20;
+
+    private final ObjectProvider<QueryExecutionListener> listenerProvider;
+
+    private volatile List<QueryExecutionListener> listeners;
+
+    public DataSourceProxyPostProcessor(ObjectProvider<QueryExecutionListener> listenerProvider) {
+        this.listenerProvider = listenerProvider;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name(beanName)
+                .listener(new QueryExecutionListener() {
+                    @Override
+                    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                        for (QueryExecutionListener listener : listeners()) {
+                            listener.beforeQuery(execInfo, queryInfoList);
+                        }
+                    }
+
+                    @Override
+                    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                        for (QueryExecutionListener listener : listeners()) {
+                            listener.afterQuery(execInfo, queryInfoList);
+                        }
+                    }
+                })
+                .build();
+    }
+
+    private List<QueryExecutionListener> listeners() {
+        List<QueryExecutionListener> resolved = listeners;
+        if (resolved == null) {
+            resolved = listenerProvider.orderedStream().toList();
+            listeners = resolved;
+        }
+        return resolved;
+    }
+}
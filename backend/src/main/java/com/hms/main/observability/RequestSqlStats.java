@@ -0,0 +1,119 @@
+package com.hms.main.observability;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JDBC statements run on behalf of the current HTTP request, grouped by
+ * query shape. Bound to the request thread by {@link SqlStatementCountFilter}
+ * and carried into {@code sectionExecutor} tasks by {@link #propagate}, so
+ * concurrently loaded sections count towards the same request.
+ */
+public final class RequestSqlStats {
+
+    // Distinct shapes kept per request; anything beyond is counted under OTHER
+    private static final int MAX_SHAPES = 64;
+
+    private static final String OTHER = "(other)";
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private final AtomicInteger statements = new AtomicInteger();
+
+    private final Map<String, LongAdder> shapes = new ConcurrentHashMap<>();
+
+    // Set once the handler is known; statements before that run in the filter chain
+    private volatile String endpoint;
+
+    static RequestSqlStats start() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return the stats of the request this thread works for, or {@code null}
+     *         outside a request
+     */
+    public static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Wraps a task so it records into the submitting thread's request.
+     */
+    public static Runnable propagate(Runnable task) {
+        RequestSqlStats stats = CURRENT.get();
+        if (stats == null) {
+            return task;
+        }
+        return () -> {
+            RequestSqlStats previous = CURRENT.get();
+            CURRENT.set(stats);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    public void record(String sql) {
+        statements.incrementAndGet();
+        String shape = SqlShapes.normalize(sql);
+        LongAdder count = shapes.get(shape);
+        if (count == null) {
+            count = shapes.size() < MAX_SHAPES
+                    ? shapes.computeIfAbsent(shape, key -> new LongAdder())
+                    : shapes.computeIfAbsent(OTHER, key -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    /**
+     * @return method and route pattern of the request, or {@code null} while
+     *         it is still in the filter chain
+     */
+    public String endpoint() {
+        return endpoint;
+    }
+
+    void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public int statements() {
+        return statements.get();
+    }
+
+    /**
+     * @return shapes with their execution counts, most frequent first
+     */
+    public Map<String, Long> shapes() {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        shapes.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> entry) -> entry.getValue().sum())
+                        .reversed())
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue().sum()));
+        return sorted;
+    }
+
+    /**
+     * @return how often the most repeated shape ran, the usual sign of N+1
+     */
+    public long maxRepeats() {
+        return shapes.values().stream().mapToLong(LongAdder::sum).max().orElse(0);
+    }
+}
@@ -0,0 +1,47 @@
+package com.hms.main.observability;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code /actuator/slowqueries?limit=20} lists slow statement shapes by total
+ * time spent, without plans; {@code /actuator/slowqueries/{id}} returns one
+ * with its captured plan. DELETE starts over.
+ */
+@Component
+@Endpoint(id = "slowqueries")
+public class SlowQueriesEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final SlowQueryLog slowQueryLog;
+
+    public SlowQueriesEndpoint(SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @ReadOperation
+    public List<SlowQueryLog.Row> top(@Nullable Integer limit) {
+        return slowQueryLog.top(limit != null ? limit : DEFAULT_LIMIT).stream()
+                .map(row -> new SlowQueryLog.Row(row.id(), row.shape(), row.count(), row.totalMs(), row.meanMs(),
+                        row.maxMs(), row.lastSeen(), row.endpoints(), row.parameterTypes(), null,
+                        row.planCapturedAt()))
+                .toList();
+    }
+
+    @ReadOperation
+    public SlowQueryLog.Row query(@Selector String id) {
+        return slowQueryLog.find(id).orElse(null);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        slowQueryLog.reset();
+    }
+}
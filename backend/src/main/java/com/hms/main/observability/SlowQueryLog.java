@@ -0,0 +1,307 @@
+package com.hms.main.observability;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.StatementType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/**
+ * Records statements slower than {@code hms.sql.slow.threshold}, aggregated
+ * by query shape: how often and how slowly each ran, from which endpoints and
+ * with which bind parameter types. Parameter values are not kept.
+ * <p>
+ * With {@code hms.sql.slow.explain} on, a slow plain SELECT is also re-run as
+ * {@code EXPLAIN (ANALYZE, BUFFERS)} with the same parameters, on a separate
+ * connection, inside a transaction that is always rolled back. Anything that
+ * writes, locks rows or calls functions with side effects only gets a plain
+ * {@code EXPLAIN}: running it again would wait on the original's locks before
+ * that commits, could deadlock with it, and would use up sequence values even
+ * when rolled back. Plans are captured on a background thread, at most once
+ * per shape per {@code explain-interval}. Off by default, since even a
+ * read-only re-run costs a second execution; enable it per environment.
+ */
+@Component
+public class SlowQueryLog implements QueryExecutionListener, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryLog.class);
+
+    private static final int MAX_ENDPOINTS = 10;
+    private static final int EXPLAIN_QUEUE_CAPACITY = 16;
+    private static final Pattern EXPLAINABLE =
+            Pattern.compile("(?is)^\\s*(select|with|insert|update|delete|merge)\\b.*");
+    // Safe to execute again: reads only, takes no row locks, changes nothing
+    private static final Pattern PLAIN_SELECT = Pattern.compile("(?is)^\\s*(select|with)\\b.*");
+    // Data-modifying WITH clauses, FOR UPDATE/SHARE and side-effecting functions in a SELECT
+    private static final Pattern WRITES = Pattern.compile("(?i)\\b(insert|update|delete|merge|share)\\b"
+            + "|\\b(nextval|setval|set_config|pg_notify|pg_advisory_\\w+)\\s*\\(");
+
+    // The EXPLAIN statements themselves go through the proxied data source
+    private static final ThreadLocal<Boolean> EXPLAINING = new ThreadLocal<>();
+
+    private final ObjectProvider<DataSource> dataSource;
+    private final long thresholdMillis;
+    private final int maxShapes;
+    private final Duration explainInterval;
+    private final Duration explainTimeout;
+    private final ThreadPoolExecutor explainer;
+
+    private final Map<String, SlowQuery> queries = new ConcurrentHashMap<>();
+
+    public SlowQueryLog(ObjectProvider<DataSource> dataSource,
+            @Value("${hms.sql.slow.threshold:PT0.2S}") Duration threshold,
+            @Value("${hms.sql.slow.max-shapes:500}") int maxShapes,
+            @Value("${hms.sql.slow.explain:false}") boolean explain,
+            @Value("${hms.sql.slow.explain-interval:PT10M}") Duration explainInterval,
+            @Value("${hms.sql.slow.explain-timeout:PT5S}") Duration explainTimeout) {
+        this.dataSource = dataSource;
+        this.thresholdMillis = threshold.toMillis();
+        this.maxShapes = maxShapes;
+        this.explainInterval = explainInterval;
+        this.explainTimeout = explainTimeout;
+        this.explainer = explain
+                ? new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(EXPLAIN_QUEUE_CAPACITY),
+                        Thread.ofPlatform().name("slow-query-explain").daemon().factory(),
+                        new ThreadPoolExecutor.DiscardPolicy())
+                : null;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (execInfo.getElapsedTime() < thresholdMillis || queryInfoList.isEmpty() || EXPLAINING.get() != null) {
+            return;
+        }
+        QueryInfo query = queryInfoList.get(0);
+        String shape = SqlShapes.normalize(query.getQuery());
+        SlowQuery slow = queries.get(shape);
+        if (slow == null) {
+            if (queries.size() >= maxShapes) {
+                return;
+            }
+            slow = queries.computeIfAbsent(shape, SlowQuery::new);
+        }
+        List<ParameterSetOperation> parameters = query.getParametersList().isEmpty()
+                ? List.of()
+                : sorted(query.getParametersList().get(0));
+        String endpoint = endpoint();
+        boolean explain = slow.record(execInfo.getElapsedTime(), endpoint, parameterTypes(parameters),
+                explainer != null && canExplain(execInfo, query, parameters), explainInterval);
+        log.warn("Slow SQL: {} ms on {}: {}", execInfo.getElapsedTime(), endpoint, shape);
+        if (explain) {
+            String sql = query.getQuery();
+            SlowQuery target = slow;
+            explainer.execute(() -> target.setPlan(explain(explainCommand(sql) + sql, parameters)));
+        }
+    }
+
+    /**
+     * @return recorded shapes, the largest total time first
+     */
+    public List<Row> top(int limit) {
+        return queries.values().stream()
+                .map(SlowQuery::row)
+                .sorted(Comparator.comparingDouble(Row::totalMs).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public Optional<Row> find(String id) {
+        return queries.values().stream().map(SlowQuery::row).filter(row -> row.id().equals(id)).findFirst();
+    }
+
+    public void reset() {
+        queries.clear();
+    }
+
+    private static String endpoint() {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats == null) {
+            return "(no request)";
+        }
+        return stats.endpoint() != null ? stats.endpoint() : "(filter chain)";
+    }
+
+    private static List<ParameterSetOperation> sorted(List<ParameterSetOperation> operations) {
+        List<ParameterSetOperation> sorted = new ArrayList<>(operations);
+        sorted.sort(Comparator.comparingInt(operation -> operation.getArgs()[0] instanceof Integer index ? index : 0));
+        return sorted;
+    }
+
+    private static String parameterTypes(List<ParameterSetOperation> parameters) {
+        StringJoiner types = new StringJoiner(", ", "(", ")");
+        for (ParameterSetOperation parameter : parameters) {
+            Object value = parameter.getArgs().length > 1 ? parameter.getArgs()[1] : null;
+            types.add(ParameterSetOperation.isSetNullParameterOperation(parameter) || value == null
+                    ? "null"
+                    : value.getClass().getSimpleName());
+        }
+        return types.toString();
+    }
+
+    private static boolean canExplain(ExecutionInfo execInfo, QueryInfo query, List<ParameterSetOperation> parameters) {
+        if (execInfo.isBatch() || execInfo.getStatementType() == StatementType.CALLABLE
+                || !EXPLAINABLE.matcher(query.getQuery()).matches()) {
+            return false;
+        }
+        for (ParameterSetOperation parameter : parameters) {
+            // Streams were consumed by the original execution; named parameters are callable only
+            if (!(parameter.getArgs()[0] instanceof Integer)) {
+                return false;
+            }
+            for (Object arg : parameter.getArgs()) {
+                if (arg instanceof InputStream || arg instanceof Reader) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The EXPLAIN prefix for a statement: with ANALYZE only when executing it
+     * again cannot write, lock rows or wait on the original statement's locks.
+     */
+    static String explainCommand(String sql) {
+        return PLAIN_SELECT.matcher(sql).matches() && !WRITES.matcher(sql).find()
+                ? "EXPLAIN (ANALYZE, BUFFERS) "
+                : "EXPLAIN ";
+    }
+
+    private String explain(String sql, List<ParameterSetOperation> parameters) {
+        EXPLAINING.set(Boolean.TRUE);
+        try (Connection connection = dataSource.getObject().getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                try (Statement settings = connection.createStatement()) {
+                    settings.execute("SET LOCAL statement_timeout = " + explainTimeout.toMillis());
+                    settings.execute("SET LOCAL lock_timeout = " + explainTimeout.toMillis());
+                }
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    for (ParameterSetOperation parameter : parameters) {
+                        parameter.getMethod().invoke(statement, parameter.getArgs());
+                    }
+                    StringJoiner plan = new StringJoiner(System.lineSeparator());
+                    try (ResultSet rows = statement.executeQuery()) {
+                        while (rows.next()) {
+                            plan.add(rows.getString(1));
+                        }
+                    }
+                    return plan.toString();
+                }
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException | IllegalAccessException | InvocationTargetException | RuntimeException e) {
+            log.debug("Could not explain {}", sql, e);
+            return "EXPLAIN failed: " + e.getMessage();
+        } finally {
+            EXPLAINING.remove();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (explainer != null) {
+            explainer.shutdownNow();
+        }
+    }
+
+    /**
+     * One row of {@code /actuator/slowqueries}. The id is stable for a shape
+     * within one process, for looking up the full entry with its plan.
+     */
+    public record Row(String id, String shape, long count, double totalMs, double meanMs, long maxMs,
+            Instant lastSeen, Set<String> endpoints, String parameterTypes, String plan, Instant planCapturedAt) {
+    }
+
+    private static final class SlowQuery {
+
+        private final String shape;
+        private final String id;
+        private long count;
+        private long totalMillis;
+        private long maxMillis;
+        private Instant lastSeen;
+        private final Set<String> endpoints = new LinkedHashSet<>();
+        private String parameterTypes;
+        private String plan;
+        private Instant planCapturedAt;
+        private Instant explainRequestedAt;
+
+        SlowQuery(String shape) {
+            this.shape = shape;
+            this.id = String.format(Locale.ROOT, "%08x", shape.hashCode());
+        }
+
+        /**
+         * @return whether this execution should be explained
+         */
+        synchronized boolean record(long millis, String endpoint, String parameterTypes, boolean explainable,
+                Duration explainInterval) {
+            Instant now = Instant.now();
+            count++;
+            totalMillis += millis;
+            lastSeen = now;
+            if (endpoints.size() < MAX_ENDPOINTS) {
+                endpoints.add(endpoint);
+            }
+            this.parameterTypes = parameterTypes;
+            maxMillis = Math.max(maxMillis, millis);
+            if (!explainable || (explainRequestedAt != null && explainRequestedAt.plus(explainInterval).isAfter(now))) {
+                return false;
+            }
+            explainRequestedAt = now;
+            return true;
+        }
+
+        synchronized void setPlan(String plan) {
+            this.plan = plan;
+            this.planCapturedAt = Instant.now();
+        }
+
+        synchronized Row row() {
+            return new Row(id, shape, count, totalMillis, count == 0 ? 0 : (double) totalMillis / count, maxMillis,
+                    lastSeen, Set.copyOf(endpoints), parameterTypes, plan, planCapturedAt);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.hms.main.observability;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code /actuator/slowtraces} lists the traces kept by tail sampling;
+ * {@code /actuator/slowtraces/{traceId}} returns one with all its spans.
+ */
+@Component
+@Endpoint(id = "slowtraces")
+public class SlowTracesEndpoint {
+
+    private final TraceExporter exporter;
+
+    public SlowTracesEndpoint(TraceExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    @ReadOperation
+    public List<TraceSummary> traces() {
+        return exporter.recent().stream()
+                .map(trace -> new TraceSummary(trace.traceId(), trace.name(), trace.status(), trace.startedAt(),
+                        trace.durationMs(), trace.error(), trace.spans().size() + trace.droppedSpans()))
+                .toList();
+    }
+
+    @ReadOperation
+    public TraceRecord trace(@Selector String traceId) {
+        return exporter.find(traceId).orElse(null);
+    }
+
+    public record TraceSummary(String traceId, String name, int status, Instant startedAt, double durationMs,
+            boolean error, int spans) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.hms.main.observability;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One timed operation inside a {@link Trace}. Spans are opened with
+ * {@link Tracing#start} and closed with try-with-resources on the thread that
+ * opened them. Outside a traced request {@link #NOOP} is handed out, so
+ * instrumented code never has to check.
+ */
+public class Span implements AutoCloseable {
+
+    static final Span NOOP = new Span(null, -1, -1, "noop", "noop", null);
+
+    private final Trace trace;
+    private final int id;
+    private final int parentId;
+    private final String name;
+    private final String kind;
+    private final Span previous;
+    private final long startNanos;
+    private Map<String, Object> attributes;
+    private String error;
+
+    Span(Trace trace, int id, int parentId, String name, String kind, Span previous) {
+        this.trace = trace;
+        this.id = id;
+        this.parentId = parentId;
+        this.name = name;
+        this.kind = kind;
+        this.previous = previous;
+        this.startNanos = System.nanoTime();
+    }
+
+    public Span tag(String key, Object value) {
+        if (trace != null) {
+            if (attributes == null) {
+                attributes = new LinkedHashMap<>();
+            }
+            attributes.put(key, value);
+        }
+        return this;
+    }
+
+    public Span error(Throwable cause) {
+        if (trace != null) {
+            error = cause.getClass().getSimpleName();
+            trace.markError();
+        }
+        return this;
+    }
+
+    @Override
+    public void close() {
+        if (trace == null) {
+            return;
+        }
+        trace.add(new TraceRecord.SpanRecord(id, parentId, name, kind,
+                trace.offsetMillis(startNanos), (System.nanoTime() - startNanos) / 1e6, error,
+                attributes == null ? Map.of() : attributes));
+        Tracing.restore(previous);
+    }
+
+    Trace trace() {
+        return trace;
+    }
+
+    int id() {
+        return id;
+    }
+}
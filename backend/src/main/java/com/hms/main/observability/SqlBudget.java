@@ -0,0 +1,25 @@
+package com.hms.main.observability;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of JDBC statements one request to the annotated handler may
+ * run, counting everything in the request including the lookup of the
+ * authenticated user. On a class it applies to every handler without its own
+ * budget.
+ * <p>
+ * Going over is logged with the request's query shapes; with
+ * {@code hms.sql.budget.enforce=true} (meant for tests) the request fails
+ * with 500 before any of its response is sent.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface SqlBudget {
+
+    int value();
+}
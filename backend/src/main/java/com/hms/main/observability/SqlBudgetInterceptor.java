@@ -0,0 +1,40 @@
+package com.hms.main.observability;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Exposes the handler's {@link SqlBudget} to {@link SqlStatementCountFilter},
+ * which only learns the handler once the request has been dispatched, and
+ * labels the request's statements with its route.
+ */
+@Component
+public class SqlBudgetInterceptor implements HandlerInterceptor {
+
+    static final String BUDGET_ATTRIBUTE = SqlBudgetInterceptor.class.getName() + ".budget";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (stats != null && pattern != null) {
+            stats.setEndpoint(request.getMethod() + " " + pattern);
+        }
+        if (handler instanceof HandlerMethod method) {
+            SqlBudget budget = AnnotatedElementUtils.findMergedAnnotation(method.getMethod(), SqlBudget.class);
+            if (budget == null) {
+                budget = AnnotatedElementUtils.findMergedAnnotation(method.getBeanType(), SqlBudget.class);
+            }
+            if (budget != null) {
+                request.setAttribute(BUDGET_ATTRIBUTE, budget.value());
+            }
+        }
+        return true;
+    }
+}
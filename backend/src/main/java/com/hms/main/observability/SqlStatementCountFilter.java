@@ -0,0 +1,122 @@
+package com.hms.main.observability;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Counts the JDBC statements of each request, records them per route and
+ * reports requests that exceed their {@link SqlBudget} or repeat one query
+ * shape suspiciously often (N+1). Runs ahead of Spring Security so the
+ * authenticated user's lookup is counted too.
+ * <p>
+ * With {@code hms.sql.budget.enforce=true} a request over budget fails
+ * instead. Responses are then buffered in memory until the request is done,
+ * which suits tests rather than production traffic.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementCountFilter.class);
+
+    private static final int LOGGED_SHAPES = 10;
+
+    private final MeterRegistry meterRegistry;
+    private final int defaultBudget;
+    private final int repeatThreshold;
+    private final boolean enforce;
+
+    public SqlStatementCountFilter(MeterRegistry meterRegistry,
+            @Value("${hms.sql.budget.default:0}") int defaultBudget,
+            @Value("${hms.sql.budget.repeat-threshold:10}") int repeatThreshold,
+            @Value("${hms.sql.budget.enforce:false}") boolean enforce) {
+        this.meterRegistry = meterRegistry;
+        this.defaultBudget = defaultBudget;
+        this.repeatThreshold = repeatThreshold;
+        this.enforce = enforce;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RequestSqlStats stats = RequestSqlStats.start();
+        // Enforcing holds the response back until the count is known, so a request
+        // over budget fails with 500 instead of reaching the client as a 200
+        ContentCachingResponseWrapper held = enforce ? new ContentCachingResponseWrapper(response) : null;
+        try {
+            filterChain.doFilter(request, held != null ? held : response);
+        } finally {
+            RequestSqlStats.clear();
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("hms.http.sql.statements")
+                .description("JDBC statements per HTTP request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", route)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.statements());
+
+        Object declared = request.getAttribute(SqlBudgetInterceptor.BUDGET_ATTRIBUTE);
+        int budget = declared instanceof Integer value ? value : defaultBudget;
+        boolean overBudget = budget > 0 && stats.statements() > budget;
+        boolean repeated = repeatThreshold > 0 && stats.maxRepeats() >= repeatThreshold;
+        if (!overBudget && !repeated) {
+            release(held);
+            return;
+        }
+
+        String message = "%s %s ran %d SQL statements%s; most frequent shapes:%n%s".formatted(
+                request.getMethod(), route, stats.statements(),
+                overBudget ? " (budget " + budget + ")" : "", describe(stats.shapes()));
+        if (overBudget) {
+            Counter.builder("hms.http.sql.budget.exceeded")
+                    .description("Requests that ran more SQL statements than their budget")
+                    .tag("method", request.getMethod())
+                    .tag("uri", route)
+                    .register(meterRegistry)
+                    .increment();
+            if (enforce) {
+                throw new IllegalStateException(message);
+            }
+        }
+        log.warn(message);
+        release(held);
+    }
+
+    private static void release(ContentCachingResponseWrapper held) throws IOException {
+        if (held != null) {
+            held.copyBodyToResponse();
+        }
+    }
+
+    private static String describe(Map<String, Long> shapes) {
+        return shapes.entrySet().stream()
+                .limit(LOGGED_SHAPES)
+                .map(entry -> "  " + entry.getValue() + "x " + entry.getKey())
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+}
@@ -0,0 +1,30 @@
+package com.hms.main.observability;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Counts every statement executed through the proxied data source against
+ * the current request. A JDBC batch counts once, it is one round trip.
+ */
+@Component
+public class SqlStatementCountListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats == null || queryInfoList.isEmpty()) {
+            return;
+        }
+        stats.record(queryInfoList.get(0).getQuery());
+    }
+}
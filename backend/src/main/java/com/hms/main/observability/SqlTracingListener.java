@@ -0,0 +1,44 @@
+package com.hms.main.observability;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Opens a span around every JDBC statement of a traced request, tagged with
+ * the statement's shape rather than its values.
+ */
+@Component
+public class SqlTracingListener implements QueryExecutionListener {
+
+    private static final String SPAN = SqlTracingListener.class.getName();
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (!Tracing.active() || queryInfoList.isEmpty()) {
+            return;
+        }
+        Span span = Tracing.start("sql", "sql")
+                .tag("statement", SqlShapes.normalize(queryInfoList.get(0).getQuery()));
+        execInfo.addCustomValue(SPAN, span);
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Span span = execInfo.getCustomValue(SPAN, Span.class);
+        if (span == null) {
+            return;
+        }
+        if (execInfo.isBatch()) {
+            span.tag("batch", execInfo.getBatchSize());
+        }
+        if (!execInfo.isSuccess() && execInfo.getThrowable() != null) {
+            span.error(execInfo.getThrowable());
+        }
+        span.close();
+    }
+}
@@ -0,0 +1,62 @@
+package com.hms.main.observability;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A request being traced. Spans may finish on several threads at once, e.g.
+ * chart sections loading in parallel.
+ */
+class Trace {
+
+    private final String traceId = Long.toHexString(ThreadLocalRandom.current().nextLong() | Long.MIN_VALUE);
+    private final Instant startedAt = Instant.now();
+    private final long startNanos = System.nanoTime();
+    private final int maxSpans;
+    private final AtomicInteger nextSpanId = new AtomicInteger();
+    private final AtomicInteger recorded = new AtomicInteger();
+    private final AtomicInteger dropped = new AtomicInteger();
+    private final ConcurrentLinkedQueue<TraceRecord.SpanRecord> spans = new ConcurrentLinkedQueue<>();
+    private volatile boolean error;
+
+    Trace(int maxSpans) {
+        this.maxSpans = maxSpans;
+    }
+
+    String traceId() {
+        return traceId;
+    }
+
+    int nextSpanId() {
+        return nextSpanId.getAndIncrement();
+    }
+
+    void markError() {
+        error = true;
+    }
+
+    double offsetMillis(long nanos) {
+        return (nanos - startNanos) / 1e6;
+    }
+
+    void add(TraceRecord.SpanRecord span) {
+        // The root span always fits; it is added last
+        if (span.parentId() < 0 || recorded.incrementAndGet() <= maxSpans) {
+            spans.add(span);
+        } else {
+            dropped.incrementAndGet();
+        }
+    }
+
+    TraceRecord finish(String name, int status) {
+        List<TraceRecord.SpanRecord> ordered = new ArrayList<>(spans);
+        ordered.sort(Comparator.comparingDouble(TraceRecord.SpanRecord::startMs));
+        return new TraceRecord(traceId, name, status, startedAt, offsetMillis(System.nanoTime()),
+                error || status >= 500, dropped.get(), ordered);
+    }
+}
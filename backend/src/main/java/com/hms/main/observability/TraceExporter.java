@@ -0,0 +1,151 @@
+package com.hms.main.observability;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Tail sampling: the decision is made once a request has finished, so only
+ * slow or failed traces are kept, plus an optional random share of the rest.
+ * Kept traces stay in a ring buffer for {@code /actuator/slowtraces} and are
+ * appended as JSON lines to {@code hms.tracing.file} when one is configured.
+ * The file is written by a single background thread; traces that do not fit
+ * its queue are dropped rather than slowing requests down.
+ */
+@Component
+public class TraceExporter implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(TraceExporter.class);
+
+    private static final int WRITE_QUEUE_CAPACITY = 1000;
+
+    private final ObjectMapper objectMapper;
+    private final double slowThresholdMs;
+    private final double sampleRate;
+    private final int maxTraces;
+    private final Path file;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<TraceRecord> recent = new ArrayDeque<>();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Counter keptSlow;
+    private final Counter keptError;
+    private final Counter keptSampled;
+    private final ThreadPoolExecutor writer;
+
+    public TraceExporter(ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${hms.tracing.slow-threshold:PT0.5S}") Duration slowThreshold,
+            @Value("${hms.tracing.sample-rate:0.0}") double sampleRate,
+            @Value("${hms.tracing.max-traces:200}") int maxTraces,
+            @Value("${hms.tracing.file:}") String file) {
+        this.objectMapper = objectMapper;
+        this.slowThresholdMs = slowThreshold.toNanos() / 1e6;
+        this.sampleRate = sampleRate;
+        this.maxTraces = maxTraces;
+        this.file = file.isBlank() ? null : Path.of(file);
+        this.keptSlow = kept(meterRegistry, "slow");
+        this.keptError = kept(meterRegistry, "error");
+        this.keptSampled = kept(meterRegistry, "sampled");
+        FunctionCounter.builder("hms.tracing.dropped", dropped, AtomicLong::get)
+                .description("Kept traces not written to the trace file because its queue was full")
+                .register(meterRegistry);
+        this.writer = this.file == null ? null : new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(WRITE_QUEUE_CAPACITY),
+                Thread.ofPlatform().name("trace-writer").daemon().factory(),
+                (task, executor) -> dropped.incrementAndGet());
+    }
+
+    private static Counter kept(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("hms.tracing.kept")
+                .description("Finished traces kept by tail sampling")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    public void offer(TraceRecord trace) {
+        if (trace.error()) {
+            keptError.increment();
+        } else if (trace.durationMs() >= slowThresholdMs) {
+            keptSlow.increment();
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            keptSampled.increment();
+        } else {
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (recent.size() >= maxTraces) {
+                recent.removeFirst();
+            }
+            recent.addLast(trace);
+        } finally {
+            lock.unlock();
+        }
+        if (writer != null) {
+            writer.execute(() -> write(trace));
+        }
+    }
+
+    /**
+     * Kept traces still in memory, newest first.
+     */
+    public List<TraceRecord> recent() {
+        lock.lock();
+        try {
+            List<TraceRecord> traces = new ArrayList<>(recent);
+            return traces.reversed();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Optional<TraceRecord> find(String traceId) {
+        return recent().stream().filter(trace -> trace.traceId().equals(traceId)).findFirst();
+    }
+
+    private void write(TraceRecord trace) {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            out.write(objectMapper.writeValueAsString(trace));
+            out.newLine();
+        } catch (IOException e) {
+            log.warn("Could not append trace {} to {}", trace.traceId(), file, e);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (writer != null) {
+            writer.shutdown();
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.hms.main.observability;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A finished trace as exported. Span times are milliseconds relative to the
+ * start of the request.
+ */
+public record TraceRecord(
+        String traceId,
+        String name,
+        int status,
+        Instant startedAt,
+        double durationMs,
+        boolean error,
+        int droppedSpans,
+        List<SpanRecord> spans) {
+
+    public record SpanRecord(
+            int id,
+            int parentId,
+            String name,
+            String kind,
+            double startMs,
+            double durationMs,
+            String error,
+            Map<String, Object> attributes) {
+    }
+}
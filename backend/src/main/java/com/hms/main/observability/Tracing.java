@@ -0,0 +1,63 @@
+package com.hms.main.observability;
+
+/**
+ * Entry point for instrumentation. The span currently open on a thread is
+ * the parent of the next one; {@link #propagate} carries it into tasks handed
+ * to other threads.
+ */
+public final class Tracing {
+
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+
+    private Tracing() {
+    }
+
+    /**
+     * Opens a child of the current span, or returns a no-op span when this
+     * thread is not working on a traced request.
+     */
+    public static Span start(String name, String kind) {
+        Span parent = CURRENT.get();
+        if (parent == null) {
+            return Span.NOOP;
+        }
+        Trace trace = parent.trace();
+        Span span = new Span(trace, trace.nextSpanId(), parent.id(), name, kind, parent);
+        CURRENT.set(span);
+        return span;
+    }
+
+    public static boolean active() {
+        return CURRENT.get() != null;
+    }
+
+    public static Runnable propagate(Runnable task) {
+        Span parent = CURRENT.get();
+        if (parent == null) {
+            return task;
+        }
+        return () -> {
+            Span previous = CURRENT.get();
+            CURRENT.set(parent);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    static Span startRoot(Trace trace, String name) {
+        Span root = new Span(trace, trace.nextSpanId(), -1, name, "http", null);
+        CURRENT.set(root);
+        return root;
+    }
+
+    static void restore(Span span) {
+        if (span == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(span);
+        }
+    }
+}
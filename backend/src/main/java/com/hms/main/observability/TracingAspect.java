@@ -0,0 +1,32 @@
+package com.hms.main.observability;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * One span per public service call made through the Spring proxy. Calls
+ * within a service are not proxied and so not traced separately.
+ */
+@Aspect
+@Component
+public class TracingAspect {
+
+    @Around("execution(public * com.hms.main.service.implementation..*(..))")
+    public Object trace(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!Tracing.active()) {
+            return joinPoint.proceed();
+        }
+        String name = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName();
+        try (Span span = Tracing.start(name, "service")) {
+            try {
+                return joinPoint.proceed();
+            } catch (Throwable e) {
+                span.error(e);
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.hms.main.observability;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Starts a trace for every request and hands it to the
+ * {@link TraceExporter} when the response is complete. Runs first, so the
+ * security filter chain and the SQL budget check are inside the trace.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TracingFilter extends OncePerRequestFilter {
+
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+
+    private final TraceExporter exporter;
+    private final boolean enabled;
+    private final int maxSpans;
+
+    public TracingFilter(TraceExporter exporter,
+            @Value("${hms.tracing.enabled:true}") boolean enabled,
+            @Value("${hms.tracing.max-spans:1000}") int maxSpans) {
+        this.exporter = exporter;
+        this.enabled = enabled;
+        this.maxSpans = maxSpans;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        Trace trace = new Trace(maxSpans);
+        response.setHeader(TRACE_ID_HEADER, trace.traceId());
+        int status = 0;
+        Span root = Tracing.startRoot(trace, "request");
+        try {
+            filterChain.doFilter(request, response);
+            status = response.getStatus();
+        } catch (IOException | ServletException | RuntimeException e) {
+            root.error(e);
+            status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+            throw e;
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String name = request.getMethod() + " " + (pattern != null ? pattern : "UNKNOWN");
+            root.tag("status", status).close();
+            exporter.offer(trace.finish(name, status));
+        }
+    }
+}
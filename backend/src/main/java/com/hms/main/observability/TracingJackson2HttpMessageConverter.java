@@ -0,0 +1,35 @@
+package com.hms.main.observability;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The JSON converter, with response serialization traced as its own span.
+ * Lazy associations touched while writing show up as SQL spans beneath it.
+ */
+public class TracingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TracingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        try (Span span = Tracing.start("json.serialize", "serialization")
+                .tag("type", object.getClass().getSimpleName())) {
+            try {
+                super.writeInternal(object, type, outputMessage);
+            } catch (IOException | RuntimeException e) {
+                span.error(e);
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.hms.main.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.hms.main.entity.Allergy;
+
+public interface AllergyRepository extends JpaRepository<Allergy, UUID> {
+
+    List<Allergy> findByPatientId(UUID patientId);
+
+    List<Allergy> findByPatientIdIn(Collection<UUID> patientIds);
+
+    @Query("""
+            select a from Allergy a
+            where (a.updatedAt > :updatedAt or (a.updatedAt = :updatedAt and a.id > :id))
+              and a.updatedAt <= :cutoff
+            order by a.updatedAt, a.id
+            """)
+    List<Allergy> findChangesAfter(@Param("updatedAt") LocalDateTime updatedAt, @Param("id") UUID id,
+            @Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    @Query("""
+            select a from Allergy a
+            where a.patient.id = :patientId
+              and (a.updatedAt > :updatedAt or (a.updatedAt = :updatedAt and a.id > :id))
+              and a.updatedAt <= :cutoff
+            order by a.updatedAt, a.id
+            """)
+    List<Allergy> findPatientChangesAfter(@Param("patientId") UUID patientId,
+            @Param("updatedAt") LocalDateTime updatedAt, @Param("id") UUID id,
+            @Param("cutoff") LocalDateTime cutoff, Limit limit);
+}
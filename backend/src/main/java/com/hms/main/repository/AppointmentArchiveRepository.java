@@ -0,0 +1,105 @@
+package com.hms.main.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.hms.main.dto.response.AppointmentResponse;
+import com.hms.main.entity.enums.AppointmentStatus;
+import com.hms.main.entity.enums.PaymentStatus;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Slow read path over appointment partitions that were moved into the archive
+ * schema. Only the archived months overlapping the requested range are read.
+ */
+@Repository
+@Timed(value = "hms.repository", histogram = true)
+public class AppointmentArchiveRepository {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("appointments_p(\\d{4})_(\\d{2})");
+
+    private static final String COLUMNS = "id, patient_id, doctor_id, service_id, appointment_date, start_time, "
+            + "end_time, status, amount, payment_status, notes, created_at, updated_at, version";
+
+    private static final RowMapper<AppointmentResponse> ROW_MAPPER = (rs, rowNum) -> AppointmentResponse.builder()
+            .id(rs.getObject("id", UUID.class))
+            .patientId(rs.getObject("patient_id", UUID.class))
+            .doctorId(rs.getObject("doctor_id", UUID.class))
+            .serviceId(rs.getObject("service_id", UUID.class))
+            .appointmentDate(rs.getObject("appointment_date", LocalDate.class))
+            .startTime(rs.getObject("start_time", LocalTime.class))
+            .endTime(rs.getObject("end_time", LocalTime.class))
+            .status(AppointmentStatus.valueOf(rs.getString("status")))
+            .amount(rs.getBigDecimal("amount"))
+            .paymentStatus(PaymentStatus.valueOf(rs.getString("payment_status")))
+            .notes(rs.getString("notes"))
+            .archived(true)
+            .createdAt(rs.getObject("created_at", LocalDateTime.class))
+            .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+            .version(rs.getLong("version"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String archiveSchema;
+
+    public AppointmentArchiveRepository(JdbcTemplate jdbcTemplate,
+            @Value("${hms.appointments.archive.schema:appointments_archive}") String archiveSchema) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.archiveSchema = archiveSchema;
+    }
+
+    public List<AppointmentResponse> findPatientHistory(UUID patientId, LocalDate from, LocalDate to) {
+        List<String> tables = archivedPartitions(YearMonth.from(from), YearMonth.from(to));
+        if (tables.isEmpty()) {
+            return List.of();
+        }
+
+        StringBuilder sql = new StringBuilder();
+        List<Object> args = new ArrayList<>();
+        for (String table : tables) {
+            if (!sql.isEmpty()) {
+                sql.append(" UNION ALL ");
+            }
+            sql.append("SELECT ").append(COLUMNS).append(" FROM ").append(archiveSchema).append('.').append(table)
+                    .append(" WHERE patient_id = ? AND appointment_date BETWEEN ? AND ?");
+            args.add(patientId);
+            args.add(from);
+            args.add(to);
+        }
+        sql.append(" ORDER BY appointment_date DESC, start_time DESC");
+
+        return jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+
+    private List<String> archivedPartitions(YearMonth from, YearMonth to) {
+        List<String> names = jdbcTemplate.queryForList(
+                "SELECT tablename FROM pg_tables WHERE schemaname = ? ORDER BY tablename",
+                String.class, archiveSchema);
+
+        List<String> overlapping = new ArrayList<>();
+        for (String name : names) {
+            Matcher matcher = PARTITION_NAME.matcher(name);
+            if (!matcher.matches()) {
+                continue;
+            }
+            YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+            if (!month.isBefore(from) && !month.isAfter(to)) {
+                overlapping.add(name);
+            }
+        }
+        return overlapping;
+    }
+}
@@ -0,0 +1,40 @@
+package com.hms.main.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.hms.main.entity.Appointment;
+import com.hms.main.entity.enums.AppointmentStatus;
+
+/**
+ * The appointments table is range-partitioned on appointment_date, so every
+ * read here is bounded by date to let Postgres prune to the relevant months.
+ */
+public interface AppointmentRepository extends JpaRepository<Appointment, UUID> {
+
+    @Query("""
+            select a from Appointment a
+            where a.patient.id = :patientId
+              and a.appointmentDate between :from and :to
+            order by a.appointmentDate desc, a.startTime desc
+            """)
+    List<Appointment> findPatientHistory(@Param("patientId") UUID patientId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    @Query("""
+            select a from Appointment a
+            where a.doctor.id = :doctorId
+              and a.appointmentDate = :date
+              and a.status <> :excludedStatus
+            order by a.startTime
+            """)
+    List<Appointment> findDoctorDay(@Param("doctorId") UUID doctorId,
+            @Param("date") LocalDate date,
+            @Param("excludedStatus") AppointmentStatus excludedStatus);
+}
@@ -0,0 +1,45 @@
+package com.hms.main.repository;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.SQLException;
+
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Streams CSV straight into a table with COPY, bypassing Hibernate. Meant for
+ * bulk loads where the caller already guarantees valid, non-conflicting rows.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BulkCopyRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param table   target table
+     * @param columns comma separated column list, in CSV field order
+     * @param csv     rows in PostgreSQL CSV format; an unquoted empty field is NULL
+     * @return the number of rows copied
+     */
+    public long copy(String table, String columns, Reader csv) {
+        Long rows = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(
+                        "COPY " + table + " (" + columns + ") FROM STDIN WITH (FORMAT csv)", csv);
+            } catch (IOException e) {
+                throw new SQLException("COPY into " + table + " failed", e);
+            }
+        });
+        return rows == null ? 0 : rows;
+    }
+
+    public void analyze(String table) {
+        jdbcTemplate.execute("ANALYZE " + table);
+    }
+}
@@ -1,11 +1,41 @@
 package com.hms.main.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.hms.main.entity.Doctor;
 
 public interface DoctorRepository extends JpaRepository<Doctor, UUID>  {
-    
+
+    Optional<Doctor> findByUserId(UUID userId);
+
+    // The directory maps users and schedules of every doctor; one query instead of two per doctor
+    @Override
+    @EntityGraph(attributePaths = { "user", "schedules" })
+    List<Doctor> findAll();
+
+    // One page of sync changes. The limit applies in SQL here; the doctors themselves
+    // are fetched by findByIdIn, since a limit next to a fetched collection would be
+    // applied in memory after reading every changed doctor.
+    @Query("""
+            select d.id from Doctor d
+            where (d.updatedAt > :updatedAt or (d.updatedAt = :updatedAt and d.id > :id))
+              and d.updatedAt <= :cutoff
+            order by d.updatedAt, d.id
+            """)
+    List<UUID> findChangedIdsAfter(@Param("updatedAt") LocalDateTime updatedAt, @Param("id") UUID id,
+            @Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    @EntityGraph(attributePaths = { "user", "schedules" })
+    @Query("select d from Doctor d where d.id in :ids order by d.updatedAt, d.id")
+    List<Doctor> findByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,13 @@
+package com.hms.main.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.hms.main.entity.DrugClassSynonym;
+
+public interface DrugClassSynonymRepository extends JpaRepository<DrugClassSynonym, UUID> {
+
+    Optional<DrugClassSynonym> findByTerm(String term);
+}
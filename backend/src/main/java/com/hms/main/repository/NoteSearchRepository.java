@@ -0,0 +1,176 @@
+package com.hms.main.repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.hms.main.dto.request.NoteSource;
+import com.hms.main.dto.response.NoteSearchHitResponse;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Full-text search over appointment and allergy notes, backed by generated
+ * tsvector columns with GIN indexes. Snippets are only computed for the rows
+ * of the requested page.
+ */
+@Repository
+@Timed(value = "hms.repository", histogram = true)
+public class NoteSearchRepository {
+
+    /**
+     * Filters for one search. Null fields do not filter.
+     *
+     * @param websearch       phrase, OR and negation syntax as accepted by websearch_to_tsquery
+     * @param prefixes        words that must appear as a prefix of some word; letters and digits only
+     * @param sources         which notes to search
+     * @param visibleToDoctor restrict to the doctor's appointments and the allergies of their patients
+     */
+    public record Criteria(String websearch, List<String> prefixes, Set<NoteSource> sources, UUID patientId,
+            UUID doctorId, UUID visibleToDoctor, LocalDate from, LocalDate to) {
+    }
+
+    private static final String HEADLINE_OPTIONS = "StartSel=<mark>, StopSel=</mark>, MaxFragments=2, "
+            + "MaxWords=25, MinWords=8, FragmentDelimiter=\" ... \"";
+
+    // Escaped before highlighting so the only markup in a snippet is <mark>
+    private static final String ESCAPED_NOTES = "replace(replace(replace(notes, '&', '&amp;'), '<', '&lt;'), "
+            + "'>', '&gt;')";
+
+    private static final RowMapper<NoteSearchHitResponse> ROW_MAPPER = (rs, rowNum) -> NoteSearchHitResponse
+            .builder()
+            .source(NoteSource.valueOf(rs.getString("source")))
+            .id(rs.getObject("id", UUID.class))
+            .patientId(rs.getObject("patient_id", UUID.class))
+            .doctorId(rs.getObject("doctor_id", UUID.class))
+            .date(rs.getObject("record_date", LocalDate.class))
+            .rank(rs.getDouble("rank"))
+            .snippet(rs.getString("snippet"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String language;
+
+    public NoteSearchRepository(JdbcTemplate jdbcTemplate,
+            @Value("${hms.notes-search.language:english}") String language) {
+        if (!language.matches("[a-z_]+")) {
+            throw new IllegalStateException("Invalid text search configuration: " + language);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.language = "'" + language + "'::regconfig";
+    }
+
+    /**
+     * Add the tsvector columns and their indexes. On the partitioned
+     * appointments table both cascade to every partition, including ones
+     * created later.
+     */
+    public void createSearchColumns() {
+        for (String table : List.of("appointments", "allergies")) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ADD COLUMN IF NOT EXISTS notes_tsv tsvector "
+                    + "GENERATED ALWAYS AS (to_tsvector(" + language + ", coalesce(notes, ''))) STORED");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_" + table + "_notes_tsv ON " + table
+                    + " USING gin (notes_tsv)");
+        }
+    }
+
+    public List<NoteSearchHitResponse> search(Criteria criteria, int limit, int offset) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT source, id, patient_id, doctor_id, record_date, rank, ")
+                .append("ts_headline(").append(language).append(", ").append(ESCAPED_NOTES).append(", ")
+                .append(tsquery(criteria, args)).append(", '").append(HEADLINE_OPTIONS).append("') AS snippet ")
+                .append("FROM (");
+
+        List<String> branches = new ArrayList<>();
+        if (criteria.sources().contains(NoteSource.APPOINTMENT)) {
+            branches.add(appointmentBranch(criteria, args));
+        }
+        if (criteria.sources().contains(NoteSource.ALLERGY)) {
+            branches.add(allergyBranch(criteria, args));
+        }
+        sql.append(String.join(" UNION ALL ", branches))
+                .append(" ORDER BY rank DESC, record_date DESC, id LIMIT ? OFFSET ?) hits ")
+                .append("ORDER BY rank DESC, record_date DESC, id");
+        args.add(limit);
+        args.add(offset);
+
+        return jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+
+    private String appointmentBranch(Criteria criteria, List<Object> args) {
+        StringBuilder sql = new StringBuilder("SELECT 'APPOINTMENT' AS source, id, patient_id, doctor_id, ")
+                .append("appointment_date AS record_date, notes, ts_rank_cd(notes_tsv, ");
+        sql.append(tsquery(criteria, args)).append(") AS rank FROM appointments WHERE notes_tsv @@ ");
+        sql.append(tsquery(criteria, args));
+        if (criteria.patientId() != null) {
+            sql.append(" AND patient_id = ?");
+            args.add(criteria.patientId());
+        }
+        if (criteria.doctorId() != null) {
+            sql.append(" AND doctor_id = ?");
+            args.add(criteria.doctorId());
+        }
+        if (criteria.visibleToDoctor() != null) {
+            sql.append(" AND doctor_id = ?");
+            args.add(criteria.visibleToDoctor());
+        }
+        if (criteria.from() != null) {
+            sql.append(" AND appointment_date >= ?");
+            args.add(criteria.from());
+        }
+        if (criteria.to() != null) {
+            sql.append(" AND appointment_date <= ?");
+            args.add(criteria.to());
+        }
+        return sql.toString();
+    }
+
+    private String allergyBranch(Criteria criteria, List<Object> args) {
+        StringBuilder sql = new StringBuilder("SELECT 'ALLERGY' AS source, id, patient_id, NULL::uuid AS doctor_id, ")
+                .append("created_at::date AS record_date, notes, ts_rank_cd(notes_tsv, ");
+        sql.append(tsquery(criteria, args)).append(") AS rank FROM allergies WHERE notes_tsv @@ ");
+        sql.append(tsquery(criteria, args));
+        if (criteria.patientId() != null) {
+            sql.append(" AND patient_id = ?");
+            args.add(criteria.patientId());
+        }
+        // An allergy has no doctor; it belongs to a doctor's patients
+        for (UUID doctorId : new UUID[] { criteria.doctorId(), criteria.visibleToDoctor() }) {
+            if (doctorId != null) {
+                sql.append(" AND EXISTS (SELECT 1 FROM appointments x")
+                        .append(" WHERE x.patient_id = allergies.patient_id AND x.doctor_id = ?)");
+                args.add(doctorId);
+            }
+        }
+        if (criteria.from() != null) {
+            sql.append(" AND created_at >= ?");
+            args.add(criteria.from().atStartOfDay());
+        }
+        if (criteria.to() != null) {
+            sql.append(" AND created_at < ?");
+            args.add(criteria.to().plusDays(1).atStartOfDay());
+        }
+        return sql.toString();
+    }
+
+    // Appends its bind values to args, so call it in the order the SQL is written
+    private String tsquery(Criteria criteria, List<Object> args) {
+        List<String> parts = new ArrayList<>();
+        if (criteria.websearch() != null && !criteria.websearch().isBlank()) {
+            parts.add("websearch_to_tsquery(" + language + ", ?)");
+            args.add(criteria.websearch());
+        }
+        if (!criteria.prefixes().isEmpty()) {
+            parts.add("to_tsquery(" + language + ", ?)");
+            args.add(String.join(" & ", criteria.prefixes().stream().map(prefix -> prefix + ":*").toList()));
+        }
+        return "(" + String.join(" && ", parts) + ")";
+    }
+}
@@ -0,0 +1,159 @@
+package com.hms.main.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.hms.main.dto.response.user.UserResponse;
+import com.hms.main.entity.enums.BloodType;
+import com.hms.main.entity.enums.Gender;
+import com.hms.main.entity.enums.Roles;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Patient search backed by pg_trgm and expression indexes. Every query
+ * repeats the {@code role = 'PATIENT'} literal so the planner can use the
+ * partial indexes created by {@link #createIndexes()}.
+ */
+@Repository
+@Timed(value = "hms.repository", histogram = true)
+public class PatientSearchRepository {
+
+    private static final String COLUMNS = "id, full_name, email, phone_number, gender, blood_type, address, "
+            + "date_of_birth, emergency_contact_name, emergency_contact_phone, role, created_at, updated_at, version";
+
+    private static final String PHONE_DIGITS = "regexp_replace(phone_number, '[^0-9]', '', 'g')";
+
+    private static final RowMapper<UserResponse> ROW_MAPPER = (rs, rowNum) -> UserResponse.builder()
+            .id(rs.getObject("id", UUID.class))
+            .fullName(rs.getString("full_name"))
+            .email(rs.getString("email"))
+            .phoneNumber(rs.getString("phone_number"))
+            .gender(rs.getString("gender") == null ? null : Gender.valueOf(rs.getString("gender")))
+            .bloodType(rs.getString("blood_type") == null ? null : BloodType.valueOf(rs.getString("blood_type")))
+            .address(rs.getString("address"))
+            .dateOfBirth(rs.getObject("date_of_birth", LocalDate.class))
+            .emergencyContactName(rs.getString("emergency_contact_name"))
+            .emergencyContactPhone(rs.getString("emergency_contact_phone"))
+            .role(Roles.valueOf(rs.getString("role")))
+            .createdAt(rs.getObject("created_at", LocalDateTime.class))
+            .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+            .version(rs.getLong("version"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PatientSearchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void createIndexes() {
+        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        // Substring and word-similarity matching on names; GiST rather than GIN so
+        // matches can also be read in word-similarity order (<<->) and cut off
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_users_patient_name_trgm_gist ON users "
+                + "USING gist (lower(full_name) gist_trgm_ops) WHERE role = 'PATIENT'");
+        // Prefix matching for terms too short to form trigrams
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_users_patient_name_prefix ON users "
+                + "(lower(full_name) text_pattern_ops) WHERE role = 'PATIENT'");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_users_patient_email ON users "
+                + "(lower(email)) WHERE role = 'PATIENT'");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_users_patient_phone ON users "
+                + "(" + PHONE_DIGITS + ") WHERE role = 'PATIENT'");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_users_patient_dob ON users "
+                + "(date_of_birth, lower(full_name)) WHERE role = 'PATIENT'");
+    }
+
+    public List<UserResponse> findByEmail(String email, int limit, int offset) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM users WHERE role = 'PATIENT' AND lower(email) = ? "
+                + "ORDER BY id LIMIT ? OFFSET ?", ROW_MAPPER, email.toLowerCase(), limit, offset);
+    }
+
+    public List<UserResponse> findByPhoneDigits(String digits, int limit, int offset) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM users WHERE role = 'PATIENT' AND " + PHONE_DIGITS
+                + " = ? ORDER BY lower(full_name), id LIMIT ? OFFSET ?", ROW_MAPPER, digits, limit, offset);
+    }
+
+    public List<UserResponse> findByDateOfBirth(LocalDate dateOfBirth, int limit, int offset) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM users WHERE role = 'PATIENT' AND date_of_birth = ? "
+                + "ORDER BY lower(full_name), id LIMIT ? OFFSET ?", ROW_MAPPER, dateOfBirth, limit, offset);
+    }
+
+    /**
+     * Prefix matches only; used for terms too short to form trigrams.
+     *
+     * @param term lower-cased search term
+     */
+    public List<UserResponse> findByNamePrefix(String term, int limit, int offset) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM users WHERE role = 'PATIENT' "
+                + "AND lower(full_name) LIKE ? ORDER BY lower(full_name), id LIMIT ? OFFSET ?",
+                ROW_MAPPER, escapeLike(term) + "%", limit, offset);
+    }
+
+    /**
+     * Ranked name search: exact name, then name prefix, then a word in the
+     * name starting with the term, then everything else by word similarity,
+     * which is what catches misspellings.
+     * <p>
+     * A common term can match a large share of all patients, so ranking never
+     * sees all of them. Each tier contributes at most {@code limit + offset}
+     * candidates, read from the GiST index in word-similarity order (the same
+     * order the tier is ranked in), and only those are ranked. The page is the
+     * same as ranking every match: the rows needed from a tier are always among
+     * its first {@code limit + offset}.
+     *
+     * @param term                lower-cased search term
+     * @param similarityThreshold minimum word similarity, between 0 and 1
+     */
+    public List<UserResponse> findByName(String term, double similarityThreshold, int limit, int offset) {
+        // Scoped to the surrounding transaction
+        jdbcTemplate.queryForObject("SELECT set_config('pg_trgm.word_similarity_threshold', ?, true)",
+                String.class, Double.toString(similarityThreshold));
+        String escaped = escapeLike(term);
+        int candidates = limit + offset;
+        return jdbcTemplate.query("""
+                WITH candidates AS (
+                    (SELECT id FROM users
+                     WHERE role = 'PATIENT' AND lower(full_name) LIKE ?
+                     ORDER BY ? <<-> lower(full_name), lower(full_name), id
+                     LIMIT ?)
+                    UNION
+                    (SELECT id FROM users
+                     WHERE role = 'PATIENT' AND lower(full_name) LIKE ?
+                     ORDER BY ? <<-> lower(full_name), lower(full_name), id
+                     LIMIT ?)
+                    UNION
+                    (SELECT id FROM users
+                     WHERE role = 'PATIENT' AND (lower(full_name) LIKE ? OR ? <%% lower(full_name))
+                     ORDER BY ? <<-> lower(full_name), lower(full_name), id
+                     LIMIT ?)
+                )
+                SELECT %s FROM users
+                WHERE role = 'PATIENT' AND id IN (SELECT id FROM candidates)
+                ORDER BY CASE
+                        WHEN lower(full_name) = ? THEN 0
+                        WHEN lower(full_name) LIKE ? THEN 1
+                        WHEN lower(full_name) LIKE ? THEN 2
+                        ELSE 3
+                    END,
+                    word_similarity(?, lower(full_name)) DESC,
+                    lower(full_name), id
+                LIMIT ? OFFSET ?
+                """.formatted(COLUMNS), ROW_MAPPER,
+                escaped + "%", term, candidates,
+                "% " + escaped + "%", term, candidates,
+                "%" + escaped + "%", term, term, candidates,
+                term, escaped + "%", "% " + escaped + "%",
+                term, limit, offset);
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,24 @@
+package com.hms.main.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.hms.main.entity.Service;
+
+public interface ServiceRepository extends JpaRepository<Service, UUID> {
+
+    @Query("""
+            select s from Service s
+            where (s.updatedAt > :updatedAt or (s.updatedAt = :updatedAt and s.id > :id))
+              and s.updatedAt <= :cutoff
+            order by s.updatedAt, s.id
+            """)
+    List<Service> findChangesAfter(@Param("updatedAt") LocalDateTime updatedAt, @Param("id") UUID id,
+            @Param("cutoff") LocalDateTime cutoff, Limit limit);
+}
@@ -0,0 +1,221 @@
+package com.hms.main.repository;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.stereotype.Repository;
+
+import com.hms.main.dto.response.ScheduleResponse;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Builds JPQL that selects only the requested fields, so a picker asking for
+ * {@code id,user.fullName,specialty} reads three columns and never touches
+ * schedules. Results are nested maps in catalog order, shaped like the
+ * corresponding response DTOs.
+ */
+@Repository
+@Timed(value = "hms.repository", histogram = true)
+public class SparseFieldRepository {
+
+    private static final String SCHEDULES = "schedules";
+
+    // Response field -> JPQL path; d is the doctor, u its user
+    private static final Map<String, String> DOCTOR_FIELDS = catalog(
+            "id", "d.id",
+            "specialty", "d.specialty",
+            "licenseNumber", "d.licenseNumber",
+            "yearsOfExperience", "d.yearsOfExperience",
+            "createdAt", "d.createdAt",
+            "updatedAt", "d.updatedAt",
+            "version", "d.version",
+            "user.id", "u.id",
+            "user.fullName", "u.fullName",
+            "user.email", "u.email",
+            "user.phoneNumber", "u.phoneNumber",
+            "user.gender", "u.gender",
+            "user.dateOfBirth", "u.dateOfBirth",
+            "user.address", "u.address",
+            "user.emergencyContactName", "u.emergencyContactName",
+            "user.emergencyContactPhone", "u.emergencyContactPhone",
+            "user.version", "u.version");
+
+    private static final Map<String, String> USER_FIELDS = catalog(
+            "id", "u.id",
+            "fullName", "u.fullName",
+            "email", "u.email",
+            "phoneNumber", "u.phoneNumber",
+            "gender", "u.gender",
+            "bloodType", "u.bloodType",
+            "address", "u.address",
+            "dateOfBirth", "u.dateOfBirth",
+            "emergencyContactName", "u.emergencyContactName",
+            "emergencyContactPhone", "u.emergencyContactPhone",
+            "role", "u.role",
+            "createdAt", "u.createdAt",
+            "updatedAt", "u.updatedAt",
+            "version", "u.version");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * @param fields requested fields; {@code schedules} adds one batched query
+     * @throws IllegalArgumentException for an unknown field
+     */
+    public List<Map<String, Object>> findDoctors(Set<String> fields) {
+        boolean withSchedules = fields.contains(SCHEDULES);
+        List<String> columns = resolve(DOCTOR_FIELDS, fields, Set.of(SCHEDULES));
+        // The id is needed to attach schedules even when not requested
+        boolean idRequested = columns.contains("id");
+        if (withSchedules && !idRequested) {
+            columns.add(0, "id");
+        }
+
+        String from = columns.stream().anyMatch(field -> field.startsWith("user."))
+                ? " from Doctor d join d.user u"
+                : " from Doctor d";
+        List<Map<String, Object>> doctors = query(DOCTOR_FIELDS, columns, from + " order by d.id", Map.of(), 0, 0);
+
+        if (withSchedules) {
+            Map<Object, List<ScheduleResponse>> schedules = findSchedules(doctors.stream()
+                    .map(doctor -> doctor.get("id"))
+                    .toList());
+            for (Map<String, Object> doctor : doctors) {
+                doctor.put(SCHEDULES, schedules.getOrDefault(doctor.get("id"), List.of()));
+                if (!idRequested) {
+                    doctor.remove("id");
+                }
+            }
+        }
+        return doctors;
+    }
+
+    /**
+     * The fields {@link #findDoctors} returns for a selection, in catalog order
+     * with {@code schedules} last, so equivalent selections such as
+     * {@code user} and every user field resolve the same.
+     *
+     * @throws IllegalArgumentException for an unknown field
+     */
+    public List<String> resolveDoctorFields(Set<String> fields) {
+        List<String> columns = resolve(DOCTOR_FIELDS, fields, Set.of(SCHEDULES));
+        if (fields.contains(SCHEDULES)) {
+            columns.add(SCHEDULES);
+        }
+        return columns;
+    }
+
+    /**
+     * @param limit rows to read; 0 for no limit
+     */
+    public List<Map<String, Object>> findUsers(Set<String> fields, int offset, int limit) {
+        List<String> columns = resolve(USER_FIELDS, fields, Set.of());
+        return query(USER_FIELDS, columns, " from User u order by u.createdAt, u.id", Map.of(), offset, limit);
+    }
+
+    public Optional<Map<String, Object>> findUser(UUID id, Set<String> fields) {
+        List<String> columns = resolve(USER_FIELDS, fields, Set.of());
+        return query(USER_FIELDS, columns, " from User u where u.id = :id", Map.of("id", id), 0, 1).stream()
+                .findFirst();
+    }
+
+    private Map<Object, List<ScheduleResponse>> findSchedules(List<Object> doctorIds) {
+        Map<Object, List<ScheduleResponse>> schedules = new HashMap<>();
+        if (doctorIds.isEmpty()) {
+            return schedules;
+        }
+        List<Tuple> rows = entityManager.createQuery("""
+                select s.doctor.id, s.id, s.dayOfWeek, s.startTime, s.endTime, s.isActive
+                from DoctorSchedule s where s.doctor.id in :ids
+                """, Tuple.class)
+                .setParameter("ids", doctorIds)
+                .getResultList();
+        for (Tuple row : rows) {
+            schedules.computeIfAbsent(row.get(0), id -> new ArrayList<>()).add(ScheduleResponse.builder()
+                    .id((UUID) row.get(1))
+                    .dayOfWeek((DayOfWeek) row.get(2))
+                    .startTime((LocalTime) row.get(3))
+                    .endTime((LocalTime) row.get(4))
+                    .isActive((Boolean) row.get(5))
+                    .build());
+        }
+        return schedules;
+    }
+
+    private List<Map<String, Object>> query(Map<String, String> catalog, List<String> columns, String rest,
+            Map<String, Object> parameters, int offset, int limit) {
+        String select = "select " + String.join(", ", columns.stream().map(catalog::get).toList());
+        TypedQuery<Tuple> query = entityManager.createQuery(select + rest, Tuple.class);
+        parameters.forEach(query::setParameter);
+        if (limit > 0) {
+            query.setFirstResult(offset).setMaxResults(limit);
+        }
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (Tuple row : query.getResultList()) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            for (int i = 0; i < columns.size(); i++) {
+                put(result, columns.get(i), row.get(i));
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void put(Map<String, Object> target, String field, Object value) {
+        int dot = field.indexOf('.');
+        if (dot < 0) {
+            target.put(field, value);
+        } else {
+            ((Map<String, Object>) target.computeIfAbsent(field.substring(0, dot), key -> new LinkedHashMap<>()))
+                    .put(field.substring(dot + 1), value);
+        }
+    }
+
+    // Requested fields in catalog order, with "user" expanded to every user field
+    private static List<String> resolve(Map<String, String> catalog, Set<String> fields, Set<String> extra) {
+        for (String field : fields) {
+            boolean known = catalog.containsKey(field) || extra.contains(field)
+                    || catalog.keySet().stream().anyMatch(key -> key.startsWith(field + "."));
+            if (!known) {
+                throw new IllegalArgumentException("Unknown field: " + field);
+            }
+        }
+        List<String> columns = new ArrayList<>();
+        for (String key : catalog.keySet()) {
+            int dot = key.indexOf('.');
+            if (fields.contains(key) || (dot > 0 && fields.contains(key.substring(0, dot)))) {
+                columns.add(key);
+            }
+        }
+        if (columns.isEmpty() && Collections.disjoint(fields, extra)) {
+            throw new IllegalArgumentException("No fields selected");
+        }
+        return columns;
+    }
+
+    private static Map<String, String> catalog(String... pairs) {
+        Map<String, String> catalog = new LinkedHashMap<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            catalog.put(pairs[i], pairs[i + 1]);
+        }
+        return Collections.unmodifiableMap(catalog);
+    }
+}
@@ -0,0 +1,8 @@
+package com.hms.main.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.hms.main.entity.SyncPurgeHorizon;
+
+public interface SyncPurgeHorizonRepository extends JpaRepository<SyncPurgeHorizon, Short> {
+}
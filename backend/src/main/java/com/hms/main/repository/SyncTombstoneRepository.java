@@ -0,0 +1,43 @@
+package com.hms.main.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.hms.main.entity.SyncTombstone;
+import com.hms.main.entity.enums.SyncCollection;
+
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, UUID> {
+
+    @Query("""
+            select t from SyncTombstone t
+            where t.collection = :collection
+              and (t.deletedAt > :deletedAt or (t.deletedAt = :deletedAt and t.entityId > :entityId))
+              and t.deletedAt <= :cutoff
+            order by t.deletedAt, t.entityId
+            """)
+    List<SyncTombstone> findAfter(@Param("collection") SyncCollection collection,
+            @Param("deletedAt") LocalDateTime deletedAt, @Param("entityId") UUID entityId,
+            @Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    @Query("""
+            select t from SyncTombstone t
+            where t.collection = :collection and t.ownerId = :ownerId
+              and (t.deletedAt > :deletedAt or (t.deletedAt = :deletedAt and t.entityId > :entityId))
+              and t.deletedAt <= :cutoff
+            order by t.deletedAt, t.entityId
+            """)
+    List<SyncTombstone> findOwnedAfter(@Param("collection") SyncCollection collection,
+            @Param("ownerId") UUID ownerId, @Param("deletedAt") LocalDateTime deletedAt,
+            @Param("entityId") UUID entityId, @Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    @Modifying
+    @Query("delete from SyncTombstone t where t.deletedAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
@@ -1,13 +1,79 @@
 package com.hms.main.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.hms.main.dto.response.user.UserResponse;
 import com.hms.main.entity.User;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
-    
+
+    /**
+     * Selects only the columns exposed by {@link UserResponse}, in the order of
+     * its all-args constructor. The results are plain DTOs, so they never enter
+     * the persistence context and the password hash is never read.
+     */
+    String USER_RESPONSE_PROJECTION = """
+            select new com.hms.main.dto.response.user.UserResponse(
+                u.id, u.fullName, u.email, u.phoneNumber, u.gender, u.bloodType, u.address,
+                u.dateOfBirth, u.emergencyContactName, u.emergencyContactPhone, u.role,
+                u.createdAt, u.updatedAt, u.version)
+            from User u
+            """;
+
     Optional<User> findByEmail(String email);
+
+    @Query(value = USER_RESPONSE_PROJECTION, countQuery = "select count(u) from User u")
+    Page<UserResponse> findAllResponses(Pageable pageable);
+
+    /**
+     * Same projection as {@link #findAllResponses(Pageable)} but returns a
+     * {@link Slice}, so Spring Data reads one extra row instead of running a
+     * count query.
+     */
+    @Query(USER_RESPONSE_PROJECTION)
+    Slice<UserResponse> findResponseSlice(Pageable pageable);
+
+    @Query(USER_RESPONSE_PROJECTION + " order by u.createdAt, u.id")
+    List<UserResponse> findFirstKeysetPage(Limit limit);
+
+    @Query(USER_RESPONSE_PROJECTION + """
+            where u.createdAt > :createdAt or (u.createdAt = :createdAt and u.id > :id)
+            order by u.createdAt, u.id
+            """)
+    List<UserResponse> findKeysetPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id,
+            Limit limit);
+
+    @Query("select u.version from User u where u.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    @Query(USER_RESPONSE_PROJECTION + " where u.id = :id")
+    Optional<UserResponse> findResponseById(@Param("id") UUID id);
+
+    @Query("select u.id from User u where u.id in :ids and u.role = com.hms.main.entity.enums.Roles.PATIENT")
+    List<UUID> findPatientIdsIn(@Param("ids") Collection<UUID> ids);
+
+    // Empty for ids of doctors and admins, so their profiles never appear as a chart
+    @Query(USER_RESPONSE_PROJECTION + " where u.id = :id and u.role = com.hms.main.entity.enums.Roles.PATIENT")
+    Optional<UserResponse> findPatientResponseById(@Param("id") UUID id);
+
+    @Query(USER_RESPONSE_PROJECTION + """
+            where u.role = com.hms.main.entity.enums.Roles.PATIENT
+              and (u.updatedAt > :updatedAt or (u.updatedAt = :updatedAt and u.id > :id))
+              and u.updatedAt <= :cutoff
+            order by u.updatedAt, u.id
+            """)
+    List<UserResponse> findPatientChangesAfter(@Param("updatedAt") LocalDateTime updatedAt, @Param("id") UUID id,
+            @Param("cutoff") LocalDateTime cutoff, Limit limit);
 }
@@ -0,0 +1,338 @@
+package com.hms.main.repository;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.hms.main.dto.request.VitalReadingRequest;
+import com.hms.main.dto.response.VitalBucketResponse;
+import com.hms.main.dto.response.VitalReadingResponse;
+import com.hms.main.entity.enums.VitalType;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Time-series access to the vitals tables. Reads always aggregate into
+ * buckets in the database so callers never pull raw points.
+ */
+@Repository
+@Timed(value = "hms.repository", histogram = true)
+@RequiredArgsConstructor
+public class VitalSignRepository {
+
+    private static final String BUCKET_ORIGIN = "TIMESTAMPTZ '2000-01-01 00:00:00+00'";
+    // Ingest holds it shared, advancing the rollup watermark holds it exclusively
+    private static final String WATERMARK_LOCK = "hashtext('vital_rollup_watermark')";
+    private static final String MARK_DUE =
+            "ON CONFLICT (bucket_start) DO UPDATE SET bucket_start = EXCLUDED.bucket_start";
+
+    private static final RowMapper<VitalBucketResponse> BUCKET_MAPPER = (rs, rowNum) -> VitalBucketResponse.builder()
+            .bucketStart(rs.getObject("bucket", OffsetDateTime.class).toInstant())
+            .min(rs.getDouble("min_value"))
+            .max(rs.getDouble("max_value"))
+            .avg(rs.getDouble("avg_value"))
+            .count(rs.getLong("sample_count"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert readings in one batch. Readings already stored for the same
+     * patient, type and timestamp are skipped, so a device can safely replay.
+     * Must be called inside a transaction, see {@link #markLateHours}.
+     *
+     * @return the number of readings actually inserted
+     */
+    public int insertBatch(List<VitalReadingRequest> readings) {
+        lockWatermarkShared();
+        int[] counts = jdbcTemplate.batchUpdate("""
+                INSERT INTO vital_signs (patient_id, vital_type, recorded_at, value)
+                VALUES (?, ?, ?, ?)
+                ON CONFLICT DO NOTHING
+                """, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                VitalReadingRequest reading = readings.get(i);
+                ps.setObject(1, reading.getPatientId());
+                ps.setShort(2, (short) reading.getType().ordinal());
+                ps.setObject(3, utc(reading.getRecordedAt()));
+                ps.setDouble(4, reading.getValue());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return readings.size();
+            }
+        });
+        markLateHours(readings.stream()
+                .map(reading -> reading.getRecordedAt().truncatedTo(ChronoUnit.HOURS))
+                .distinct()
+                .sorted()
+                .toList());
+        // The driver may report SUCCESS_NO_INFO (-2) for rewritten batches
+        return Arrays.stream(counts).map(count -> Math.max(count, 0)).sum();
+    }
+
+    /**
+     * Bulk variant of {@link #insertBatch} using COPY into a session-local
+     * staging table, then a single INSERT ... ON CONFLICT DO NOTHING. Must be
+     * called inside a transaction so both statements share a connection.
+     *
+     * @return the number of readings actually inserted
+     */
+    public int copyBatch(List<VitalReadingRequest> readings) {
+        lockWatermarkShared();
+        jdbcTemplate.execute("""
+                CREATE TEMP TABLE IF NOT EXISTS vital_signs_staging
+                    (LIKE vital_signs INCLUDING DEFAULTS) ON COMMIT DELETE ROWS
+                """);
+
+        StringBuilder csv = new StringBuilder(readings.size() * 72);
+        for (VitalReadingRequest reading : readings) {
+            csv.append(reading.getPatientId()).append(',')
+                    .append(reading.getType().ordinal()).append(',')
+                    .append(utc(reading.getRecordedAt())).append(',')
+                    .append(reading.getValue()).append('\n');
+        }
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(
+                        "COPY vital_signs_staging (patient_id, vital_type, recorded_at, value) FROM STDIN WITH (FORMAT csv)",
+                        new StringReader(csv.toString()));
+            } catch (IOException e) {
+                throw new SQLException("COPY into vital_signs_staging failed", e);
+            }
+        });
+
+        int inserted = jdbcTemplate.update("""
+                INSERT INTO vital_signs (patient_id, vital_type, recorded_at, value)
+                SELECT patient_id, vital_type, recorded_at, value FROM vital_signs_staging
+                ON CONFLICT DO NOTHING
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO vital_rollup_due_hours (bucket_start)
+                SELECT DISTINCT date_bin(INTERVAL '1 hour', s.recorded_at, %s)
+                FROM vital_signs_staging s, vital_rollup_watermark w
+                WHERE w.id = 1 AND s.recorded_at < w.rolled_up_until
+                ORDER BY 1
+                """.formatted(BUCKET_ORIGIN) + MARK_DUE);
+        return inserted;
+    }
+
+    public List<VitalBucketResponse> findBuckets(UUID patientId, VitalType type, Instant from, Instant to,
+            Duration bucket) {
+        return jdbcTemplate.query("""
+                SELECT date_bin(make_interval(secs => ?), recorded_at, %s) AS bucket,
+                       min(value) AS min_value, max(value) AS max_value, avg(value) AS avg_value,
+                       count(*) AS sample_count
+                FROM vital_signs
+                WHERE patient_id = ? AND vital_type = ? AND recorded_at >= ? AND recorded_at < ?
+                GROUP BY bucket
+                ORDER BY bucket
+                """.formatted(BUCKET_ORIGIN), BUCKET_MAPPER,
+                (double) bucket.toSeconds(), patientId, (short) type.ordinal(), utc(from), utc(to));
+    }
+
+    /**
+     * Same as {@link #findBuckets} but reads hourly rollups for the whole hours
+     * between {@code from} and {@code rolledUpUntil}, and raw readings for the
+     * rest: the partial hour at the start and everything after the last rolled
+     * up hour. Only valid for buckets that are a whole number of hours.
+     */
+    public List<VitalBucketResponse> findBucketsFromRollups(UUID patientId, VitalType type, Instant from,
+            Instant to, Duration bucket, Instant rolledUpUntil) {
+        Instant rollupFrom = from.truncatedTo(ChronoUnit.HOURS);
+        if (rollupFrom.isBefore(from)) {
+            rollupFrom = rollupFrom.plus(1, ChronoUnit.HOURS);
+        }
+        Instant rollupTo = (rolledUpUntil.isBefore(to) ? rolledUpUntil : to).truncatedTo(ChronoUnit.HOURS);
+        if (!rollupFrom.isBefore(rollupTo)) {
+            return findBuckets(patientId, type, from, to, bucket);
+        }
+        return jdbcTemplate.query("""
+                WITH points AS (
+                    SELECT recorded_at AS t, value AS mn, value AS mx, value AS sm, 1 AS cnt
+                    FROM vital_signs
+                    WHERE patient_id = ? AND vital_type = ? AND recorded_at >= ? AND recorded_at < ?
+                    UNION ALL
+                    SELECT bucket_start, min_value, max_value, sum_value, sample_count
+                    FROM vital_sign_rollups
+                    WHERE patient_id = ? AND vital_type = ? AND bucket_start >= ? AND bucket_start < ?
+                    UNION ALL
+                    SELECT recorded_at, value, value, value, 1
+                    FROM vital_signs
+                    WHERE patient_id = ? AND vital_type = ? AND recorded_at >= ? AND recorded_at < ?
+                )
+                SELECT date_bin(make_interval(secs => ?), t, %s) AS bucket,
+                       min(mn) AS min_value, max(mx) AS max_value, sum(sm) / sum(cnt) AS avg_value,
+                       sum(cnt) AS sample_count
+                FROM points
+                GROUP BY bucket
+                ORDER BY bucket
+                """.formatted(BUCKET_ORIGIN), BUCKET_MAPPER,
+                patientId, (short) type.ordinal(), utc(from), utc(rollupFrom),
+                patientId, (short) type.ordinal(), utc(rollupFrom), utc(rollupTo),
+                patientId, (short) type.ordinal(), utc(rollupTo), utc(to),
+                (double) bucket.toSeconds());
+    }
+
+    public List<VitalReadingResponse> findLatest(UUID patientId) {
+        // One index probe per type instead of scanning the patient's history
+        return jdbcTemplate.query("""
+                SELECT t.vital_type, v.recorded_at, v.value
+                FROM generate_series(0, ?) AS t(vital_type)
+                CROSS JOIN LATERAL (
+                    SELECT recorded_at, value FROM vital_signs
+                    WHERE patient_id = ? AND vital_type = t.vital_type
+                    ORDER BY recorded_at DESC
+                    LIMIT 1
+                ) v
+                ORDER BY t.vital_type
+                """, (rs, rowNum) -> VitalReadingResponse.builder()
+                .type(VitalType.values()[rs.getInt("vital_type")])
+                .recordedAt(rs.getObject("recorded_at", OffsetDateTime.class).toInstant())
+                .value(rs.getDouble("value"))
+                .build(),
+                VitalType.values().length - 1, patientId);
+    }
+
+    /**
+     * Create the watermark row if it is missing. It starts after the newest
+     * existing rollup, or at the oldest raw reading, so the first run of the
+     * rollup job covers everything not rolled up yet.
+     */
+    public void initRollupWatermark() {
+        jdbcTemplate.update("""
+                INSERT INTO vital_rollup_watermark (id, rolled_up_until)
+                SELECT 1, coalesce(
+                    (SELECT max(bucket_start) + INTERVAL '1 hour' FROM vital_sign_rollups),
+                    (SELECT date_bin(INTERVAL '1 hour', min(recorded_at), %1$s) FROM vital_signs),
+                    date_bin(INTERVAL '1 hour', now(), %1$s))
+                ON CONFLICT (id) DO NOTHING
+                """.formatted(BUCKET_ORIGIN));
+    }
+
+    public Instant findRollupWatermark() {
+        return jdbcTemplate.queryForObject("SELECT rolled_up_until FROM vital_rollup_watermark WHERE id = 1",
+                OffsetDateTime.class).toInstant();
+    }
+
+    /**
+     * Move the watermark forward to {@code until} and mark the hours it passes
+     * as due. Must be called inside a transaction: the exclusive lock waits for
+     * ingest still working against the old watermark, and ingest after the
+     * commit sees the new one, so no late reading goes unmarked.
+     */
+    public void advanceRollupWatermark(Instant until) {
+        jdbcTemplate.execute("SELECT pg_advisory_xact_lock(" + WATERMARK_LOCK + ")");
+        Instant previous = findRollupWatermark();
+        if (!previous.isBefore(until)) {
+            return;
+        }
+        jdbcTemplate.update("""
+                INSERT INTO vital_rollup_due_hours (bucket_start)
+                SELECT generate_series(?::timestamptz, ?::timestamptz - INTERVAL '1 hour', INTERVAL '1 hour')
+                """ + MARK_DUE, utc(previous), utc(until));
+        jdbcTemplate.update("UPDATE vital_rollup_watermark SET rolled_up_until = ? WHERE id = 1", utc(until));
+    }
+
+    /**
+     * Recompute the hourly rollups of the due hours before the watermark and
+     * clear them. Hours starting before {@code notBefore} are only cleared: raw
+     * retention may have removed part of their readings, and recomputing would
+     * shrink a complete rollup. Must be called inside a transaction.
+     *
+     * @return the number of hours cleared
+     */
+    public int rollupDueHours(Instant notBefore) {
+        // Locking first waits for ingest still marking these hours; the rollup
+        // below then reads a snapshot that includes its readings.
+        List<Instant> due = jdbcTemplate.queryForList("""
+                SELECT d.bucket_start FROM vital_rollup_due_hours d, vital_rollup_watermark w
+                WHERE w.id = 1 AND d.bucket_start < w.rolled_up_until
+                ORDER BY d.bucket_start
+                FOR UPDATE OF d
+                """, OffsetDateTime.class).stream().map(OffsetDateTime::toInstant).toList();
+        List<Instant> recomputed = due.stream().filter(hour -> !hour.isBefore(notBefore)).toList();
+        if (!recomputed.isEmpty()) {
+            Instant first = recomputed.get(0);
+            Instant last = recomputed.get(recomputed.size() - 1);
+            jdbcTemplate.update("""
+                    INSERT INTO vital_sign_rollups
+                        (patient_id, vital_type, bucket_start, min_value, max_value, sum_value, sample_count)
+                    SELECT patient_id, vital_type, date_bin(INTERVAL '1 hour', recorded_at, %1$s),
+                           min(value), max(value), sum(value), count(*)
+                    FROM vital_signs
+                    WHERE recorded_at >= ? AND recorded_at < ?
+                      AND date_bin(INTERVAL '1 hour', recorded_at, %1$s) IN (
+                          SELECT bucket_start FROM vital_rollup_due_hours WHERE bucket_start BETWEEN ? AND ?)
+                    GROUP BY 1, 2, 3
+                    ON CONFLICT (patient_id, vital_type, bucket_start) DO UPDATE SET
+                        min_value = EXCLUDED.min_value,
+                        max_value = EXCLUDED.max_value,
+                        sum_value = EXCLUDED.sum_value,
+                        sample_count = EXCLUDED.sample_count
+                    """.formatted(BUCKET_ORIGIN), utc(first), utc(last.plus(1, ChronoUnit.HOURS)),
+                    utc(first), utc(last));
+        }
+        // Only the hours locked above: a mark added since covers readings this rollup may have missed
+        jdbcTemplate.batchUpdate("DELETE FROM vital_rollup_due_hours WHERE bucket_start = ?", due, due.size(),
+                (ps, hour) -> ps.setObject(1, utc(hour)));
+        return due.size();
+    }
+
+    public int deleteReadingsBefore(Instant cutoff, int batchSize) {
+        return jdbcTemplate.update("""
+                DELETE FROM vital_signs WHERE ctid IN (
+                    SELECT ctid FROM vital_signs WHERE recorded_at < ? LIMIT ?)
+                """, utc(cutoff), batchSize);
+    }
+
+    public int deleteRollupsBefore(Instant cutoff, int batchSize) {
+        return jdbcTemplate.update("""
+                DELETE FROM vital_sign_rollups WHERE ctid IN (
+                    SELECT ctid FROM vital_sign_rollups WHERE bucket_start < ? LIMIT ?)
+                """, utc(cutoff), batchSize);
+    }
+
+    private void lockWatermarkShared() {
+        jdbcTemplate.execute("SELECT pg_advisory_xact_lock_shared(" + WATERMARK_LOCK + ")");
+    }
+
+    /**
+     * Mark hours before the rollup watermark that just received readings, so
+     * the next rollup run recomputes them. Touching an existing mark locks it
+     * until the inserting transaction commits, which keeps the rollup job from
+     * clearing it before these readings are visible.
+     */
+    private void markLateHours(List<Instant> hours) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO vital_rollup_due_hours (bucket_start)
+                SELECT ?::timestamptz FROM vital_rollup_watermark WHERE id = 1 AND ?::timestamptz < rolled_up_until
+                """ + MARK_DUE, hours, hours.size(), (ps, hour) -> {
+                    ps.setObject(1, utc(hour));
+                    ps.setObject(2, utc(hour));
+                });
+    }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+}
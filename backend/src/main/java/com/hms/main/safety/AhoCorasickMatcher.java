@@ -0,0 +1,207 @@
+package com.hms.main.safety;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable Aho-Corasick automaton that finds every dictionary term in a text
+ * in a single pass, independent of the number of terms.
+ * <p>
+ * Terms and texts are normalized the same way (lower case, every run of
+ * characters other than letters and digits collapsed into one space), and
+ * only whole-word matches are reported, so "co-amoxiclav" matches
+ * "Co Amoxiclav 625mg" but "aspirin" does not match "aspirinate".
+ * <p>
+ * Instances are safe to share between threads. To change the dictionary,
+ * build a new instance and swap it in.
+ *
+ * @param <T> payload attached to each term
+ */
+public final class AhoCorasickMatcher<T> {
+
+    public record Match<T>(String term, T payload) {
+    }
+
+    private static final int ROOT = 0;
+    private static final char[] NO_KEYS = new char[0];
+    private static final int[] NO_TARGETS = new int[0];
+
+    // Children of each state, keys sorted for binary search
+    private final char[][] keys;
+    private final int[][] targets;
+    private final int[] failure;
+    // Term ending at each state, or -1
+    private final int[] terminal;
+    // Nearest state on the failure chain that ends a term, or -1
+    private final int[] outputLink;
+    private final int[] depth;
+    private final String[] terms;
+    private final List<T> payloads;
+
+    private AhoCorasickMatcher(char[][] keys, int[][] targets, int[] failure, int[] terminal, int[] outputLink,
+            int[] depth, String[] terms, List<T> payloads) {
+        this.keys = keys;
+        this.targets = targets;
+        this.failure = failure;
+        this.terminal = terminal;
+        this.outputLink = outputLink;
+        this.depth = depth;
+        this.terms = terms;
+        this.payloads = payloads;
+    }
+
+    /**
+     * Build an automaton over the given terms. Blank terms are ignored; when
+     * several terms normalize to the same text, the last one wins.
+     */
+    public static <T> AhoCorasickMatcher<T> build(Map<String, T> dictionary) {
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Integer> terminalStates = new ArrayList<>();
+        List<Integer> depths = new ArrayList<>();
+        List<String> termList = new ArrayList<>();
+        List<T> payloadList = new ArrayList<>();
+        children.add(new TreeMap<>());
+        terminalStates.add(-1);
+        depths.add(0);
+
+        for (Map.Entry<String, T> entry : dictionary.entrySet()) {
+            String term = normalize(entry.getKey());
+            if (term.isEmpty()) {
+                continue;
+            }
+            int state = ROOT;
+            for (int i = 0; i < term.length(); i++) {
+                Integer next = children.get(state).get(term.charAt(i));
+                if (next == null) {
+                    next = children.size();
+                    children.add(new TreeMap<>());
+                    terminalStates.add(-1);
+                    depths.add(depths.get(state) + 1);
+                    children.get(state).put(term.charAt(i), next);
+                }
+                state = next;
+            }
+            if (terminalStates.get(state) >= 0) {
+                payloadList.set(terminalStates.get(state), entry.getValue());
+            } else {
+                terminalStates.set(state, termList.size());
+                termList.add(term);
+                payloadList.add(entry.getValue());
+            }
+        }
+
+        int size = children.size();
+        char[][] keys = new char[size][];
+        int[][] targets = new int[size][];
+        int[] terminal = new int[size];
+        int[] depth = new int[size];
+        for (int state = 0; state < size; state++) {
+            TreeMap<Character, Integer> edges = children.get(state);
+            keys[state] = edges.isEmpty() ? NO_KEYS : new char[edges.size()];
+            targets[state] = edges.isEmpty() ? NO_TARGETS : new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                keys[state][i] = edge.getKey();
+                targets[state][i] = edge.getValue();
+                i++;
+            }
+            terminal[state] = terminalStates.get(state);
+            depth[state] = depths.get(state);
+        }
+
+        // Breadth-first, so every failure target is finished before it is used
+        int[] failure = new int[size];
+        int[] outputLink = new int[size];
+        Arrays.fill(outputLink, -1);
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[ROOT]) {
+            failure[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < keys[state].length; i++) {
+                char c = keys[state][i];
+                int child = targets[state][i];
+                int fallback = failure[state];
+                while (fallback != ROOT && step(keys, targets, fallback, c) < 0) {
+                    fallback = failure[fallback];
+                }
+                int next = step(keys, targets, fallback, c);
+                failure[child] = next >= 0 && next != child ? next : ROOT;
+                outputLink[child] = terminal[failure[child]] >= 0 ? failure[child] : outputLink[failure[child]];
+                queue.add(child);
+            }
+        }
+
+        return new AhoCorasickMatcher<>(keys, targets, failure, terminal, outputLink, depth,
+                termList.toArray(String[]::new), List.copyOf(payloadList));
+    }
+
+    /**
+     * Find every whole-word occurrence of a dictionary term in the text. A
+     * term occurring several times is reported once per occurrence.
+     */
+    public List<Match<T>> findAll(CharSequence text) {
+        String normalized = normalize(text);
+        List<Match<T>> matches = new ArrayList<>();
+        int state = ROOT;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            int next;
+            while ((next = step(keys, targets, state, c)) < 0 && state != ROOT) {
+                state = failure[state];
+            }
+            state = Math.max(next, ROOT);
+
+            boolean endsWord = i + 1 == normalized.length() || normalized.charAt(i + 1) == ' ';
+            if (!endsWord) {
+                continue;
+            }
+            for (int out = terminal[state] >= 0 ? state : outputLink[state]; out >= 0; out = outputLink[out]) {
+                int start = i + 1 - depth[out];
+                if (start == 0 || normalized.charAt(start - 1) == ' ') {
+                    int term = terminal[out];
+                    matches.add(new Match<>(terms[term], payloads.get(term)));
+                }
+            }
+        }
+        return matches;
+    }
+
+    public int size() {
+        return terms.length;
+    }
+
+    /**
+     * Lower-case the text and collapse every run of characters other than
+     * letters and digits into a single space.
+     */
+    public static String normalize(CharSequence text) {
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && !normalized.isEmpty()) {
+                    normalized.append(' ');
+                }
+                pendingSpace = false;
+                normalized.append(Character.toLowerCase(c));
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static int step(char[][] keys, int[][] targets, int state, char c) {
+        int index = Arrays.binarySearch(keys[state], c);
+        return index >= 0 ? targets[state][index] : -1;
+    }
+}
@@ -10,6 +10,9 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.hms.main.observability.AuthMetrics;
+import com.hms.main.observability.Span;
+import com.hms.main.observability.Tracing;
 import com.hms.main.service.JwtService;
 
 import jakarta.servlet.FilterChain;
@@ -26,6 +29,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final UserDetailsService userDetailsService;
 
+    private final AuthMetrics authMetrics;
+
     @Override
     protected void doFilterInternal(
             @NonNull HttpServletRequest request,
@@ -33,27 +38,50 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain)
             throws ServletException, IOException {
 
+        // Timed up to the rest of the chain, so only the filter's own work is measured
+        long start = System.nanoTime();
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
         final String userEmail;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            authMetrics.recordFilter(AuthMetrics.ANONYMOUS, System.nanoTime() - start);
             filterChain.doFilter(request, response);
             return;
         }
-        jwt = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(jwt);
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-            Object credentials = null;
-            if (jwtService.isTokenValid(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails,
-                        credentials, userDetails.getAuthorities());
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+        String outcome = AuthMetrics.REJECTED;
+        Span span = Tracing.start("jwt.authenticate", "security");
+        try {
+            jwt = authHeader.substring(7);
+            userEmail = jwtService.extractUsername(jwt);
+            if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                UserDetails userDetails;
+                Span lookup = Tracing.start("user_details.load", "security");
+                try {
+                    userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+                } finally {
+                    lookup.close();
+                }
+                Object credentials = null;
+                if (jwtService.isTokenValid(jwt, userDetails)) {
+                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails,
+                            credentials, userDetails.getAuthorities());
+                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                    outcome = AuthMetrics.AUTHENTICATED;
+                } else {
+                    authMetrics.recordTokenFailure(null);
+                }
+            } else if (userEmail != null) {
+                outcome = AuthMetrics.AUTHENTICATED;
             }
-            ;
-
+        } catch (RuntimeException e) {
+            authMetrics.recordTokenFailure(e);
+            span.error(e);
+            throw e;
+        } finally {
+            authMetrics.recordFilter(outcome, System.nanoTime() - start);
+            span.tag("outcome", outcome).close();
         }
         filterChain.doFilter(request, response);
     }
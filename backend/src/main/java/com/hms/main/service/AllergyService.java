@@ -0,0 +1,19 @@
+package com.hms.main.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.hms.main.dto.request.AllergyRequest;
+import com.hms.main.dto.response.AllergyResponse;
+import com.hms.main.entity.User;
+
+public interface AllergyService {
+
+    List<AllergyResponse> getAllergies(User currentUser, UUID patientId);
+
+    AllergyResponse createAllergy(User currentUser, UUID patientId, AllergyRequest request);
+
+    AllergyResponse updateAllergy(User currentUser, UUID allergyId, AllergyRequest request);
+
+    void deleteAllergy(User currentUser, UUID allergyId);
+}
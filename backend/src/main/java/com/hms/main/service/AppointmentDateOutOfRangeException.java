@@ -0,0 +1,13 @@
+package com.hms.main.service;
+
+/**
+ * Thrown when an appointment falls in a month that has no partition and cannot
+ * get one: archived months and months beyond the booking horizon. Reported to
+ * clients as 400.
+ */
+public class AppointmentDateOutOfRangeException extends RuntimeException {
+
+    public AppointmentDateOutOfRangeException(String message) {
+        super(message);
+    }
+}
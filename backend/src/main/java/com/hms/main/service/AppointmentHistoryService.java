@@ -0,0 +1,24 @@
+package com.hms.main.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import com.hms.main.dto.response.AppointmentResponse;
+import com.hms.main.entity.User;
+
+public interface AppointmentHistoryService {
+
+    /**
+     * Get a patient's appointments within a date range, newest first.
+     *
+     * @param currentUser     the authenticated user
+     * @param patientId       the patient's UUID
+     * @param from            first appointment date to include
+     * @param to              last appointment date to include
+     * @param includeArchived whether to also read archived partitions (slower)
+     * @return the appointments in the range
+     */
+    List<AppointmentResponse> getPatientHistory(User currentUser, UUID patientId, LocalDate from, LocalDate to,
+            boolean includeArchived);
+}
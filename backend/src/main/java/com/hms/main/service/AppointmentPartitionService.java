@@ -0,0 +1,44 @@
+package com.hms.main.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+public interface AppointmentPartitionService {
+
+    /**
+     * Creates the appointments table from db/appointments-schema.sql if it does
+     * not exist and creates the upcoming monthly partitions.
+     *
+     * @throws IllegalStateException if the table exists but is not partitioned
+     */
+    void ensurePartitioning();
+
+    /**
+     * Creates the monthly partitions between the given months (inclusive) that
+     * do not exist yet. Rows still sitting in a default partition left by an
+     * earlier conversion for those months are moved into the new partition.
+     *
+     * @param from first month to create
+     * @param to   last month to create
+     */
+    void ensurePartitions(YearMonth from, YearMonth to);
+
+    /**
+     * Makes sure the monthly partition for an appointment date exists, creating
+     * it in the current transaction if needed.
+     *
+     * @param appointmentDate date of the appointment about to be inserted
+     * @throws AppointmentDateOutOfRangeException if the month is archived or
+     *         too far ahead to get a partition
+     */
+    void ensurePartitionFor(LocalDate appointmentDate);
+
+    /**
+     * Detaches partitions older than the configured age concurrently and moves
+     * them into the archive schema, where they remain queryable through the
+     * archive read path.
+     *
+     * @return the number of partitions archived
+     */
+    int archiveOldPartitions();
+}
@@ -0,0 +1,28 @@
+package com.hms.main.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.hms.main.dto.response.ClinicalSummaryResponse;
+import com.hms.main.entity.User;
+
+public interface ClinicalSummaryService {
+
+    ClinicalSummaryResponse getSummary(User currentUser, UUID patientId);
+
+    /**
+     * Summaries for a triage list. Cached patients are served from memory and
+     * all the others are loaded together in batched queries.
+     *
+     * @return summaries keyed by patient id, in request order
+     */
+    Map<UUID, ClinicalSummaryResponse> getSummaries(User currentUser, List<UUID> patientIds);
+
+    /**
+     * Same as {@link #getSummaries(User, List)} without access checks, for
+     * other services.
+     */
+    Map<UUID, ClinicalSummaryResponse> getSummaries(Collection<UUID> patientIds);
+}
@@ -1,6 +1,8 @@
 package com.hms.main.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import com.hms.main.dto.request.CreateDoctorRequest;
@@ -16,4 +18,22 @@ public interface DoctorService {
     void deleteDoctor(User currentUser, UUID doctorId);
 
     List<DoctorResponse> getAllDoctors();
+
+    /**
+     * All doctors with only the requested fields, e.g. {@code id,specialty,user.fullName}.
+     * Only the matching columns are read, and schedules only when asked for.
+     *
+     * @throws IllegalArgumentException for an unknown field
+     */
+    List<Map<String, Object>> getAllDoctors(Set<String> fields);
+
+    /**
+     * The fields {@link #getAllDoctors(Set)} returns for a selection, in a
+     * canonical order.
+     *
+     * @throws IllegalArgumentException for an unknown field
+     */
+    List<String> resolveDoctorFields(Set<String> fields);
+
+    DoctorResponse getDoctorById(UUID doctorId);
 }
@@ -0,0 +1,26 @@
+package com.hms.main.service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import com.hms.main.dto.request.DrugClassSynonymRequest;
+import com.hms.main.dto.response.DrugClassSynonymResponse;
+import com.hms.main.entity.User;
+import com.hms.main.safety.AhoCorasickMatcher;
+
+public interface DrugVocabularyService {
+
+    /**
+     * The current automaton over every known term, each term carrying the drug
+     * classes it belongs to. Drug class names are terms of their own class.
+     * Never blocks; a vocabulary change swaps in a new instance.
+     */
+    AhoCorasickMatcher<Set<String>> getMatcher();
+
+    List<DrugClassSynonymResponse> getAllSynonyms();
+
+    DrugClassSynonymResponse addSynonym(User currentUser, DrugClassSynonymRequest request);
+
+    void deleteSynonym(User currentUser, UUID id);
+}
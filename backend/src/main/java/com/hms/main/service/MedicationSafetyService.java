@@ -0,0 +1,17 @@
+package com.hms.main.service;
+
+import java.util.UUID;
+
+import com.hms.main.dto.request.MedicationCheckRequest;
+import com.hms.main.dto.response.MedicationCheckResponse;
+import com.hms.main.entity.User;
+
+public interface MedicationSafetyService {
+
+    /**
+     * Match a medication's name and ingredients against the patient's
+     * allergies, directly and through shared drug classes. Cheap enough to run
+     * synchronously before a medication or appointment is saved.
+     */
+    MedicationCheckResponse check(User currentUser, UUID patientId, MedicationCheckRequest request);
+}
@@ -0,0 +1,31 @@
+package com.hms.main.service;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+
+import com.hms.main.dto.request.NoteSource;
+import com.hms.main.dto.response.NoteSearchResponse;
+import com.hms.main.entity.User;
+
+public interface NoteSearchService {
+
+    /**
+     * Full-text search over clinical notes, most relevant first. The query
+     * accepts quoted phrases, {@code or}, {@code -word} and {@code word*}
+     * prefixes. Patients only see their own records and doctors only see
+     * their appointments and the allergies of patients they have seen.
+     *
+     * @param currentUser the authenticated user
+     * @param query       the search text
+     * @param sources     which notes to search
+     * @param patientId   optional patient filter
+     * @param doctorId    optional doctor filter
+     * @param from        optional first day, inclusive
+     * @param to          optional last day, inclusive
+     * @param page        zero-based page number
+     * @param size        page size
+     */
+    NoteSearchResponse searchNotes(User currentUser, String query, Set<NoteSource> sources, UUID patientId,
+            UUID doctorId, LocalDate from, LocalDate to, int page, int size);
+}
@@ -0,0 +1,25 @@
+package com.hms.main.service;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import com.hms.main.dto.request.ChartSection;
+import com.hms.main.dto.response.PatientChartResponse;
+import com.hms.main.entity.User;
+
+public interface PatientChartService {
+
+    /**
+     * Get a patient's chart in one call. The requested sections are loaded
+     * concurrently, each with its own timeout; a section that fails or times
+     * out is reported in {@link PatientChartResponse#getFailedSections()}
+     * instead of failing the whole chart.
+     *
+     * @param currentUser the authenticated user
+     * @param patientId   the patient's UUID
+     * @param sections    the sections to load
+     * @return the chart, or empty if the profile was requested and the patient does not exist
+     */
+    Optional<PatientChartResponse> getChart(User currentUser, UUID patientId, Set<ChartSection> sections);
+}
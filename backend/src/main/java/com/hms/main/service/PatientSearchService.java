@@ -0,0 +1,21 @@
+package com.hms.main.service;
+
+import com.hms.main.dto.response.user.UserSliceResponse;
+import com.hms.main.entity.User;
+
+public interface PatientSearchService {
+
+    /**
+     * Search patients by a single free-text query. An email address or phone
+     * number is looked up exactly, a date (yyyy-MM-dd or dd/MM/yyyy) matches
+     * the date of birth, and anything else is a ranked, typo-tolerant name
+     * search.
+     *
+     * @param currentUser the authenticated user; patients cannot search
+     * @param query       the search text
+     * @param page        zero-based page number
+     * @param size        page size
+     * @return one page of matches, best first
+     */
+    UserSliceResponse searchPatients(User currentUser, String query, int page, int size);
+}
@@ -0,0 +1,10 @@
+package com.hms.main.service;
+
+import java.util.List;
+
+import com.hms.main.dto.response.ServiceResponse;
+
+public interface ServiceCatalogService {
+
+    List<ServiceResponse> getAllServices();
+}
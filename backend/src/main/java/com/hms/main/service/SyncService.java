@@ -0,0 +1,30 @@
+package com.hms.main.service;
+
+import java.util.UUID;
+
+import com.hms.main.dto.response.SyncResponse;
+import com.hms.main.entity.User;
+import com.hms.main.entity.enums.SyncCollection;
+
+public interface SyncService {
+
+    /**
+     * Changes to a collection since a watermark returned by an earlier call.
+     * Without a watermark, the whole collection is returned page by page.
+     *
+     * @param currentUser the authenticated user
+     * @param collection  the collection to sync
+     * @param since       the previous watermark, or null for a full sync
+     * @param limit       maximum number of changes and deletions in the page
+     * @throws IllegalArgumentException if the watermark or limit is invalid
+     * @throws IllegalStateException    if tombstones the watermark still needs have been purged
+     */
+    SyncResponse<Object> getChanges(User currentUser, SyncCollection collection, String since, int limit);
+
+    /**
+     * Record a deletion for sync clients. Call in the deleting transaction.
+     *
+     * @param ownerId the patient the record belonged to, if any
+     */
+    void recordDeletion(SyncCollection collection, UUID entityId, UUID ownerId);
+}
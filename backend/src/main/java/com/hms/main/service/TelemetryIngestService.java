@@ -0,0 +1,38 @@
+package com.hms.main.service;
+
+import java.util.List;
+
+import com.hms.main.dto.request.VitalReadingRequest;
+
+public interface TelemetryIngestService {
+
+    /**
+     * Queue readings for asynchronous, batched storage. The readings are
+     * accepted all together or not at all. Queued readings live only in
+     * memory: they are written within the flush interval, retried a few times
+     * on database errors, drained on graceful shutdown, and lost if the node
+     * crashes first.
+     *
+     * @param readings the readings to queue
+     * @return true if queued, false if the buffer is full and the caller should back off
+     */
+    boolean enqueue(List<VitalReadingRequest> readings);
+
+    /**
+     * Store readings synchronously, bypassing the buffer.
+     *
+     * @param readings the readings to store
+     * @return the number of readings stored once the transaction has committed
+     */
+    int storeNow(List<VitalReadingRequest> readings);
+
+    /**
+     * @return the number of readings accepted but not yet written
+     */
+    int getQueuedCount();
+
+    /**
+     * @return the number of accepted readings dropped after exhausting retries
+     */
+    long getDroppedCount();
+}
@@ -0,0 +1,19 @@
+package com.hms.main.service;
+
+import com.hms.main.dto.response.user.UserCountEstimateResponse;
+
+public interface UserCountEstimateService {
+
+    /**
+     * Get the cached estimate of the number of users. The estimate is refreshed
+     * periodically from the planner statistics instead of counting rows.
+     *
+     * @return the latest estimate
+     */
+    UserCountEstimateResponse getEstimate();
+
+    /**
+     * Refresh the cached estimate.
+     */
+    void refresh();
+}
@@ -2,11 +2,15 @@ package com.hms.main.service;
 
 import com.hms.main.dto.request.user.CreateUserRequest;
 import com.hms.main.dto.request.user.UpdateUserRequest;
+import com.hms.main.dto.response.FieldSliceResponse;
 import com.hms.main.dto.response.user.UserResponse;
+import com.hms.main.dto.response.user.UserSliceResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface UserService {
@@ -19,6 +23,23 @@ public interface UserService {
      */
     Page<UserResponse> getAllUsers(Pageable pageable);
 
+    /**
+     * Get a slice of users without counting the whole table.
+     *
+     * @param pageable pagination information; may only sort on indexed columns
+     * @return the users in the slice and whether another slice follows
+     */
+    UserSliceResponse getUserSlice(Pageable pageable);
+
+    /**
+     * Get the next page of users ordered by creation time, using keyset paging.
+     *
+     * @param cursor cursor returned by the previous page, or null for the first page
+     * @param size   maximum number of users to return
+     * @return the users in the page and the cursor for the next one
+     */
+    UserSliceResponse getUsersAfter(String cursor, int size);
+
     /**
      * Get a single user by ID.
      *
@@ -27,6 +48,28 @@ public interface UserService {
      */
     Optional<UserResponse> getUserById(UUID id);
 
+    /**
+     * Get a user's optimistic lock version without loading the row, for ETags.
+     *
+     * @param id UUID of the user
+     * @return the version, or empty if the user does not exist
+     */
+    Optional<Long> getUserVersion(UUID id);
+
+    /**
+     * Get a user with only the requested fields, reading only those columns.
+     *
+     * @throws IllegalArgumentException for an unknown field
+     */
+    Optional<Map<String, Object>> getUserFields(UUID id, Set<String> fields);
+
+    /**
+     * Get a page of users, oldest first, with only the requested fields.
+     *
+     * @throws IllegalArgumentException for an unknown field or an invalid page size
+     */
+    FieldSliceResponse getUserFields(Set<String> fields, int page, int size);
+
     /**
      * Create a new user.
      *
@@ -39,11 +82,25 @@ public interface UserService {
      * Update an existing user.
      *
      * @param id      the user's UUID
-     * @param request DTO containing user update data
+     * @param request DTO containing user update data and the version the client last read
      * @return an Optional containing the updated UserResponse if the user exists
+     * @throws IllegalArgumentException if the version is missing
+     * @throws org.springframework.orm.ObjectOptimisticLockingFailureException if the version is stale
      */
     Optional<UserResponse> updateUser(UUID id, UpdateUserRequest request);
 
+    /**
+     * Partially update an existing user. Null fields in the request are left
+     * unchanged and only the modified columns are written.
+     *
+     * @param id      the user's UUID
+     * @param request DTO containing the fields to change and the version the client last read
+     * @return an Optional containing the updated UserResponse if the user exists
+     * @throws IllegalArgumentException if the version is missing
+     * @throws org.springframework.orm.ObjectOptimisticLockingFailureException if the version is stale
+     */
+    Optional<UserResponse> patchUser(UUID id, UpdateUserRequest request);
+
     /**
      * Delete a user by ID.
      *
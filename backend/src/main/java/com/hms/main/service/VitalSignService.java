@@ -0,0 +1,47 @@
+package com.hms.main.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import com.hms.main.dto.request.VitalReadingRequest;
+import com.hms.main.dto.response.VitalReadingResponse;
+import com.hms.main.dto.response.VitalSeriesResponse;
+import com.hms.main.entity.User;
+import com.hms.main.entity.enums.VitalType;
+
+public interface VitalSignService {
+
+    /**
+     * Store a batch of readings, possibly for several patients.
+     *
+     * @param currentUser the authenticated user
+     * @param readings    the readings to store
+     * @return the number of readings stored; duplicates are skipped
+     */
+    int ingest(User currentUser, List<VitalReadingRequest> readings);
+
+    /**
+     * Get one vital of a patient over a time range, aggregated per bucket.
+     *
+     * @param currentUser the authenticated user
+     * @param patientId   the patient's UUID
+     * @param type        the vital to read
+     * @param from        start of the range, inclusive
+     * @param to          end of the range, exclusive
+     * @param bucket      requested bucket width, or null to pick one from the range
+     * @return min, max and average per bucket
+     */
+    VitalSeriesResponse getSeries(User currentUser, UUID patientId, VitalType type, Instant from, Instant to,
+            Duration bucket);
+
+    /**
+     * Get the most recent reading of each vital type for a patient.
+     *
+     * @param currentUser the authenticated user
+     * @param patientId   the patient's UUID
+     * @return one reading per type that has any readings
+     */
+    List<VitalReadingResponse> getLatest(User currentUser, UUID patientId);
+}
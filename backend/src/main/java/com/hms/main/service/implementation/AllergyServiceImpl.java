@@ -0,0 +1,113 @@
+package com.hms.main.service.implementation;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hms.main.cache.CacheEntityType;
+import com.hms.main.cache.CacheInvalidationBus;
+import com.hms.main.dto.request.AllergyRequest;
+import com.hms.main.dto.response.AllergyResponse;
+import com.hms.main.entity.Allergy;
+import com.hms.main.entity.User;
+import com.hms.main.entity.enums.Roles;
+import com.hms.main.entity.enums.SyncCollection;
+import com.hms.main.mapper.AllergyMapper;
+import com.hms.main.repository.AllergyRepository;
+import com.hms.main.repository.UserRepository;
+import com.hms.main.service.AllergyService;
+import com.hms.main.service.SyncService;
+
+@Service
+public class AllergyServiceImpl implements AllergyService {
+
+    private final AllergyRepository allergyRepository;
+    private final UserRepository userRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final SyncService syncService;
+
+    public AllergyServiceImpl(AllergyRepository allergyRepository, UserRepository userRepository,
+            CacheInvalidationBus cacheInvalidationBus, SyncService syncService) {
+        this.allergyRepository = allergyRepository;
+        this.userRepository = userRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.syncService = syncService;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AllergyResponse> getAllergies(User currentUser, UUID patientId) {
+        checkAccess(currentUser, patientId);
+        return allergyRepository.findByPatientId(patientId).stream()
+                .sorted(Comparator.comparing(Allergy::getSeverity).reversed())
+                .map(AllergyMapper::toResponse)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public AllergyResponse createAllergy(User currentUser, UUID patientId, AllergyRequest request) {
+        checkAccess(currentUser, patientId);
+        validate(request);
+        User patient = userRepository.findById(patientId)
+                .orElseThrow(() -> new RuntimeException("Patient not found"));
+
+        Allergy allergy = new Allergy();
+        allergy.setPatient(patient);
+        apply(allergy, request);
+        Allergy saved = allergyRepository.save(allergy);
+        cacheInvalidationBus.publish(CacheEntityType.CLINICAL_RECORD, patientId);
+        return AllergyMapper.toResponse(saved);
+    }
+
+    @Override
+    @Transactional
+    public AllergyResponse updateAllergy(User currentUser, UUID allergyId, AllergyRequest request) {
+        Allergy allergy = allergyRepository.findById(allergyId)
+                .orElseThrow(() -> new RuntimeException("Allergy not found"));
+        UUID patientId = allergy.getPatient().getId();
+        checkAccess(currentUser, patientId);
+        validate(request);
+
+        apply(allergy, request);
+        Allergy saved = allergyRepository.save(allergy);
+        cacheInvalidationBus.publish(CacheEntityType.CLINICAL_RECORD, patientId);
+        return AllergyMapper.toResponse(saved);
+    }
+
+    @Override
+    @Transactional
+    public void deleteAllergy(User currentUser, UUID allergyId) {
+        Allergy allergy = allergyRepository.findById(allergyId)
+                .orElseThrow(() -> new RuntimeException("Allergy not found"));
+        UUID patientId = allergy.getPatient().getId();
+        checkAccess(currentUser, patientId);
+
+        allergyRepository.delete(allergy);
+        syncService.recordDeletion(SyncCollection.ALLERGIES, allergyId, patientId);
+        cacheInvalidationBus.publish(CacheEntityType.CLINICAL_RECORD, patientId);
+    }
+
+    private static void checkAccess(User currentUser, UUID patientId) {
+        if (currentUser.getRole() == Roles.PATIENT && !currentUser.getId().equals(patientId)) {
+            throw new RuntimeException("Patients can only manage their own allergies");
+        }
+    }
+
+    private static void validate(AllergyRequest request) {
+        if (request.getName() == null || request.getName().isBlank() || request.getSeverity() == null) {
+            throw new IllegalArgumentException("name and severity are required");
+        }
+    }
+
+    private static void apply(Allergy allergy, AllergyRequest request) {
+        allergy.setName(request.getName().trim());
+        allergy.setSeverity(request.getSeverity());
+        allergy.setReaction(request.getReaction());
+        allergy.setDateOfDiagnosis(request.getDateOfDiagnosis());
+        allergy.setNotes(request.getNotes());
+    }
+}
@@ -0,0 +1,53 @@
+package com.hms.main.service.implementation;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hms.main.dto.response.AppointmentResponse;
+import com.hms.main.entity.User;
+import com.hms.main.entity.enums.Roles;
+import com.hms.main.mapper.AppointmentMapper;
+import com.hms.main.repository.AppointmentArchiveRepository;
+import com.hms.main.repository.AppointmentRepository;
+import com.hms.main.service.AppointmentHistoryService;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class AppointmentHistoryServiceImpl implements AppointmentHistoryService {
+
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentArchiveRepository appointmentArchiveRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AppointmentResponse> getPatientHistory(User currentUser, UUID patientId, LocalDate from,
+            LocalDate to, boolean includeArchived) {
+        if (currentUser.getRole() == Roles.PATIENT && !currentUser.getId().equals(patientId)) {
+            throw new RuntimeException("Patients can only view their own appointments");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+
+        List<AppointmentResponse> history = new ArrayList<>(appointmentRepository
+                .findPatientHistory(patientId, from, to).stream()
+                .map(AppointmentMapper::toResponse)
+                .toList());
+
+        if (includeArchived) {
+            history.addAll(appointmentArchiveRepository.findPatientHistory(patientId, from, to));
+            history.sort(Comparator.comparing(AppointmentResponse::getAppointmentDate)
+                    .thenComparing(AppointmentResponse::getStartTime)
+                    .reversed());
+        }
+        return history;
+    }
+}
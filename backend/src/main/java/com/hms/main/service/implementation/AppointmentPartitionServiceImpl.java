@@ -0,0 +1,330 @@
+package com.hms.main.service.implementation;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import com.hms.main.service.AppointmentDateOutOfRangeException;
+import com.hms.main.service.AppointmentPartitionService;
+
+@Service
+public class AppointmentPartitionServiceImpl implements AppointmentPartitionService {
+
+    private static final Logger log = LoggerFactory.getLogger(AppointmentPartitionServiceImpl.class);
+
+    private static final String TABLE = "appointments";
+    private static final ClassPathResource SCHEMA_SCRIPT = new ClassPathResource("db/appointments-schema.sql");
+    // Only tables converted at runtime by earlier releases still have one; see retireDefaultPartition.
+    private static final String DEFAULT_PARTITION = "appointments_default";
+    private static final String MAINTENANCE_LOCK = "hashtext('appointments_partitioning')";
+    private static final Pattern PARTITION_NAME = Pattern.compile("appointments_p(\\d{4})_(\\d{2})");
+    // Stored columns only; generated columns such as notes_tsv cannot be inserted into
+    private static final String COLUMNS = "id, patient_id, doctor_id, service_id, appointment_date, start_time, "
+            + "end_time, status, amount, payment_status, notes, created_at, updated_at, version";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final int maxMonthsAhead;
+    private final int archiveAfterMonths;
+    private final String archiveSchema;
+    private final String exportDir;
+    // Months whose partition was seen to exist, so inserts skip the catalog lookup
+    private final Set<YearMonth> knownPartitions = ConcurrentHashMap.newKeySet();
+
+    public AppointmentPartitionServiceImpl(JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${hms.appointments.partitioning.months-ahead:3}") int monthsAhead,
+            @Value("${hms.appointments.partitioning.max-months-ahead:24}") int maxMonthsAhead,
+            @Value("${hms.appointments.archive.after-months:24}") int archiveAfterMonths,
+            @Value("${hms.appointments.archive.schema:appointments_archive}") String archiveSchema,
+            @Value("${hms.appointments.archive.export-dir:}") String exportDir) {
+        if (!archiveSchema.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalStateException("Invalid archive schema name: " + archiveSchema);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.monthsAhead = monthsAhead;
+        this.maxMonthsAhead = maxMonthsAhead;
+        this.archiveAfterMonths = archiveAfterMonths;
+        this.archiveSchema = archiveSchema;
+        this.exportDir = exportDir;
+    }
+
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        ensurePartitioning();
+    }
+
+    @Scheduled(cron = "${hms.appointments.partitioning.cron:0 15 2 * * *}")
+    public void runMaintenance() {
+        YearMonth current = YearMonth.now();
+        ensurePartitions(current, current.plusMonths(monthsAhead));
+        archiveOldPartitions();
+    }
+
+    @Override
+    public void ensurePartitioning() {
+        transactionTemplate.executeWithoutResult(status -> {
+            lockMaintenance();
+            // create-drop runs the drop script but not this one; update and none
+            // leave an existing table alone.
+            if (!relationExists("public." + TABLE)) {
+                log.info("Creating {} from {}", TABLE, SCHEMA_SCRIPT.getPath());
+                jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                    ScriptUtils.executeSqlScript(connection, SCHEMA_SCRIPT);
+                    return null;
+                });
+            } else if (!isPartitioned()) {
+                throw new IllegalStateException("Table " + TABLE + " is not partitioned; recreate it from "
+                        + SCHEMA_SCRIPT.getPath());
+            }
+        });
+        YearMonth current = YearMonth.now();
+        ensurePartitions(current, current.plusMonths(monthsAhead));
+        retireDefaultPartition();
+    }
+
+    @Override
+    public void ensurePartitions(YearMonth from, YearMonth to) {
+        transactionTemplate.executeWithoutResult(status -> {
+            lockMaintenance();
+            for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+                createPartition(month);
+            }
+        });
+    }
+
+    @Override
+    public void ensurePartitionFor(LocalDate appointmentDate) {
+        YearMonth month = YearMonth.from(appointmentDate);
+        if (knownPartitions.contains(month)) {
+            return;
+        }
+        YearMonth current = YearMonth.now();
+        if (month.isAfter(current.plusMonths(maxMonthsAhead))) {
+            throw new AppointmentDateOutOfRangeException(
+                    "Appointments can be booked at most " + maxMonthsAhead + " months ahead");
+        }
+        String partition = partitionName(month);
+        if (month.isBefore(current.minusMonths(archiveAfterMonths))
+                || relationExists(archiveSchema + "." + partition)) {
+            throw new AppointmentDateOutOfRangeException("Appointments of " + month + " are archived");
+        }
+        if (!relationExists("public." + partition)) {
+            // Joins the caller's transaction: a separate one would wait on the
+            // caller's own locks on the parent table.
+            lockMaintenance();
+            createPartition(month);
+            return;
+        }
+        knownPartitions.add(month);
+    }
+
+    @Override
+    public int archiveOldPartitions() {
+        YearMonth cutoff = YearMonth.now().minusMonths(archiveAfterMonths);
+        // Partitions left detached in public, or with a pending detach, by an
+        // interrupted earlier run are picked up again and finished here.
+        List<ArchiveCandidate> candidates = jdbcTemplate.query("""
+                SELECT c.relname, i.inhrelid IS NOT NULL AS attached,
+                       coalesce(i.inhdetachpending, false) AS detach_pending
+                FROM pg_class c
+                JOIN pg_namespace n ON n.oid = c.relnamespace AND n.nspname = 'public'
+                LEFT JOIN pg_inherits i ON i.inhrelid = c.oid
+                WHERE c.relkind = 'r' AND c.relname ~ '^appointments_p[0-9]{4}_[0-9]{2}$'
+                  AND (i.inhparent IS NULL OR i.inhparent = 'public.appointments'::regclass)
+                ORDER BY c.relname
+                """, (rs, rowNum) -> new ArchiveCandidate(rs.getString("relname"), rs.getBoolean("attached"),
+                rs.getBoolean("detach_pending")));
+
+        int archived = 0;
+        for (ArchiveCandidate candidate : candidates) {
+            String partition = candidate.partition();
+            Optional<YearMonth> month = monthOf(partition);
+            if (month.isEmpty() || !month.get().isBefore(cutoff)) {
+                continue;
+            }
+            detachIntoArchive(candidate);
+            knownPartitions.remove(month.get());
+            // Archived months are never written again, so freeze them once and keep
+            // autovacuum away from them.
+            jdbcTemplate.execute("VACUUM (FREEZE, ANALYZE) " + archiveSchema + "." + partition);
+            jdbcTemplate.execute("ALTER TABLE " + archiveSchema + "." + partition
+                    + " SET (autovacuum_enabled = false)");
+            if (StringUtils.hasText(exportDir)) {
+                export(archiveSchema + "." + partition, Path.of(exportDir, partition + ".csv.gz"));
+            }
+            log.info("Archived appointment partition {} into schema {}", partition, archiveSchema);
+            archived++;
+        }
+        return archived;
+    }
+
+    /**
+     * A plain DETACH holds an ACCESS EXCLUSIVE lock on the parent, blocking every
+     * booking and history read for as long as it waits and runs. DETACH
+     * CONCURRENTLY only takes SHARE UPDATE EXCLUSIVE, but cannot run inside a
+     * transaction block, so this works in autocommit on a single connection and
+     * holds the maintenance lock at session level instead.
+     */
+    private void detachIntoArchive(ArchiveCandidate candidate) {
+        String partition = candidate.partition();
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (!connection.getAutoCommit()) {
+                throw new IllegalStateException("Archiving " + partition + " needs an autocommit connection");
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SELECT pg_advisory_lock(" + MAINTENANCE_LOCK + ")");
+                try {
+                    statement.execute("CREATE SCHEMA IF NOT EXISTS " + archiveSchema);
+                    if (candidate.detachPending()) {
+                        statement.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition + " FINALIZE");
+                    } else if (candidate.attached()) {
+                        statement.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition
+                                + " CONCURRENTLY");
+                    }
+                    statement.execute("ALTER TABLE " + partition + " SET SCHEMA " + archiveSchema);
+                } finally {
+                    statement.execute("SELECT pg_advisory_unlock(" + MAINTENANCE_LOCK + ")");
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Postgres refuses DETACH CONCURRENTLY while the parent has a default
+     * partition, so tables converted with one have its rows moved into monthly
+     * partitions and the default dropped. Months without a partition are then
+     * created on demand by {@link #ensurePartitionFor(LocalDate)}.
+     */
+    private void retireDefaultPartition() {
+        transactionTemplate.executeWithoutResult(status -> {
+            lockMaintenance();
+            if (!relationExists("public." + DEFAULT_PARTITION)) {
+                return;
+            }
+            List<LocalDate> months = jdbcTemplate.queryForList("SELECT DISTINCT date_trunc('month', "
+                    + "appointment_date)::date FROM " + DEFAULT_PARTITION, LocalDate.class);
+            for (LocalDate month : months) {
+                createPartition(YearMonth.from(month));
+            }
+            // Months already archived get no new partition, so their rows stay behind.
+            if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM " + DEFAULT_PARTITION + ")", Boolean.class))) {
+                log.warn("Keeping default partition {}: it still holds rows of archived months", DEFAULT_PARTITION);
+                return;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + DEFAULT_PARTITION);
+            jdbcTemplate.execute("DROP TABLE " + DEFAULT_PARTITION);
+            log.info("Dropped default partition {} after moving {} months out of it", DEFAULT_PARTITION,
+                    months.size());
+        });
+    }
+
+    private void createPartition(YearMonth month) {
+        String partition = partitionName(month);
+        if (relationExists("public." + partition) || relationExists(archiveSchema + "." + partition)) {
+            return;
+        }
+        LocalDate lower = month.atDay(1);
+        LocalDate upper = month.plusMonths(1).atDay(1);
+
+        boolean strayRows = relationExists("public." + DEFAULT_PARTITION)
+                && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                        "SELECT EXISTS (SELECT 1 FROM " + DEFAULT_PARTITION
+                                + " WHERE appointment_date >= ? AND appointment_date < ?)",
+                        Boolean.class, lower, upper));
+
+        if (strayRows) {
+            // Postgres refuses to add a partition whose range still has rows in the
+            // default partition, so move them across before attaching.
+            jdbcTemplate.execute("CREATE TABLE " + partition + " (LIKE " + TABLE
+                    + " INCLUDING ALL EXCLUDING INDEXES)");
+            jdbcTemplate.update("WITH moved AS (DELETE FROM " + DEFAULT_PARTITION
+                    + " WHERE appointment_date >= ? AND appointment_date < ? RETURNING *) "
+                    + "INSERT INTO " + partition + " (" + COLUMNS + ") SELECT " + COLUMNS + " FROM moved",
+                    lower, upper);
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " ATTACH PARTITION " + partition
+                    + " FOR VALUES FROM ('" + lower + "') TO ('" + upper + "')");
+        } else {
+            jdbcTemplate.execute("CREATE TABLE " + partition + " PARTITION OF " + TABLE
+                    + " FOR VALUES FROM ('" + lower + "') TO ('" + upper + "')");
+        }
+        log.info("Created appointment partition {}", partition);
+    }
+
+    private void export(String qualifiedTable, Path target) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try {
+                Files.createDirectories(target.toAbsolutePath().getParent());
+                try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(target))) {
+                    connection.unwrap(PGConnection.class).getCopyAPI()
+                            .copyOut("COPY " + qualifiedTable + " TO STDOUT WITH (FORMAT csv, HEADER)", out);
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to export " + qualifiedTable + " to " + target, e);
+            }
+            return null;
+        });
+    }
+
+    private boolean isPartitioned() {
+        String kind = jdbcTemplate.queryForObject(
+                "SELECT relkind::text FROM pg_class WHERE oid = 'public.appointments'::regclass", String.class);
+        return "p".equals(kind);
+    }
+
+    private boolean relationExists(String qualifiedName) {
+        return jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, qualifiedName);
+    }
+
+    private void lockMaintenance() {
+        // Serializes partition maintenance across backend nodes for the current transaction.
+        jdbcTemplate.execute("SELECT pg_advisory_xact_lock(" + MAINTENANCE_LOCK + ")");
+    }
+
+    static String partitionName(YearMonth month) {
+        return String.format("appointments_p%04d_%02d", month.getYear(), month.getMonthValue());
+    }
+
+    static Optional<YearMonth> monthOf(String partition) {
+        Matcher matcher = PARTITION_NAME.matcher(partition);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+    }
+
+    private record ArchiveCandidate(String partition, boolean attached, boolean detachPending) {
+    }
+}
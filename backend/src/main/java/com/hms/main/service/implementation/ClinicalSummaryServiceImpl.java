@@ -0,0 +1,213 @@
+package com.hms.main.service.implementation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.hms.main.cache.CacheEntityType;
+import com.hms.main.cache.CacheInvalidationListener;
+import com.hms.main.dto.response.ClinicalSummaryResponse;
+import com.hms.main.dto.response.ClinicalSummaryResponse.AllergySummary;
+import com.hms.main.entity.Allergy;
+import com.hms.main.entity.User;
+import com.hms.main.entity.enums.Roles;
+import com.hms.main.repository.AllergyRepository;
+import com.hms.main.repository.UserRepository;
+import com.hms.main.service.ClinicalSummaryService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Bounded LRU cache of clinical summaries. An entry is dropped when any
+ * clinical record of its patient changes, on this node or another, and is
+ * rebuilt on the next read.
+ */
+@Service
+public class ClinicalSummaryServiceImpl implements ClinicalSummaryService, CacheInvalidationListener {
+
+    private static final int MAX_PATIENTS_PER_REQUEST = 1000;
+    // Keeps each IN list well below the driver's bind parameter limit
+    private static final int LOAD_CHUNK_SIZE = 500;
+
+    private final AllergyRepository allergyRepository;
+    private final UserRepository userRepository;
+
+    // Access-ordered, so every get mutates it; all access goes through the lock
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<UUID, ClinicalSummaryResponse> entries;
+    // Patients being loaded, each with the ticket of its latest load. An
+    // invalidation removes the patient, so a load racing with it is not cached,
+    // while loads of other patients are unaffected.
+    private final Map<UUID, Long> loading = new HashMap<>();
+    private long nextTicket;
+
+    public ClinicalSummaryServiceImpl(AllergyRepository allergyRepository,
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${hms.clinical-summary.max-entries:10000}") int maxEntries) {
+        this.allergyRepository = allergyRepository;
+        this.userRepository = userRepository;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, ClinicalSummaryResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        Gauge.builder("hms.cache.size", entries, Map::size)
+                .description("Entries held by an in-memory cache")
+                .tag("cache", "clinical_summary")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ClinicalSummaryResponse getSummary(User currentUser, UUID patientId) {
+        if (currentUser.getRole() == Roles.PATIENT && !currentUser.getId().equals(patientId)) {
+            throw new RuntimeException("Patients can only view their own clinical summary");
+        }
+        return getSummaries(List.of(patientId)).get(patientId);
+    }
+
+    @Override
+    public Map<UUID, ClinicalSummaryResponse> getSummaries(User currentUser, List<UUID> patientIds) {
+        if (currentUser.getRole() == Roles.PATIENT) {
+            throw new RuntimeException("Patients cannot view triage lists");
+        }
+        if (patientIds.size() > MAX_PATIENTS_PER_REQUEST) {
+            throw new IllegalArgumentException("At most " + MAX_PATIENTS_PER_REQUEST + " patients per request");
+        }
+        return getSummaries(patientIds);
+    }
+
+    @Override
+    public Map<UUID, ClinicalSummaryResponse> getSummaries(Collection<UUID> patientIds) {
+        Map<UUID, ClinicalSummaryResponse> result = new LinkedHashMap<>();
+        List<UUID> misses = new ArrayList<>();
+        long ticket;
+        lock.lock();
+        try {
+            for (UUID patientId : new LinkedHashSet<>(patientIds)) {
+                ClinicalSummaryResponse summary = entries.get(patientId);
+                result.put(patientId, summary);
+                if (summary == null) {
+                    misses.add(patientId);
+                }
+            }
+            ticket = ++nextTicket;
+            for (UUID patientId : misses) {
+                loading.put(patientId, ticket);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        Map<UUID, ClinicalSummaryResponse> loaded;
+        Set<UUID> patients;
+        try {
+            loaded = load(misses);
+            patients = existingPatients(misses, loaded);
+        } catch (RuntimeException e) {
+            release(misses, ticket, Set.of(), Map.of());
+            throw e;
+        }
+        release(misses, ticket, patients, loaded);
+        result.putAll(loaded);
+        return result;
+    }
+
+    /**
+     * Caches the loaded summaries of existing patients that were not
+     * invalidated, or loaded again, since this load started.
+     */
+    private void release(List<UUID> misses, long ticket, Set<UUID> patients,
+            Map<UUID, ClinicalSummaryResponse> loaded) {
+        lock.lock();
+        try {
+            for (UUID patientId : misses) {
+                if (loading.remove(patientId, ticket) && patients.contains(patientId)) {
+                    entries.put(patientId, loaded.get(patientId));
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Anyone with an allergy is a patient; only the rest are looked up
+    private Set<UUID> existingPatients(List<UUID> patientIds, Map<UUID, ClinicalSummaryResponse> loaded) {
+        Set<UUID> patients = new HashSet<>();
+        List<UUID> unknown = new ArrayList<>();
+        for (UUID patientId : patientIds) {
+            if (loaded.get(patientId).allergies().isEmpty()) {
+                unknown.add(patientId);
+            } else {
+                patients.add(patientId);
+            }
+        }
+        for (int from = 0; from < unknown.size(); from += LOAD_CHUNK_SIZE) {
+            patients.addAll(userRepository.findPatientIdsIn(
+                    unknown.subList(from, Math.min(from + LOAD_CHUNK_SIZE, unknown.size()))));
+        }
+        return patients;
+    }
+
+    private Map<UUID, ClinicalSummaryResponse> load(List<UUID> patientIds) {
+        Map<UUID, List<AllergySummary>> allergies = new HashMap<>();
+        for (int from = 0; from < patientIds.size(); from += LOAD_CHUNK_SIZE) {
+            List<UUID> chunk = patientIds.subList(from, Math.min(from + LOAD_CHUNK_SIZE, patientIds.size()));
+            for (Allergy allergy : allergyRepository.findByPatientIdIn(chunk)) {
+                allergies.computeIfAbsent(allergy.getPatient().getId(), id -> new ArrayList<>())
+                        .add(new AllergySummary(allergy.getId(), allergy.getName(), allergy.getSeverity(),
+                                allergy.getReaction()));
+            }
+        }
+
+        // Patients without records get an empty summary, as do unknown ids; only
+        // the former are cached
+        Map<UUID, ClinicalSummaryResponse> summaries = new HashMap<>();
+        for (UUID patientId : patientIds) {
+            summaries.put(patientId, ClinicalSummaryResponse.of(patientId,
+                    allergies.getOrDefault(patientId, List.of())));
+        }
+        return summaries;
+    }
+
+    @Override
+    public void onInvalidate(CacheEntityType type, UUID id) {
+        if (type != CacheEntityType.CLINICAL_RECORD && type != CacheEntityType.USER) {
+            return;
+        }
+        lock.lock();
+        try {
+            loading.remove(id);
+            entries.remove(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onInvalidateAll() {
+        lock.lock();
+        try {
+            loading.clear();
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
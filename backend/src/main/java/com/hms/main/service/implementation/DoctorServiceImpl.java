@@ -1,27 +1,37 @@
 package com.hms.main.service.implementation;
 
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.hms.main.cache.CacheEntityType;
+import com.hms.main.cache.CacheInvalidationBus;
 import com.hms.main.dto.request.CreateDoctorRequest;
 import com.hms.main.dto.response.DoctorResponse;
 import com.hms.main.entity.Doctor;
 import com.hms.main.entity.DoctorSchedule;
 import com.hms.main.entity.User;
 import com.hms.main.entity.enums.Roles;
+import com.hms.main.entity.enums.SyncCollection;
 import com.hms.main.mapper.DoctorMapper;
 import com.hms.main.repository.DoctorRepository;
 import com.hms.main.repository.DoctorScheduleRepository;
+import com.hms.main.repository.SparseFieldRepository;
 import com.hms.main.repository.UserRepository;
 import com.hms.main.service.DoctorService;
+import com.hms.main.service.SyncService;
 
 import io.micrometer.common.util.StringUtils;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import jakarta.validation.ValidationException;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +39,7 @@ import lombok.RequiredArgsConstructor;
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = "hms.service", histogram = true)
 public class DoctorServiceImpl implements DoctorService {
 
     @Autowired
@@ -40,8 +51,15 @@ public class DoctorServiceImpl implements DoctorService {
     @Autowired
     private DoctorScheduleRepository doctorScheduleRepository;
 
+    @Autowired
+    private SparseFieldRepository sparseFieldRepository;
+
     private final PasswordEncoder passwordEncoder;
 
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private final SyncService syncService;
+
     @Transactional(rollbackOn = Exception.class)
     public DoctorResponse createDoctor(User currentUser, CreateDoctorRequest request) {
         if (currentUser.getRole() != Roles.ADMIN) {
@@ -86,6 +104,8 @@ public class DoctorServiceImpl implements DoctorService {
                 savedDoctor.setSchedules(new HashSet<>(schedules));
             }
 
+            publishDoctorChange(savedDoctor);
+
             return DoctorMapper.toResponse(doctor);
 
         } catch (Exception e) {
@@ -102,6 +122,13 @@ public class DoctorServiceImpl implements DoctorService {
         Doctor doctor = doctorRepository.findById(doctorId)
                 .orElseThrow(() -> new RuntimeException("Doctor not found"));
 
+        if (request.getVersion() == null) {
+            throw new IllegalArgumentException("Version is required");
+        }
+        if (!request.getVersion().equals(doctor.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Doctor.class, doctorId);
+        }
+
         User user = doctor.getUser();
         user.setFullName(request.getFullName());
         user.setEmail(request.getEmail());
@@ -139,7 +166,12 @@ public class DoctorServiceImpl implements DoctorService {
             doctor.setSchedules(new HashSet<>(schedules));
         }
 
-        Doctor updatedDoctor = doctorRepository.save(doctor);
+        // Profile and schedule edits live in other tables; bump updated_at so delta sync sees them
+        doctor.setUpdatedAt(LocalDateTime.now());
+
+        // Flush here so a concurrent commit surfaces as a version conflict from this call
+        Doctor updatedDoctor = doctorRepository.saveAndFlush(doctor);
+        publishDoctorChange(updatedDoctor);
 
         return DoctorMapper.toResponse(updatedDoctor);
     }
@@ -158,6 +190,10 @@ public class DoctorServiceImpl implements DoctorService {
         doctorRepository.delete(doctor);
 
         userRepository.delete(doctor.getUser());
+
+        syncService.recordDeletion(SyncCollection.DOCTORS, doctorId, null);
+
+        publishDoctorChange(doctor);
     }
 
     @Transactional
@@ -169,6 +205,29 @@ public class DoctorServiceImpl implements DoctorService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional
+    public List<Map<String, Object>> getAllDoctors(Set<String> fields) {
+        return sparseFieldRepository.findDoctors(fields);
+    }
+
+    public List<String> resolveDoctorFields(Set<String> fields) {
+        return sparseFieldRepository.resolveDoctorFields(fields);
+    }
+
+    @Transactional
+    public DoctorResponse getDoctorById(UUID doctorId) {
+        return doctorRepository.findById(doctorId)
+                .map(DoctorMapper::toResponse)
+                .orElseThrow(() -> new RuntimeException("Doctor not found"));
+    }
+
+    // Published after commit, so caches never see a rolled back change
+    private void publishDoctorChange(Doctor doctor) {
+        cacheInvalidationBus.publish(CacheEntityType.DOCTOR, doctor.getId());
+        cacheInvalidationBus.publish(CacheEntityType.SCHEDULE, doctor.getId());
+        cacheInvalidationBus.publish(CacheEntityType.USER, doctor.getUser().getId());
+    }
+
     void validateCreateDoctorRequest(CreateDoctorRequest request) {
         if (request == null) {
             throw new ValidationException("User information is required");
@@ -0,0 +1,159 @@
+package com.hms.main.service.implementation;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hms.main.cache.CacheEntityType;
+import com.hms.main.cache.CacheInvalidationBus;
+import com.hms.main.cache.CacheInvalidationListener;
+import com.hms.main.dto.request.DrugClassSynonymRequest;
+import com.hms.main.dto.response.DrugClassSynonymResponse;
+import com.hms.main.entity.DrugClassSynonym;
+import com.hms.main.entity.User;
+import com.hms.main.entity.enums.Roles;
+import com.hms.main.mapper.DrugClassSynonymMapper;
+import com.hms.main.repository.DrugClassSynonymRepository;
+import com.hms.main.safety.AhoCorasickMatcher;
+import com.hms.main.service.DrugVocabularyService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Service
+public class DrugVocabularyServiceImpl implements DrugVocabularyService, CacheInvalidationListener {
+
+    private static final Logger log = LoggerFactory.getLogger(DrugVocabularyServiceImpl.class);
+
+    private record Entry(String term, String drugClass) {
+    }
+
+    private final DrugClassSynonymRepository drugClassSynonymRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    // Guards vocabulary; readers only ever touch the published matcher
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<UUID, Entry> vocabulary = new HashMap<>();
+    private volatile AhoCorasickMatcher<Set<String>> matcher = AhoCorasickMatcher.build(Map.of());
+
+    public DrugVocabularyServiceImpl(DrugClassSynonymRepository drugClassSynonymRepository,
+            CacheInvalidationBus cacheInvalidationBus,
+            MeterRegistry meterRegistry) {
+        this.drugClassSynonymRepository = drugClassSynonymRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        Gauge.builder("hms.cache.size", this, service -> service.matcher.size())
+                .description("Entries held by an in-memory cache")
+                .tag("cache", "drug_vocabulary")
+                .register(meterRegistry);
+    }
+
+    // After the command line runners, so the default vocabulary is seeded
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadVocabulary() {
+        onInvalidateAll();
+    }
+
+    @Override
+    public AhoCorasickMatcher<Set<String>> getMatcher() {
+        return matcher;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DrugClassSynonymResponse> getAllSynonyms() {
+        return drugClassSynonymRepository.findAll().stream()
+                .map(DrugClassSynonymMapper::toResponse)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public DrugClassSynonymResponse addSynonym(User currentUser, DrugClassSynonymRequest request) {
+        if (currentUser.getRole() != Roles.ADMIN) {
+            throw new RuntimeException("Only admins can change the drug vocabulary");
+        }
+        String term = request.getTerm() == null ? "" : AhoCorasickMatcher.normalize(request.getTerm());
+        String drugClass = request.getDrugClass() == null ? "" : AhoCorasickMatcher.normalize(request.getDrugClass());
+        if (term.isEmpty() || drugClass.isEmpty()) {
+            throw new IllegalArgumentException("term and drugClass are required");
+        }
+        if (drugClassSynonymRepository.findByTerm(term).isPresent()) {
+            throw new IllegalStateException("Term already exists: " + term);
+        }
+
+        DrugClassSynonym saved = drugClassSynonymRepository.save(DrugClassSynonym.builder()
+                .term(term)
+                .drugClass(drugClass)
+                .build());
+        cacheInvalidationBus.publish(CacheEntityType.DRUG_SYNONYM, saved.getId());
+        return DrugClassSynonymMapper.toResponse(saved);
+    }
+
+    @Override
+    @Transactional
+    public void deleteSynonym(User currentUser, UUID id) {
+        if (currentUser.getRole() != Roles.ADMIN) {
+            throw new RuntimeException("Only admins can change the drug vocabulary");
+        }
+        DrugClassSynonym synonym = drugClassSynonymRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Drug synonym not found"));
+        drugClassSynonymRepository.delete(synonym);
+        cacheInvalidationBus.publish(CacheEntityType.DRUG_SYNONYM, id);
+    }
+
+    // Only the changed row is reloaded; the automaton is rebuilt from memory
+    @Override
+    public void onInvalidate(CacheEntityType type, UUID id) {
+        if (type != CacheEntityType.DRUG_SYNONYM) {
+            return;
+        }
+        lock.lock();
+        try {
+            drugClassSynonymRepository.findById(id).ifPresentOrElse(
+                    synonym -> vocabulary.put(id, new Entry(synonym.getTerm(), synonym.getDrugClass())),
+                    () -> vocabulary.remove(id));
+            publishMatcher();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onInvalidateAll() {
+        lock.lock();
+        try {
+            vocabulary.clear();
+            for (DrugClassSynonym synonym : drugClassSynonymRepository.findAll()) {
+                vocabulary.put(synonym.getId(), new Entry(synonym.getTerm(), synonym.getDrugClass()));
+            }
+            publishMatcher();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void publishMatcher() {
+        Map<String, Set<String>> classesByTerm = new HashMap<>();
+        for (Entry entry : vocabulary.values()) {
+            String drugClass = AhoCorasickMatcher.normalize(entry.drugClass());
+            classesByTerm.computeIfAbsent(AhoCorasickMatcher.normalize(entry.term()), t -> new TreeSet<>())
+                    .add(drugClass);
+            classesByTerm.computeIfAbsent(drugClass, t -> new TreeSet<>()).add(drugClass);
+        }
+        classesByTerm.replaceAll((term, classes) -> Collections.unmodifiableSet(classes));
+        matcher = AhoCorasickMatcher.build(classesByTerm);
+        log.debug("Drug vocabulary rebuilt with {} terms", matcher.size());
+    }
+}
@@ -0,0 +1,107 @@
+package com.hms.main.service.implementation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import com.hms.main.dto.request.MedicationCheckRequest;
+import com.hms.main.dto.response.MedicationCheckResponse;
+import com.hms.main.dto.response.ClinicalSummaryResponse.AllergySummary;
+import com.hms.main.dto.response.MedicationConflictResponse;
+import com.hms.main.entity.User;
+import com.hms.main.entity.enums.Roles;
+import com.hms.main.safety.AhoCorasickMatcher;
+import com.hms.main.safety.AhoCorasickMatcher.Match;
+import com.hms.main.service.ClinicalSummaryService;
+import com.hms.main.service.DrugVocabularyService;
+import com.hms.main.service.MedicationSafetyService;
+
+@Service
+public class MedicationSafetyServiceImpl implements MedicationSafetyService {
+
+    private final ClinicalSummaryService clinicalSummaryService;
+    private final DrugVocabularyService drugVocabularyService;
+
+    public MedicationSafetyServiceImpl(ClinicalSummaryService clinicalSummaryService,
+            DrugVocabularyService drugVocabularyService) {
+        this.clinicalSummaryService = clinicalSummaryService;
+        this.drugVocabularyService = drugVocabularyService;
+    }
+
+    @Override
+    public MedicationCheckResponse check(User currentUser, UUID patientId, MedicationCheckRequest request) {
+        if (currentUser.getRole() == Roles.PATIENT && !currentUser.getId().equals(patientId)) {
+            throw new RuntimeException("Patients can only check their own medications");
+        }
+        if (request.getName() == null || request.getName().isBlank()) {
+            throw new IllegalArgumentException("Medication name is required");
+        }
+
+        // One pass over the medication text finds every known drug term
+        StringBuilder text = new StringBuilder(request.getName());
+        if (request.getIngredients() != null) {
+            request.getIngredients().forEach(ingredient -> text.append(" ; ").append(ingredient));
+        }
+        String medication = " " + AhoCorasickMatcher.normalize(text) + " ";
+        AhoCorasickMatcher<Set<String>> matcher = drugVocabularyService.getMatcher();
+        List<Match<Set<String>>> medicationTerms = matcher.findAll(text);
+
+        List<MedicationConflictResponse> conflicts = new ArrayList<>();
+        // Allergies come from the clinical summary cache, so a warm check does no I/O
+        List<AllergySummary> allergies = clinicalSummaryService.getSummaries(List.of(patientId))
+                .get(patientId).allergies();
+        for (AllergySummary allergy : allergies) {
+            String allergen = AhoCorasickMatcher.normalize(allergy.name());
+            if (allergen.isEmpty()) {
+                continue;
+            }
+            if (medication.contains(" " + allergen + " ")) {
+                conflicts.add(conflict(allergy, allergen, null));
+                continue;
+            }
+            if (medicationTerms.isEmpty()) {
+                continue;
+            }
+            MedicationConflictResponse classConflict = findClassConflict(allergy, matcher.findAll(allergen),
+                    medicationTerms);
+            if (classConflict != null) {
+                conflicts.add(classConflict);
+            }
+        }
+
+        // Allergies are already most severe first
+        return MedicationCheckResponse.builder()
+                .patientId(patientId)
+                .safe(conflicts.isEmpty())
+                .conflicts(conflicts)
+                .build();
+    }
+
+    private static MedicationConflictResponse findClassConflict(AllergySummary allergy,
+            List<Match<Set<String>>> allergenTerms, List<Match<Set<String>>> medicationTerms) {
+        for (Match<Set<String>> allergenTerm : allergenTerms) {
+            for (Match<Set<String>> medicationTerm : medicationTerms) {
+                for (String drugClass : medicationTerm.payload()) {
+                    if (allergenTerm.payload().contains(drugClass)) {
+                        return conflict(allergy, medicationTerm.term(), drugClass);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static MedicationConflictResponse conflict(AllergySummary allergy, String matchedTerm, String drugClass) {
+        return MedicationConflictResponse.builder()
+                .allergyId(allergy.id())
+                .allergen(allergy.name())
+                .severity(allergy.severity())
+                .reaction(allergy.reaction())
+                .matchedTerm(matchedTerm)
+                .drugClass(drugClass)
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.hms.main.service.implementation;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hms.main.dto.request.NoteSource;
+import com.hms.main.dto.response.NoteSearchHitResponse;
+import com.hms.main.dto.response.NoteSearchResponse;
+import com.hms.main.entity.User;
+import com.hms.main.entity.enums.Roles;
+import com.hms.main.repository.DoctorRepository;
+import com.hms.main.repository.NoteSearchRepository;
+import com.hms.main.service.NoteSearchService;
+
+@Service
+public class NoteSearchServiceImpl implements NoteSearchService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_OFFSET = 1000;
+
+    private final NoteSearchRepository noteSearchRepository;
+    private final DoctorRepository doctorRepository;
+
+    public NoteSearchServiceImpl(NoteSearchRepository noteSearchRepository, DoctorRepository doctorRepository) {
+        this.noteSearchRepository = noteSearchRepository;
+        this.doctorRepository = doctorRepository;
+    }
+
+    // After the appointments table has been partitioned
+    @Order(2)
+    @EventListener(ApplicationReadyEvent.class)
+    public void createSearchColumns() {
+        noteSearchRepository.createSearchColumns();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public NoteSearchResponse searchNotes(User currentUser, String query, Set<NoteSource> sources, UUID patientId,
+            UUID doctorId, LocalDate from, LocalDate to, int page, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (page < 0 || (long) page * size > MAX_OFFSET) {
+            throw new IllegalArgumentException("Page is out of range");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+
+        UUID visibleToDoctor = null;
+        if (currentUser.getRole() == Roles.PATIENT) {
+            if (patientId != null && !patientId.equals(currentUser.getId())) {
+                throw new RuntimeException("Patients can only search their own records");
+            }
+            patientId = currentUser.getId();
+        } else if (currentUser.getRole() == Roles.DOCTOR) {
+            visibleToDoctor = doctorRepository.findByUserId(currentUser.getId())
+                    .orElseThrow(() -> new RuntimeException("Doctor profile not found"))
+                    .getId();
+        }
+
+        // Unquoted words ending in * become prefix terms; the rest is websearch syntax
+        StringBuilder websearch = new StringBuilder();
+        List<String> prefixes = new ArrayList<>();
+        boolean quoted = false;
+        for (String token : (query == null ? "" : query).trim().split("\\s+")) {
+            boolean prefix = !quoted && token.length() > 1 && token.endsWith("*") && !token.startsWith("\"");
+            if (prefix) {
+                String word = token.replaceAll("[^\\p{L}\\p{N}]", "").toLowerCase();
+                if (!word.isEmpty()) {
+                    prefixes.add(word);
+                }
+            } else if (!token.isEmpty()) {
+                websearch.append(token).append(' ');
+            }
+            if ((token.chars().filter(c -> c == '"').count() & 1) == 1) {
+                quoted = !quoted;
+            }
+        }
+        if (websearch.isEmpty() && prefixes.isEmpty()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+
+        NoteSearchRepository.Criteria criteria = new NoteSearchRepository.Criteria(websearch.toString().trim(),
+                prefixes, sources, patientId, doctorId, visibleToDoctor, from, to);
+        // Read one extra row to find out whether another page follows
+        List<NoteSearchHitResponse> hits = noteSearchRepository.search(criteria, size + 1, page * size);
+        boolean hasNext = hits.size() > size;
+        return NoteSearchResponse.builder()
+                .content(hasNext ? hits.subList(0, size) : hits)
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -0,0 +1,130 @@
+package com.hms.main.service.implementation;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hms.main.dto.request.ChartSection;
+import com.hms.main.dto.response.AllergyResponse;
+import com.hms.main.dto.response.PatientChartResponse;
+import com.hms.main.dto.response.VitalReadingResponse;
+import com.hms.main.dto.response.user.UserResponse;
+import com.hms.main.entity.Allergy;
+import com.hms.main.entity.User;
+import com.hms.main.entity.enums.Roles;
+import com.hms.main.mapper.AllergyMapper;
+import com.hms.main.repository.AllergyRepository;
+import com.hms.main.repository.UserRepository;
+import com.hms.main.repository.VitalSignRepository;
+import com.hms.main.service.PatientChartService;
+
+@Service
+public class PatientChartServiceImpl implements PatientChartService {
+
+    private static final Logger log = LoggerFactory.getLogger(PatientChartServiceImpl.class);
+
+    private final UserRepository userRepository;
+    private final AllergyRepository allergyRepository;
+    private final VitalSignRepository vitalSignRepository;
+    private final ExecutorService sectionExecutor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration sectionTimeout;
+
+    public PatientChartServiceImpl(UserRepository userRepository,
+            AllergyRepository allergyRepository,
+            VitalSignRepository vitalSignRepository,
+            @Qualifier("sectionExecutor") ExecutorService sectionExecutor,
+            PlatformTransactionManager transactionManager,
+            @Value("${hms.patient-chart.section-timeout:PT2S}") Duration sectionTimeout) {
+        this.userRepository = userRepository;
+        this.allergyRepository = allergyRepository;
+        this.vitalSignRepository = vitalSignRepository;
+        this.sectionExecutor = sectionExecutor;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // orTimeout only stops waiting; the transaction timeout becomes a JDBC query
+        // timeout, so Postgres cancels a slow section query instead of letting it
+        // run on and hold its connection.
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, sectionTimeout.plusMillis(999).toSeconds()));
+        this.sectionTimeout = sectionTimeout;
+    }
+
+    @Override
+    public Optional<PatientChartResponse> getChart(User currentUser, UUID patientId, Set<ChartSection> sections) {
+        if (currentUser.getRole() == Roles.PATIENT && !currentUser.getId().equals(patientId)) {
+            throw new RuntimeException("Patients can only view their own chart");
+        }
+
+        // Start every requested section before waiting on any of them
+        CompletableFuture<Optional<UserResponse>> profile = sections.contains(ChartSection.PROFILE)
+                ? submit(() -> userRepository.findPatientResponseById(patientId))
+                : null;
+        CompletableFuture<List<AllergyResponse>> allergies = sections.contains(ChartSection.ALLERGIES)
+                ? submit(() -> allergyRepository.findByPatientId(patientId).stream()
+                        .sorted(Comparator.comparing(Allergy::getSeverity).reversed())
+                        .map(AllergyMapper::toResponse)
+                        .toList())
+                : null;
+        CompletableFuture<List<VitalReadingResponse>> vitals = sections.contains(ChartSection.VITALS)
+                ? submit(() -> vitalSignRepository.findLatest(patientId))
+                : null;
+
+        Map<String, String> failedSections = new LinkedHashMap<>();
+        PatientChartResponse chart = new PatientChartResponse();
+
+        Optional<UserResponse> loadedProfile = await(ChartSection.PROFILE, profile, failedSections);
+        if (loadedProfile != null) {
+            if (loadedProfile.isEmpty()) {
+                return Optional.empty();
+            }
+            chart.setProfile(loadedProfile.get());
+        }
+        chart.setAllergies(await(ChartSection.ALLERGIES, allergies, failedSections));
+        chart.setVitals(await(ChartSection.VITALS, vitals, failedSections));
+        chart.setFailedSections(failedSections);
+        return Optional.of(chart);
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> query) {
+        return CompletableFuture
+                .supplyAsync(() -> readOnlyTransaction.execute(status -> query.get()), sectionExecutor)
+                .orTimeout(sectionTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static <T> T await(ChartSection section, CompletableFuture<T> future, Map<String, String> failedSections) {
+        if (future == null) {
+            return null;
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            String key = section.name().toLowerCase();
+            if (e.getCause() instanceof TimeoutException) {
+                failedSections.put(key, "timeout");
+            } else {
+                log.warn("Failed to load chart section {}", key, e.getCause());
+                failedSections.put(key, "error");
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.hms.main.service.implementation;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hms.main.dto.response.user.UserResponse;
+import com.hms.main.dto.response.user.UserSliceResponse;
+import com.hms.main.entity.User;
+import com.hms.main.entity.enums.Roles;
+import com.hms.main.repository.PatientSearchRepository;
+import com.hms.main.service.PatientSearchService;
+
+@Service
+public class PatientSearchServiceImpl implements PatientSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(PatientSearchServiceImpl.class);
+
+    private static final int MAX_PAGE_SIZE = 50;
+    // Ranked search past this depth is slow and never useful; refine the query instead
+    private static final int MAX_OFFSET = 1000;
+    // Shorter terms have no trigrams, so only prefix matching applies
+    private static final int MIN_TRIGRAM_LENGTH = 3;
+    private static final Pattern PHONE = Pattern.compile("\\+?[0-9 ().-]{6,}");
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("dd/MM/uuuu"));
+
+    private final PatientSearchRepository patientSearchRepository;
+    private final double similarityThreshold;
+
+    public PatientSearchServiceImpl(PatientSearchRepository patientSearchRepository,
+            @Value("${hms.patient-search.similarity-threshold:0.4}") double similarityThreshold) {
+        this.patientSearchRepository = patientSearchRepository;
+        this.similarityThreshold = similarityThreshold;
+    }
+
+    @Order(1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        try {
+            patientSearchRepository.createIndexes();
+        } catch (DataAccessException e) {
+            // Usually the pg_trgm extension is missing and the role cannot create it
+            log.error("Could not create patient search indexes; name search will fail until they exist", e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserSliceResponse searchPatients(User currentUser, String query, int page, int size) {
+        if (currentUser.getRole() == Roles.PATIENT) {
+            throw new RuntimeException("Patients cannot search other patients");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (page < 0 || (long) page * size > MAX_OFFSET) {
+            throw new IllegalArgumentException("Page is out of range");
+        }
+        String term = query == null ? "" : query.trim().replaceAll("\\s+", " ").toLowerCase();
+        if (term.isEmpty()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+
+        // Read one extra row to find out whether another page follows
+        int limit = size + 1;
+        int offset = page * size;
+        List<UserResponse> patients;
+        LocalDate dateOfBirth = parseDate(term);
+        if (term.contains("@")) {
+            patients = patientSearchRepository.findByEmail(term, limit, offset);
+        } else if (dateOfBirth != null) {
+            patients = patientSearchRepository.findByDateOfBirth(dateOfBirth, limit, offset);
+        } else if (PHONE.matcher(term).matches()) {
+            patients = patientSearchRepository.findByPhoneDigits(term.replaceAll("[^0-9]", ""), limit, offset);
+        } else if (term.length() < MIN_TRIGRAM_LENGTH) {
+            patients = patientSearchRepository.findByNamePrefix(term, limit, offset);
+        } else {
+            patients = patientSearchRepository.findByName(term, similarityThreshold, limit, offset);
+        }
+
+        boolean hasNext = patients.size() > size;
+        return UserSliceResponse.builder()
+                .content(hasNext ? patients.subList(0, size) : patients)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private static LocalDate parseDate(String term) {
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                return LocalDate.parse(term, format);
+            } catch (DateTimeParseException e) {
+                // try the next format
+            }
+        }
+        return null;
+    }
+}
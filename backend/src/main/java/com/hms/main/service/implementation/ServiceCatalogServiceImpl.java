@@ -0,0 +1,29 @@
+package com.hms.main.service.implementation;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hms.main.dto.response.ServiceResponse;
+import com.hms.main.mapper.ServiceMapper;
+import com.hms.main.repository.ServiceRepository;
+import com.hms.main.service.ServiceCatalogService;
+
+@Service
+public class ServiceCatalogServiceImpl implements ServiceCatalogService {
+
+    private final ServiceRepository serviceRepository;
+
+    public ServiceCatalogServiceImpl(ServiceRepository serviceRepository) {
+        this.serviceRepository = serviceRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ServiceResponse> getAllServices() {
+        return serviceRepository.findAll().stream()
+                .map(ServiceMapper::toResponse)
+                .toList();
+    }
+}
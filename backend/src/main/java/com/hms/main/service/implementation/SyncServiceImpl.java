@@ -0,0 +1,224 @@
+package com.hms.main.service.implementation;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hms.main.dto.response.SyncResponse;
+import com.hms.main.entity.Doctor;
+import com.hms.main.entity.SyncPurgeHorizon;
+import com.hms.main.entity.SyncTombstone;
+import com.hms.main.entity.User;
+import com.hms.main.entity.enums.Roles;
+import com.hms.main.entity.enums.SyncCollection;
+import com.hms.main.mapper.AllergyMapper;
+import com.hms.main.mapper.DoctorMapper;
+import com.hms.main.mapper.ServiceMapper;
+import com.hms.main.repository.AllergyRepository;
+import com.hms.main.repository.DoctorRepository;
+import com.hms.main.repository.ServiceRepository;
+import com.hms.main.repository.SyncPurgeHorizonRepository;
+import com.hms.main.repository.SyncTombstoneRepository;
+import com.hms.main.repository.UserRepository;
+import com.hms.main.service.SyncService;
+
+/**
+ * Keyset change feed over (updated_at, id). Rows newer than the settle window
+ * are held back until the next call, so a transaction that stamped its rows
+ * before committing is not skipped by a client that synced in between.
+ */
+@Service
+public class SyncServiceImpl implements SyncService {
+
+    private static final Logger log = LoggerFactory.getLogger(SyncServiceImpl.class);
+
+    private static final int MAX_LIMIT = 1000;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final UUID MIN_ID = new UUID(0, 0);
+    private static final UUID MAX_ID = new UUID(-1, -1);
+
+    private record Change(LocalDateTime at, UUID id, Object record) {
+    }
+
+    /**
+     * Where the next page starts. Continuations of a full sync also carry when
+     * the full sync started: the client held nothing before then, so deletions
+     * older than that cannot concern it however old the rows being paged are.
+     */
+    private record Position(LocalDateTime at, UUID id, LocalDateTime fullSyncStart) {
+
+        // The oldest deletion the client still needs to learn about
+        LocalDateTime needsDeletionsAfter() {
+            return fullSyncStart != null && fullSyncStart.isAfter(at) ? fullSyncStart : at;
+        }
+    }
+
+    private final UserRepository userRepository;
+    private final DoctorRepository doctorRepository;
+    private final ServiceRepository serviceRepository;
+    private final AllergyRepository allergyRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final SyncPurgeHorizonRepository syncPurgeHorizonRepository;
+    private final Duration settleWindow;
+    private final Duration tombstoneRetention;
+
+    public SyncServiceImpl(UserRepository userRepository,
+            DoctorRepository doctorRepository,
+            ServiceRepository serviceRepository,
+            AllergyRepository allergyRepository,
+            SyncTombstoneRepository syncTombstoneRepository,
+            SyncPurgeHorizonRepository syncPurgeHorizonRepository,
+            @Value("${hms.sync.settle-window:PT5S}") Duration settleWindow,
+            @Value("${hms.sync.tombstone-retention:P30D}") Duration tombstoneRetention) {
+        this.userRepository = userRepository;
+        this.doctorRepository = doctorRepository;
+        this.serviceRepository = serviceRepository;
+        this.allergyRepository = allergyRepository;
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.syncPurgeHorizonRepository = syncPurgeHorizonRepository;
+        this.settleWindow = settleWindow;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    @Override
+    // One snapshot for every query of a page, so doctors fetched by id still have
+    // the positions their id page was ordered by
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public SyncResponse<Object> getChanges(User currentUser, SyncCollection collection, String since, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (collection == SyncCollection.PATIENTS && currentUser.getRole() == Roles.PATIENT) {
+            throw new RuntimeException("Patients cannot sync the patient list");
+        }
+        // Patients only ever see their own allergies
+        UUID ownerId = collection == SyncCollection.ALLERGIES && currentUser.getRole() == Roles.PATIENT
+                ? currentUser.getId()
+                : null;
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minus(settleWindow).truncatedTo(ChronoUnit.MICROS);
+        Position from = since == null || since.isBlank() ? new Position(EPOCH, MIN_ID, cutoff) : decode(since);
+        // Only purged tombstones make a watermark incomplete, and only those the client
+        // still needs; a full sync paging through old rows is not affected
+        if (since != null && !since.isBlank() && syncPurgeHorizonRepository.findById(SyncPurgeHorizon.ID)
+                .map(horizon -> from.needsDeletionsAfter().isBefore(horizon.getPurgedBefore()))
+                .orElse(false)) {
+            throw new IllegalStateException("Watermark is older than the purged tombstones; resync from scratch");
+        }
+
+        // One extra row from each source tells whether another page follows
+        Limit fetch = Limit.of(limit + 1);
+        List<Change> changes = new ArrayList<>(switch (collection) {
+            case DOCTORS -> findDoctorChangesAfter(from, cutoff, fetch).stream()
+                    .map(doctor -> new Change(doctor.getUpdatedAt(), doctor.getId(), DoctorMapper.toResponse(doctor)))
+                    .toList();
+            case SERVICES -> serviceRepository.findChangesAfter(from.at(), from.id(), cutoff, fetch).stream()
+                    .map(service -> new Change(service.getUpdatedAt(), service.getId(),
+                            ServiceMapper.toResponse(service)))
+                    .toList();
+            case PATIENTS -> userRepository.findPatientChangesAfter(from.at(), from.id(), cutoff, fetch).stream()
+                    .map(patient -> new Change(patient.getUpdatedAt(), patient.getId(), patient))
+                    .toList();
+            case ALLERGIES -> (ownerId == null
+                    ? allergyRepository.findChangesAfter(from.at(), from.id(), cutoff, fetch)
+                    : allergyRepository.findPatientChangesAfter(ownerId, from.at(), from.id(), cutoff, fetch))
+                    .stream()
+                    .map(allergy -> new Change(allergy.getUpdatedAt(), allergy.getId(),
+                            AllergyMapper.toResponse(allergy)))
+                    .toList();
+        });
+
+        // A full sync has nothing to delete
+        if (since != null && !since.isBlank()) {
+            List<SyncTombstone> tombstones = ownerId == null
+                    ? syncTombstoneRepository.findAfter(collection, from.at(), from.id(), cutoff, fetch)
+                    : syncTombstoneRepository.findOwnedAfter(collection, ownerId, from.at(), from.id(), cutoff,
+                            fetch);
+            tombstones.forEach(tombstone -> changes.add(
+                    new Change(tombstone.getDeletedAt(), tombstone.getEntityId(), null)));
+        }
+
+        changes.sort(Comparator.comparing(Change::at).thenComparing(Change::id));
+        boolean hasMore = changes.size() > limit;
+        List<Change> page = hasMore ? changes.subList(0, limit) : changes;
+        // Past the cutoff, every row up to it has been delivered
+        Position next = hasMore
+                ? new Position(page.get(page.size() - 1).at(), page.get(page.size() - 1).id(), from.fullSyncStart())
+                : new Position(cutoff, MAX_ID, null);
+
+        return SyncResponse.<Object>builder()
+                .changed(page.stream().filter(change -> change.record() != null).map(Change::record).toList())
+                .deleted(page.stream().filter(change -> change.record() == null).map(Change::id).toList())
+                .watermark(encode(next))
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private List<Doctor> findDoctorChangesAfter(Position from, LocalDateTime cutoff, Limit fetch) {
+        List<UUID> ids = doctorRepository.findChangedIdsAfter(from.at(), from.id(), cutoff, fetch);
+        return ids.isEmpty() ? List.of() : doctorRepository.findByIdIn(ids);
+    }
+
+    @Override
+    public void recordDeletion(SyncCollection collection, UUID entityId, UUID ownerId) {
+        syncTombstoneRepository.save(SyncTombstone.builder()
+                .collection(collection)
+                .entityId(entityId)
+                .ownerId(ownerId)
+                .build());
+    }
+
+    @Transactional
+    @Scheduled(cron = "${hms.sync.tombstone-purge-cron:0 45 3 * * *}")
+    public void purgeTombstones() {
+        LocalDateTime before = LocalDateTime.now().minus(tombstoneRetention);
+        // Recorded before deleting, so no reader sees tombstones gone while the horizon is older
+        SyncPurgeHorizon horizon = syncPurgeHorizonRepository.findById(SyncPurgeHorizon.ID)
+                .orElseGet(() -> SyncPurgeHorizon.builder().id(SyncPurgeHorizon.ID).build());
+        if (horizon.getPurgedBefore() == null || horizon.getPurgedBefore().isBefore(before)) {
+            horizon.setPurgedBefore(before);
+            syncPurgeHorizonRepository.save(horizon);
+        }
+        int purged = syncTombstoneRepository.deleteOlderThan(before);
+        if (purged > 0) {
+            log.info("Purged {} sync tombstones", purged);
+        }
+    }
+
+    private static String encode(Position position) {
+        String value = position.at() + "|" + position.id()
+                + (position.fullSyncStart() == null ? "" : "|" + position.fullSyncStart());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Position decode(String watermark) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(watermark), StandardCharsets.UTF_8);
+            String[] parts = value.split("\\|", 3);
+            if (parts.length < 2) {
+                throw new IllegalArgumentException("Malformed watermark");
+            }
+            return new Position(LocalDateTime.parse(parts[0]), UUID.fromString(parts[1]),
+                    parts.length == 3 ? LocalDateTime.parse(parts[2]) : null);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed watermark", e);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.hms.main.service.implementation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hms.main.dto.request.VitalReadingRequest;
+import com.hms.main.repository.VitalSignRepository;
+import com.hms.main.service.TelemetryIngestService;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Bounded in-memory buffer in front of the vitals table. A single flusher
+ * thread writes a batch with COPY as soon as {@code batch-size} readings are
+ * queued or {@code max-delay} has passed since the last flush, whichever comes
+ * first. Capacity is reserved per request with a semaphore, so a request is
+ * either queued completely or rejected, and permits are only returned once
+ * the readings have been written or given up on.
+ */
+@Service
+public class TelemetryIngestServiceImpl implements TelemetryIngestService, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(TelemetryIngestServiceImpl.class);
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MILLIS = 200;
+
+    private final VitalSignRepository vitalSignRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration maxDelay;
+    private final Duration drainTimeout;
+
+    private final Semaphore capacity;
+    private final ConcurrentLinkedQueue<VitalReadingRequest> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition batchReady = lock.newCondition();
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public TelemetryIngestServiceImpl(VitalSignRepository vitalSignRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${hms.telemetry.queue-capacity:200000}") int queueCapacity,
+            @Value("${hms.telemetry.batch-size:5000}") int batchSize,
+            @Value("${hms.telemetry.max-delay:PT0.5S}") Duration maxDelay,
+            @Value("${hms.telemetry.drain-timeout:PT10S}") Duration drainTimeout) {
+        this.vitalSignRepository = vitalSignRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.capacity = new Semaphore(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxDelay = maxDelay;
+        this.drainTimeout = drainTimeout;
+        Gauge.builder("hms.telemetry.queue.size", queued, AtomicInteger::get)
+                .description("Readings accepted but not yet written")
+                .register(meterRegistry);
+        FunctionCounter.builder("hms.telemetry.dropped", dropped, AtomicLong::get)
+                .description("Readings dropped after their batch failed to write")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean enqueue(List<VitalReadingRequest> readings) {
+        validate(readings);
+        if (readings.isEmpty()) {
+            return true;
+        }
+        if (!running || !capacity.tryAcquire(readings.size())) {
+            return false;
+        }
+        queue.addAll(readings);
+        if (queued.addAndGet(readings.size()) >= batchSize) {
+            lock.lock();
+            try {
+                batchReady.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int storeNow(List<VitalReadingRequest> readings) {
+        validate(readings);
+        if (readings.isEmpty()) {
+            return 0;
+        }
+        Integer stored = transactionTemplate.execute(status -> vitalSignRepository.copyBatch(readings));
+        return stored != null ? stored : 0;
+    }
+
+    @Override
+    public int getQueuedCount() {
+        return queued.get();
+    }
+
+    @Override
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusher = new Thread(this::flushLoop, "telemetry-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        lock.lock();
+        try {
+            batchReady.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join(drainTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (queued.get() > 0) {
+            log.warn("Telemetry buffer stopped with {} readings still queued; they are lost", queued.get());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private static void validate(List<VitalReadingRequest> readings) {
+        for (VitalReadingRequest reading : readings) {
+            if (reading.getPatientId() == null || reading.getType() == null || reading.getRecordedAt() == null
+                    || reading.getValue() == null || !Double.isFinite(reading.getValue())) {
+                throw new IllegalArgumentException("patientId, type, recordedAt and a finite value are required");
+            }
+        }
+    }
+
+    private void flushLoop() {
+        while (running || queued.get() > 0) {
+            awaitBatch();
+            List<VitalReadingRequest> batch = new ArrayList<>(Math.min(queued.get(), batchSize));
+            VitalReadingRequest reading;
+            while (batch.size() < batchSize && (reading = queue.poll()) != null) {
+                batch.add(reading);
+            }
+            if (!batch.isEmpty()) {
+                queued.addAndGet(-batch.size());
+                write(batch);
+                capacity.release(batch.size());
+            }
+        }
+    }
+
+    private void awaitBatch() {
+        long remaining = maxDelay.toNanos();
+        lock.lock();
+        try {
+            while (running && queued.get() < batchSize && remaining > 0) {
+                remaining = batchReady.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void write(List<VitalReadingRequest> batch) {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> vitalSignRepository.copyBatch(batch));
+                return;
+            } catch (RuntimeException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    dropped.addAndGet(batch.size());
+                    log.error("Dropping {} telemetry readings after {} failed attempts", batch.size(), attempt, e);
+                    return;
+                }
+                log.warn("Telemetry flush attempt {} failed, retrying: {}", attempt, e.getMessage());
+                try {
+                    TimeUnit.MILLISECONDS.sleep(RETRY_BACKOFF_MILLIS * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
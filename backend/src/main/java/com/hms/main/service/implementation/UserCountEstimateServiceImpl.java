@@ -0,0 +1,49 @@
+package com.hms.main.service.implementation;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.hms.main.dto.response.user.UserCountEstimateResponse;
+import com.hms.main.service.UserCountEstimateService;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class UserCountEstimateServiceImpl implements UserCountEstimateService {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AtomicReference<UserCountEstimateResponse> current = new AtomicReference<>();
+
+    @Override
+    public UserCountEstimateResponse getEstimate() {
+        UserCountEstimateResponse estimate = current.get();
+        if (estimate == null) {
+            refresh();
+            estimate = current.get();
+        }
+        return estimate;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${hms.users.count-estimate.refresh-interval:PT5M}")
+    public void refresh() {
+        Long reltuples = jdbcTemplate.queryForObject(
+                "SELECT reltuples::bigint FROM pg_class WHERE oid = 'public.users'::regclass", Long.class);
+
+        UserCountEstimateResponse estimate;
+        if (reltuples == null || reltuples < 0) {
+            // The table has never been analyzed yet, which only happens while it is small
+            Long exact = jdbcTemplate.queryForObject("SELECT count(*) FROM users", Long.class);
+            estimate = new UserCountEstimateResponse(exact, true, LocalDateTime.now());
+        } else {
+            estimate = new UserCountEstimateResponse(reltuples, false, LocalDateTime.now());
+        }
+        current.set(estimate);
+    }
+}
@@ -1,57 +1,235 @@
 package com.hms.main.service.implementation;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.hms.main.cache.CacheEntityType;
+import com.hms.main.cache.CacheInvalidationBus;
 import com.hms.main.dto.request.user.CreateUserRequest;
 import com.hms.main.dto.request.user.UpdateUserRequest;
+import com.hms.main.dto.response.FieldSliceResponse;
 import com.hms.main.dto.response.user.UserResponse;
+import com.hms.main.dto.response.user.UserSliceResponse;
+import com.hms.main.entity.Allergy;
+import com.hms.main.entity.Doctor;
 import com.hms.main.entity.User;
+import com.hms.main.entity.enums.Roles;
+import com.hms.main.entity.enums.SyncCollection;
 import com.hms.main.mapper.UserMapper;
+import com.hms.main.repository.AllergyRepository;
+import com.hms.main.repository.DoctorRepository;
+import com.hms.main.repository.SparseFieldRepository;
 import com.hms.main.repository.UserRepository;
+import com.hms.main.service.SyncService;
 import com.hms.main.service.UserService;
 
+import io.micrometer.core.annotation.Timed;
+
 @Service
+@Timed(value = "hms.service", histogram = true)
 public class UserServiceImpl implements UserService {
 
+    // Columns backed by an index on the users table
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "email", "fullName", "createdAt");
+
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final SyncService syncService;
+    private final SparseFieldRepository sparseFieldRepository;
+    private final DoctorRepository doctorRepository;
+    private final AllergyRepository allergyRepository;
 
-    public UserServiceImpl(UserRepository userRepository) {
+    public UserServiceImpl(UserRepository userRepository, CacheInvalidationBus cacheInvalidationBus,
+            SyncService syncService, SparseFieldRepository sparseFieldRepository,
+            DoctorRepository doctorRepository, AllergyRepository allergyRepository) {
         this.userRepository = userRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.syncService = syncService;
+        this.sparseFieldRepository = sparseFieldRepository;
+        this.doctorRepository = doctorRepository;
+        this.allergyRepository = allergyRepository;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<UserResponse> getAllUsers(Pageable pageable) {
-        return userRepository.findAll(pageable).map(UserMapper::toUserResponseDto);
+        return userRepository.findAllResponses(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserSliceResponse getUserSlice(Pageable pageable) {
+        for (Sort.Order order : pageable.getSort()) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Sorting by " + order.getProperty() + " is not supported");
+            }
+        }
+        Slice<UserResponse> slice = userRepository.findResponseSlice(pageable);
+        return UserSliceResponse.builder()
+                .content(slice.getContent())
+                .hasNext(slice.hasNext())
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserSliceResponse getUsersAfter(String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        // Read one extra row to find out whether another page follows
+        Limit limit = Limit.of(size + 1);
+        List<UserResponse> users;
+        if (cursor == null || cursor.isBlank()) {
+            users = userRepository.findFirstKeysetPage(limit);
+        } else {
+            String[] position = decodeCursor(cursor);
+            users = userRepository.findKeysetPageAfter(LocalDateTime.parse(position[0]),
+                    UUID.fromString(position[1]), limit);
+        }
+
+        boolean hasNext = users.size() > size;
+        List<UserResponse> content = hasNext ? users.subList(0, size) : users;
+        UserResponse last = content.isEmpty() ? null : content.get(content.size() - 1);
+        return UserSliceResponse.builder()
+                .content(content)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? encodeCursor(last) : null)
+                .build();
     }
 
+    @Transactional(readOnly = true)
     public Optional<UserResponse> getUserById(UUID id) {
-        return userRepository.findById(id).map(UserMapper::toUserResponseDto);
+        return userRepository.findResponseById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> getUserVersion(UUID id) {
+        return userRepository.findVersionById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Map<String, Object>> getUserFields(UUID id, Set<String> fields) {
+        return sparseFieldRepository.findUser(id, fields);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public FieldSliceResponse getUserFields(Set<String> fields, int page, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative");
+        }
+        // Read one extra row to find out whether another page follows
+        List<Map<String, Object>> users = sparseFieldRepository.findUsers(fields, page * size, size + 1);
+        boolean hasNext = users.size() > size;
+        return FieldSliceResponse.builder()
+                .content(hasNext ? users.subList(0, size) : users)
+                .hasNext(hasNext)
+                .build();
     }
 
     public UserResponse createUser(CreateUserRequest request) {
         User user = UserMapper.toUser(request);
         User savedUser = userRepository.save(user);
+        cacheInvalidationBus.publish(CacheEntityType.USER, savedUser.getId());
         return UserMapper.toUserResponseDto(savedUser);
     }
 
+    @Override
+    @Transactional
     public Optional<UserResponse> updateUser(UUID id, UpdateUserRequest request) {
+        return applyVersionedUpdate(id, request);
+    }
+
+    @Override
+    @Transactional
+    public Optional<UserResponse> patchUser(UUID id, UpdateUserRequest request) {
+        return applyVersionedUpdate(id, request);
+    }
+
+    private Optional<UserResponse> applyVersionedUpdate(UUID id, UpdateUserRequest request) {
+        if (request.getVersion() == null) {
+            throw new IllegalArgumentException("Version is required");
+        }
         return userRepository.findById(id).map(existingUser -> {
+            if (!request.getVersion().equals(existingUser.getVersion())) {
+                throw new ObjectOptimisticLockingFailureException(User.class, id);
+            }
             UserMapper.updateUserFromDto(existingUser, request);
-            User updateUser = userRepository.save(existingUser);
-            return UserMapper.toUserResponseDto(updateUser);
+            // Flush here so a concurrent commit surfaces as a version conflict from this call
+            User updatedUser = userRepository.saveAndFlush(existingUser);
+            cacheInvalidationBus.publish(CacheEntityType.USER, id);
+            return UserMapper.toUserResponseDto(updatedUser);
         });
     }
 
+    @Transactional
     public void deleteUser(UUID id) {
-        if (!userRepository.existsById(id)) {
-            throw new IllegalStateException("User with id " + id + " does not exist.");
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new IllegalStateException("User with id " + id + " does not exist."));
+        // Rows owned by the user go first, each with the tombstone its sync collection needs
+        Optional<Doctor> doctor = doctorRepository.findByUserId(id);
+        doctor.ifPresent(doctorRepository::delete);
+        List<Allergy> allergies = allergyRepository.findByPatientId(id);
+        allergyRepository.deleteAll(allergies);
+        userRepository.delete(user);
+
+        if (user.getRole() == Roles.PATIENT) {
+            syncService.recordDeletion(SyncCollection.PATIENTS, id, id);
+        }
+        doctor.ifPresent(deleted -> {
+            syncService.recordDeletion(SyncCollection.DOCTORS, deleted.getId(), null);
+            cacheInvalidationBus.publish(CacheEntityType.DOCTOR, deleted.getId());
+            cacheInvalidationBus.publish(CacheEntityType.SCHEDULE, deleted.getId());
+        });
+        for (Allergy allergy : allergies) {
+            syncService.recordDeletion(SyncCollection.ALLERGIES, allergy.getId(), id);
+        }
+        if (!allergies.isEmpty()) {
+            cacheInvalidationBus.publish(CacheEntityType.CLINICAL_RECORD, id);
         }
-        userRepository.deleteById(id);
+        cacheInvalidationBus.publish(CacheEntityType.USER, id);
     }
 
+    private static String encodeCursor(UserResponse user) {
+        String position = user.getCreatedAt() + "|" + user.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = position.split("\\|", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            LocalDateTime.parse(parts[0]);
+            UUID.fromString(parts[1]);
+            return parts;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
 }
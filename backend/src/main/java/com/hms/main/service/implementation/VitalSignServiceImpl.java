@@ -0,0 +1,163 @@
+package com.hms.main.service.implementation;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hms.main.dto.request.VitalReadingRequest;
+import com.hms.main.dto.response.VitalBucketResponse;
+import com.hms.main.dto.response.VitalReadingResponse;
+import com.hms.main.dto.response.VitalSeriesResponse;
+import com.hms.main.entity.User;
+import com.hms.main.entity.enums.Roles;
+import com.hms.main.entity.enums.VitalType;
+import com.hms.main.repository.VitalSignRepository;
+import com.hms.main.service.VitalSignService;
+
+@Service
+public class VitalSignServiceImpl implements VitalSignService {
+
+    private static final Logger log = LoggerFactory.getLogger(VitalSignServiceImpl.class);
+
+    private static final int MAX_BATCH_SIZE = 10_000;
+    private static final int MAX_BUCKETS = 500;
+    private static final int DELETE_BATCH_SIZE = 50_000;
+    private static final Duration ROLLUP_BUCKET = Duration.ofHours(1);
+    private static final List<Duration> BUCKET_STEPS = List.of(
+            Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofSeconds(15), Duration.ofSeconds(30),
+            Duration.ofMinutes(1), Duration.ofMinutes(5), Duration.ofMinutes(15), Duration.ofMinutes(30),
+            Duration.ofHours(1), Duration.ofHours(3), Duration.ofHours(6), Duration.ofHours(12),
+            Duration.ofDays(1), Duration.ofDays(7));
+
+    private final VitalSignRepository vitalSignRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration rawRetention;
+    private final Duration rollupRetention;
+
+    public VitalSignServiceImpl(VitalSignRepository vitalSignRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${hms.vitals.raw-retention:P30D}") Duration rawRetention,
+            @Value("${hms.vitals.rollup-retention:P730D}") Duration rollupRetention) {
+        this.vitalSignRepository = vitalSignRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.rawRetention = rawRetention;
+        this.rollupRetention = rollupRetention;
+    }
+
+    @Override
+    public int ingest(User currentUser, List<VitalReadingRequest> readings) {
+        if (currentUser.getRole() == Roles.PATIENT) {
+            throw new RuntimeException("Only staff and devices can record vitals");
+        }
+        if (readings == null || readings.isEmpty()) {
+            return 0;
+        }
+        if (readings.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " readings per batch");
+        }
+        for (VitalReadingRequest reading : readings) {
+            if (reading.getPatientId() == null || reading.getType() == null || reading.getRecordedAt() == null
+                    || reading.getValue() == null || !Double.isFinite(reading.getValue())) {
+                throw new IllegalArgumentException("patientId, type, recordedAt and a finite value are required");
+            }
+        }
+        Integer stored = transactionTemplate.execute(status -> vitalSignRepository.insertBatch(readings));
+        return stored != null ? stored : 0;
+    }
+
+    @Override
+    public VitalSeriesResponse getSeries(User currentUser, UUID patientId, VitalType type, Instant from,
+            Instant to, Duration bucket) {
+        if (currentUser.getRole() == Roles.PATIENT && !currentUser.getId().equals(patientId)) {
+            throw new RuntimeException("Patients can only view their own vitals");
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+
+        Duration width = chooseBucket(Duration.between(from, to), bucket);
+        List<VitalBucketResponse> buckets;
+        if (width.compareTo(ROLLUP_BUCKET) >= 0 && width.toSeconds() % ROLLUP_BUCKET.toSeconds() == 0) {
+            buckets = vitalSignRepository.findBucketsFromRollups(patientId, type, from, to, width,
+                    vitalSignRepository.findRollupWatermark());
+        } else {
+            buckets = vitalSignRepository.findBuckets(patientId, type, from, to, width);
+        }
+
+        return VitalSeriesResponse.builder()
+                .patientId(patientId)
+                .type(type)
+                .from(from)
+                .to(to)
+                .bucket(width)
+                .buckets(buckets)
+                .build();
+    }
+
+    @Override
+    public List<VitalReadingResponse> getLatest(User currentUser, UUID patientId) {
+        if (currentUser.getRole() == Roles.PATIENT && !currentUser.getId().equals(patientId)) {
+            throw new RuntimeException("Patients can only view their own vitals");
+        }
+        return vitalSignRepository.findLatest(patientId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        vitalSignRepository.initRollupWatermark();
+    }
+
+    @Scheduled(cron = "${hms.vitals.rollup-cron:0 5 * * * *}")
+    public void rollUpRecentHours() {
+        Instant until = Instant.now().truncatedTo(ChronoUnit.HOURS);
+        // Kept short: ingest waits while the watermark moves
+        transactionTemplate.executeWithoutResult(status -> vitalSignRepository.advanceRollupWatermark(until));
+        // Hours past raw retention have lost readings, so their rollups are left as they are
+        Instant notBefore = Instant.now().minus(rawRetention);
+        Integer hours = transactionTemplate.execute(status -> vitalSignRepository.rollupDueHours(notBefore));
+        log.debug("Rolled up {} hours of vitals before {}", hours, until);
+    }
+
+    @Scheduled(cron = "${hms.vitals.retention-cron:0 30 3 * * *}")
+    public void applyRetention() {
+        Instant now = Instant.now();
+        long readings = 0;
+        int deleted;
+        // Small batches keep each transaction and its locks short
+        do {
+            deleted = vitalSignRepository.deleteReadingsBefore(now.minus(rawRetention), DELETE_BATCH_SIZE);
+            readings += deleted;
+        } while (deleted == DELETE_BATCH_SIZE);
+
+        long rollups = 0;
+        do {
+            deleted = vitalSignRepository.deleteRollupsBefore(now.minus(rollupRetention), DELETE_BATCH_SIZE);
+            rollups += deleted;
+        } while (deleted == DELETE_BATCH_SIZE);
+
+        log.info("Vitals retention removed {} raw readings and {} hourly rollups", readings, rollups);
+    }
+
+    // Never returns more than MAX_BUCKETS buckets, whatever the client asked for
+    static Duration chooseBucket(Duration range, Duration requested) {
+        Duration minimum = range.dividedBy(MAX_BUCKETS);
+        Duration wanted = requested != null && requested.compareTo(minimum) > 0 ? requested : minimum;
+        for (Duration step : BUCKET_STEPS) {
+            if (step.compareTo(wanted) >= 0) {
+                return step;
+            }
+        }
+        return BUCKET_STEPS.get(BUCKET_STEPS.size() - 1);
+    }
+}
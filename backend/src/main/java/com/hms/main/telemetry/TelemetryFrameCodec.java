@@ -0,0 +1,107 @@
+package com.hms.main.telemetry;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.hms.main.dto.request.VitalReadingRequest;
+import com.hms.main.entity.enums.VitalType;
+
+/**
+ * Wire formats accepted by the telemetry endpoint.
+ * <p>
+ * NDJSON: one {@link VitalReadingRequest} JSON object per line.
+ * <p>
+ * Binary frame, big-endian: the magic bytes {@code HMSV}, a version byte
+ * ({@value #VERSION}), then records until end of stream. Each record is
+ * {@value #RECORD_SIZE} bytes: patient UUID (two longs), vital type ordinal
+ * (one byte), recorded-at epoch milliseconds (long) and value (double).
+ */
+public final class TelemetryFrameCodec {
+
+    public static final String NDJSON = "application/x-ndjson";
+    public static final String BINARY = "application/vnd.hms.vitals-frame";
+
+    public static final int VERSION = 1;
+    public static final int RECORD_SIZE = 33;
+
+    private static final byte[] MAGIC = { 'H', 'M', 'S', 'V' };
+    private static final VitalType[] TYPES = VitalType.values();
+
+    private final ObjectReader ndjsonReader;
+
+    public TelemetryFrameCodec(ObjectMapper objectMapper) {
+        this.ndjsonReader = objectMapper.readerFor(VitalReadingRequest.class);
+    }
+
+    public List<VitalReadingRequest> readNdjson(InputStream in, int maxReadings) throws IOException {
+        List<VitalReadingRequest> readings = new ArrayList<>();
+        try (MappingIterator<VitalReadingRequest> iterator = ndjsonReader.readValues(in)) {
+            while (iterator.hasNextValue()) {
+                if (readings.size() == maxReadings) {
+                    throw new IllegalArgumentException("At most " + maxReadings + " readings per request");
+                }
+                readings.add(iterator.nextValue());
+            }
+        }
+        return readings;
+    }
+
+    public static List<VitalReadingRequest> readBinary(InputStream in, int maxReadings) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        byte[] magic = new byte[MAGIC.length];
+        data.readFully(magic);
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (magic[i] != MAGIC[i]) {
+                throw new IllegalArgumentException("Not a vitals frame");
+            }
+        }
+        int version = data.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported frame version " + version);
+        }
+
+        List<VitalReadingRequest> readings = new ArrayList<>();
+        while (true) {
+            long mostSignificant;
+            try {
+                mostSignificant = data.readLong();
+            } catch (EOFException e) {
+                return readings;
+            }
+            if (readings.size() == maxReadings) {
+                throw new IllegalArgumentException("At most " + maxReadings + " readings per request");
+            }
+            UUID patientId = new UUID(mostSignificant, data.readLong());
+            int type = data.readUnsignedByte();
+            if (type >= TYPES.length) {
+                throw new IllegalArgumentException("Unknown vital type " + type);
+            }
+            readings.add(new VitalReadingRequest(patientId, TYPES[type],
+                    Instant.ofEpochMilli(data.readLong()), data.readDouble()));
+        }
+    }
+
+    public static void writeBinaryHeader(OutputStream out) throws IOException {
+        out.write(MAGIC);
+        out.write(VERSION);
+    }
+
+    public static void writeBinaryRecord(DataOutputStream out, VitalReadingRequest reading) throws IOException {
+        out.writeLong(reading.getPatientId().getMostSignificantBits());
+        out.writeLong(reading.getPatientId().getLeastSignificantBits());
+        out.writeByte(reading.getType().ordinal());
+        out.writeLong(reading.getRecordedAt().toEpochMilli());
+        out.writeDouble(reading.getValue());
+    }
+}
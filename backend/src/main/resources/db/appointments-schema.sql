@@ -0,0 +1,33 @@
+-- The appointments table is range-partitioned by month on appointment_date.
+-- Hibernate cannot generate a partitioned table, so AppointmentSchemaFilterProvider
+-- keeps it out of ddl-auto and AppointmentPartitionServiceImpl runs this script
+-- when the table does not exist. Monthly partitions are created by that service.
+CREATE TABLE IF NOT EXISTS appointments (
+    id uuid NOT NULL,
+    patient_id uuid NOT NULL,
+    doctor_id uuid NOT NULL,
+    service_id uuid NOT NULL,
+    appointment_date date NOT NULL,
+    start_time time(6) NOT NULL,
+    end_time time(6) NOT NULL,
+    status varchar(255) NOT NULL
+        CHECK (status IN ('SCHEDULED', 'COMPLETED', 'CANCELLED', 'NO_SHOW')),
+    amount numeric(10, 2) NOT NULL,
+    payment_status varchar(255) NOT NULL
+        CHECK (payment_status IN ('PENDING', 'PAID', 'FAILED', 'REFUNDED', 'PARTIAL')),
+    notes text,
+    created_at timestamp(6) NOT NULL,
+    updated_at timestamp(6) NOT NULL,
+    version bigint NOT NULL,
+    -- A unique constraint on a partitioned table must include the partition key.
+    -- id alone is still unique: it is a generated UUID and never updated.
+    CONSTRAINT appointments_pkey PRIMARY KEY (id, appointment_date),
+    CONSTRAINT fk_appointments_patient FOREIGN KEY (patient_id) REFERENCES users (id),
+    CONSTRAINT fk_appointments_doctor FOREIGN KEY (doctor_id) REFERENCES doctors (id),
+    CONSTRAINT fk_appointments_service FOREIGN KEY (service_id) REFERENCES services (id)
+) PARTITION BY RANGE (appointment_date);
+
+-- No default partition: it would rule out DETACH CONCURRENTLY when archiving.
+
+CREATE INDEX IF NOT EXISTS idx_appointments_patient_date ON appointments (patient_id, appointment_date);
+CREATE INDEX IF NOT EXISTS idx_appointments_doctor_date ON appointments (doctor_id, appointment_date);
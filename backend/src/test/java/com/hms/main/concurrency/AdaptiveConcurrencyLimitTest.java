@@ -0,0 +1,54 @@
+package com.hms.main.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(20);
+
+    @Test
+    void backsOffWhenThePoolIsSlowAndRecoversWhenItIsFast() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 20, 0.5, SLOW);
+
+        limit.onSample(SLOW * 2, false);
+        // Same round as the first slow sample, so no further decrease
+        limit.onSample(0, true);
+        assertThat(limit.limit()).isEqualTo(10);
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(0, true);
+        }
+        assertThat(limit.limit()).isEqualTo(2);
+
+        for (int i = 0; i < 400; i++) {
+            limit.onSample(SLOW / 2, false);
+        }
+        assertThat(limit.limit()).isEqualTo(20);
+    }
+
+    @Test
+    void rejectsCallersOverTheLimitAfterWaiting() throws InterruptedException {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1, 0.5, SLOW);
+
+        assertThat(limit.acquire(0, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(limit.acquire(10, TimeUnit.MILLISECONDS)).isFalse();
+        limit.release();
+        assertThat(limit.acquire(0, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(limit.inFlight()).isEqualTo(1);
+        assertThat(limit.rejected()).isEqualTo(1);
+    }
+
+    @Test
+    void turnsAwayLowerSharesFirst() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 10, 0.5, SLOW);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limit.tryAcquire(0.5)).isTrue();
+        }
+        assertThat(limit.tryAcquire(0.5)).isFalse();
+        assertThat(limit.tryAcquire(1.0)).isTrue();
+    }
+}
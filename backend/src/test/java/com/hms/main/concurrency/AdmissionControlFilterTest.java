@@ -0,0 +1,91 @@
+package com.hms.main.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+class AdmissionControlFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // Ten requests at most; low-priority routes may fill half of that
+    private final AdmissionControlFilter filter = new AdmissionControlFilter(meterRegistry, true, 2, 10, 0.5,
+            Duration.ofSeconds(1), 3, 1.0, 0.8, 0.5,
+            new String[] { "/api/v1/patients/*/chart/**" }, new String[] { "GET /api/v1/doctors/**" });
+
+    @Test
+    void resolvesPrioritiesFromRoutes() {
+        assertThat(filter.priorityOf(new MockHttpServletRequest("GET", "/api/v1/patients/42/chart")))
+                .isEqualTo(AdmissionControlFilter.Priority.CRITICAL);
+        assertThat(filter.priorityOf(new MockHttpServletRequest("GET", "/api/v1/doctors")))
+                .isEqualTo(AdmissionControlFilter.Priority.LOW);
+        assertThat(filter.priorityOf(new MockHttpServletRequest("POST", "/api/v1/doctors")))
+                .isEqualTo(AdmissionControlFilter.Priority.NORMAL);
+    }
+
+    @Test
+    void shedsLowPriorityRoutesFirstUnderLoad() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        FilterChain slow = (req, res) -> {
+            try {
+                blocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        List<Future<?>> running = new ArrayList<>();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 5; i++) {
+                running.add(clients.submit(() -> {
+                    filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/patients/1/chart"),
+                            new MockHttpServletResponse(), slow);
+                    return null;
+                }));
+            }
+            while (meterRegistry.get("hms.admission.in.flight").gauge().value() < 5) {
+                Thread.onSpinWait();
+            }
+
+            MockHttpServletResponse low = send("GET", "/api/v1/doctors");
+            MockHttpServletResponse critical = send("GET", "/api/v1/patients/2/chart");
+            blocked.countDown();
+            for (Future<?> request : running) {
+                request.get();
+            }
+
+            assertThat(low.getStatus()).isEqualTo(503);
+            assertThat(low.getHeader("Retry-After")).isEqualTo("3");
+            assertThat(critical.getStatus()).isEqualTo(200);
+            assertThat(meterRegistry.get("hms.admission.requests").tag("priority", "low").tag("outcome", "rejected")
+                    .counter().count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void leavesNonApiRequestsAlone() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), response, (req, res) -> { });
+
+        assertThat(meterRegistry.get("hms.admission.requests").counters())
+                .allSatisfy(counter -> assertThat(counter.count()).isZero());
+    }
+
+    private MockHttpServletResponse send(String method, String uri) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(method, uri), response, (req, res) -> { });
+        return response;
+    }
+}
@@ -0,0 +1,376 @@
+package com.hms.main.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hms.main.BackendApplication;
+
+/**
+ * Mixed-workload HTTP load test with per-endpoint HDR latency histograms.
+ * <p>
+ * Logs in as the accounts created by the {@code datagen} profile
+ * ({@code patient<n>@synthetic.example}, {@code admin0@synthetic.example}),
+ * then sends a weighted mix of scenarios for the given duration. The closed
+ * model runs {@code --concurrency} users back to back; the open model starts
+ * requests at {@code --rate} per second regardless of how fast the server
+ * answers, and measures latency from the intended start so queueing delay is
+ * not hidden (no coordinated omission). Anything recorded during
+ * {@code --warmup} is discarded.
+ * <p>
+ * With {@code --in-process} the application is started in this JVM on a
+ * random port, using {@code --profiles} (default {@code datagen}); it still
+ * needs the configured Postgres. {@code --virtual-threads=true|false} picks
+ * its request execution mode, so two runs compare platform and virtual
+ * threads on the same data.
+ *
+ * <pre>
+ * java -cp ... com.hms.main.loadtest.LoadTestHarness --url=http://localhost:8081 \
+ *     --mode=open --rate=500 --duration=60 --warmup=10 --patients=1000 \
+ *     --mix=login:5,doctors:30,chart:25,appointments:20,users:10,services:10 [--hgrm=target/load]
+ * </pre>
+ */
+public final class LoadTestHarness {
+
+    private static final String DEFAULT_MIX = "login:5,doctors:30,chart:25,appointments:20,users:10,services:10";
+
+    private static final Set<String> SCENARIOS = Set.of("login", "doctors", "services", "chart", "appointments",
+            "users");
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    // Logins hash passwords; too many at once trip admission control before the run starts
+    private static final int SETUP_CONCURRENCY = 8;
+
+    private static final int SETUP_ATTEMPTS = 5;
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private LoadTestHarness() {
+    }
+
+    /** A logged-in account the scenarios act as. */
+    private record Session(String token, UUID userId) {
+    }
+
+    private record Scenario(String name, int weight) {
+    }
+
+    /** Latency and outcome counters for one scenario. */
+    private static final class Endpoint {
+        final Recorder latency = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+        Histogram measured;
+        long measuredErrors;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String mode = options.getOrDefault("mode", "closed");
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "32"));
+        double rate = Double.parseDouble(options.getOrDefault("rate", "200"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "60"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "10"));
+        int patients = Integer.parseInt(options.getOrDefault("patients", "1000"));
+        int sessionCount = Integer.parseInt(options.getOrDefault("sessions", String.valueOf(Math.min(patients, 200))));
+        String password = options.getOrDefault("password", "aA@123456789");
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        List<Scenario> mix = parseMix(options.getOrDefault("mix", DEFAULT_MIX));
+        Path hgrm = options.containsKey("hgrm") ? Path.of(options.get("hgrm")) : null;
+
+        ConfigurableApplicationContext application = null;
+        String base = options.getOrDefault("url", "http://localhost:8081");
+        if (options.containsKey("in-process")) {
+            application = SpringApplication.run(BackendApplication.class, "--server.port=0",
+                    "--spring.profiles.active=" + options.getOrDefault("profiles", "datagen"),
+                    "--spring.jpa.show-sql=false",
+                    "--spring.threads.virtual.enabled=" + options.getOrDefault("virtual-threads", "false"));
+            base = "http://localhost:" + ((WebServerApplicationContext) application).getWebServer().getPort();
+        }
+
+        try {
+            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+            Run run = new Run(client, base, password, patients, mix);
+            run.login(sessionCount, options.getOrDefault("admin", "admin0@synthetic.example"));
+            System.out.printf("%s model, %d sessions, warmup %ds, measuring %ds against %s%s%n", mode,
+                    run.sessions.size(), warmupSeconds, durationSeconds, base, application == null ? ""
+                            : " (" + ("true".equals(options.get("virtual-threads")) ? "virtual" : "platform")
+                                    + " threads)");
+
+            if ("open".equals(mode)) {
+                run.open(rate, warmupSeconds, durationSeconds, seed);
+            } else {
+                run.closed(concurrency, warmupSeconds, durationSeconds, seed);
+            }
+            run.report(durationSeconds, hgrm);
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+    }
+
+    private static final class Run {
+
+        private final HttpClient client;
+        private final String base;
+        private final String password;
+        private final int patients;
+        private final List<Scenario> mix;
+        private final int totalWeight;
+        private final Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        private final List<Session> sessions = new ArrayList<>();
+        private Session admin;
+
+        Run(HttpClient client, String base, String password, int patients, List<Scenario> mix) {
+            this.client = client;
+            this.base = base;
+            this.password = password;
+            this.patients = patients;
+            this.mix = mix;
+            this.totalWeight = mix.stream().mapToInt(Scenario::weight).sum();
+            mix.forEach(scenario -> endpoints.put(scenario.name(), new Endpoint()));
+        }
+
+        void login(int count, String adminEmail) throws Exception {
+            admin = authenticate(adminEmail);
+            try (ExecutorService executor = Executors.newFixedThreadPool(SETUP_CONCURRENCY)) {
+                List<Future<Session>> logins = new ArrayList<>();
+                for (int i = 0; i < count; i++) {
+                    String email = "patient" + i + "@synthetic.example";
+                    logins.add(executor.submit(() -> authenticate(email)));
+                }
+                for (Future<Session> login : logins) {
+                    sessions.add(login.get());
+                }
+            }
+        }
+
+        void closed(int concurrency, int warmupSeconds, int durationSeconds, long seed) throws Exception {
+            AtomicBoolean running = new AtomicBoolean(true);
+            try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int u = 0; u < concurrency; u++) {
+                    SplittableRandom random = new SplittableRandom(seed + u);
+                    Session session = sessions.get(u % sessions.size());
+                    users.submit(() -> {
+                        while (running.get()) {
+                            Scenario scenario = pick(random);
+                            long start = System.nanoTime();
+                            boolean ok = send(scenario.name(), session, random);
+                            record(scenario.name(), start, ok);
+                        }
+                    });
+                }
+                measure(warmupSeconds, durationSeconds);
+                running.set(false);
+            }
+        }
+
+        void open(double rate, int warmupSeconds, int durationSeconds, long seed) throws Exception {
+            long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+            long arrivals = (long) (rate * (warmupSeconds + durationSeconds));
+            SplittableRandom random = new SplittableRandom(seed);
+            try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor()) {
+                Thread measuring = Thread.ofVirtual().start(() -> {
+                    try {
+                        measure(warmupSeconds, durationSeconds);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                long began = System.nanoTime();
+                for (long arrival = 0; arrival < arrivals; arrival++) {
+                    long intended = began + arrival * intervalNanos;
+                    long wait = intended - System.nanoTime();
+                    if (wait > 0) {
+                        TimeUnit.NANOSECONDS.sleep(wait);
+                    }
+                    Scenario scenario = pick(random);
+                    Session session = sessions.get((int) (arrival % sessions.size()));
+                    SplittableRandom requestRandom = random.split();
+                    senders.submit(() -> record(scenario.name(), intended, send(scenario.name(), session,
+                            requestRandom)));
+                }
+                measuring.join();
+            }
+        }
+
+        /** Discards the warmup interval, then captures the measured one. */
+        private void measure(int warmupSeconds, int durationSeconds) throws InterruptedException {
+            TimeUnit.SECONDS.sleep(warmupSeconds);
+            endpoints.values().forEach(endpoint -> {
+                endpoint.latency.getIntervalHistogram();
+                endpoint.errors.reset();
+            });
+            TimeUnit.SECONDS.sleep(durationSeconds);
+            endpoints.values().forEach(endpoint -> {
+                endpoint.measured = endpoint.latency.getIntervalHistogram();
+                endpoint.measuredErrors = endpoint.errors.sum();
+            });
+        }
+
+        private void record(String scenario, long startNanos, boolean ok) {
+            Endpoint endpoint = endpoints.get(scenario);
+            long micros = (System.nanoTime() - startNanos) / 1000;
+            endpoint.latency.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+            if (!ok) {
+                endpoint.errors.increment();
+            }
+        }
+
+        private Scenario pick(SplittableRandom random) {
+            int roll = random.nextInt(totalWeight);
+            for (Scenario scenario : mix) {
+                roll -= scenario.weight();
+                if (roll < 0) {
+                    return scenario;
+                }
+            }
+            return mix.get(mix.size() - 1);
+        }
+
+        private boolean send(String scenario, Session session, SplittableRandom random) {
+            HttpRequest request = switch (scenario) {
+                case "login" -> post("/api/v1/auth/authenticate", credentials(
+                        "patient" + random.nextInt(patients) + "@synthetic.example"));
+                case "doctors" -> get("/api/v1/doctors", session);
+                case "services" -> get("/api/v1/services", session);
+                case "chart" -> get("/api/v1/patients/" + session.userId() + "/chart", session);
+                case "appointments" -> get("/api/v1/patients/" + session.userId() + "/appointments", session);
+                case "users" -> get("/api/v1/users?page=" + random.nextInt(50) + "&size=20", admin);
+                default -> throw new IllegalArgumentException("Unknown scenario " + scenario);
+            };
+            try {
+                int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                return status < 400;
+            } catch (IOException e) {
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private Session authenticate(String email) throws IOException, InterruptedException {
+            HttpResponse<String> response = sendForSetup(post("/api/v1/auth/authenticate", credentials(email)));
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Login as " + email + " returned " + response.statusCode()
+                        + "; was the dataset generated with the datagen profile?");
+            }
+            String token = JSON.readTree(response.body()).path("token").asText();
+            // The login response carries only the token; the id comes from the profile
+            HttpResponse<String> profile = sendForSetup(get("/api/v1/profile", new Session(token, null)));
+            if (profile.statusCode() != 200) {
+                throw new IllegalStateException("Profile of " + email + " returned " + profile.statusCode()
+                        + " with the token from its login");
+            }
+            JsonNode id = JSON.readTree(profile.body()).path("id");
+            if (!id.isTextual()) {
+                throw new IllegalStateException("Profile of " + email + " has no id: " + profile.body());
+            }
+            return new Session(token, UUID.fromString(id.asText()));
+        }
+
+        /** Sends a setup request, waiting out 503s from admission control as Retry-After asks. */
+        private HttpResponse<String> sendForSetup(HttpRequest request) throws IOException, InterruptedException {
+            for (int attempt = 1;; attempt++) {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 503 || attempt == SETUP_ATTEMPTS) {
+                    return response;
+                }
+                long retryAfter = response.headers().firstValueAsLong("Retry-After").orElse(1);
+                TimeUnit.SECONDS.sleep(retryAfter);
+            }
+        }
+
+        private String credentials(String email) {
+            return JSON.createObjectNode().put("email", email).put("password", password).toString();
+        }
+
+        private HttpRequest get(String path, Session session) {
+            return HttpRequest.newBuilder(URI.create(base + path))
+                    .header("Authorization", "Bearer " + session.token())
+                    .GET()
+                    .build();
+        }
+
+        private HttpRequest post(String path, String body) {
+            return HttpRequest.newBuilder(URI.create(base + path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+
+        void report(int durationSeconds, Path hgrm) throws IOException {
+            System.out.printf("%-14s %9s %9s %8s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "req/s", "errors",
+                    "p50 ms", "p90 ms", "p99 ms", "p999 ms", "max ms");
+            for (Map.Entry<String, Endpoint> entry : endpoints.entrySet()) {
+                Histogram histogram = entry.getValue().measured;
+                long count = histogram.getTotalCount();
+                System.out.printf("%-14s %9d %9.1f %7.2f%% %9.2f %9.2f %9.2f %9.2f %9.2f%n", entry.getKey(), count,
+                        count / (double) durationSeconds,
+                        count == 0 ? 0 : 100.0 * entry.getValue().measuredErrors / count,
+                        histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(90) / 1000.0,
+                        histogram.getValueAtPercentile(99) / 1000.0, histogram.getValueAtPercentile(99.9) / 1000.0,
+                        histogram.getMaxValue() / 1000.0);
+                if (hgrm != null && count > 0) {
+                    Files.createDirectories(hgrm);
+                    try (PrintStream out = new PrintStream(Files.newOutputStream(hgrm.resolve(entry.getKey() + ".hgrm")))) {
+                        histogram.outputPercentileDistribution(out, 1000.0);
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<Scenario> parseMix(String mix) {
+        List<Scenario> scenarios = new ArrayList<>();
+        for (String part : mix.split(",")) {
+            String[] nameAndWeight = part.trim().split(":");
+            if (!SCENARIOS.contains(nameAndWeight[0])) {
+                throw new IllegalArgumentException("Unknown scenario " + nameAndWeight[0] + ", expected one of "
+                        + SCENARIOS);
+            }
+            scenarios.add(new Scenario(nameAndWeight[0],
+                    nameAndWeight.length > 1 ? Integer.parseInt(nameAndWeight[1]) : 1));
+        }
+        return scenarios;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] parts = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(parts[0], parts.length > 1 ? parts[1] : "true");
+        }
+        return options;
+    }
+}
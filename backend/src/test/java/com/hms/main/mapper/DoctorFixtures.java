@@ -0,0 +1,78 @@
+package com.hms.main.mapper;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import com.hms.main.entity.Doctor;
+import com.hms.main.entity.DoctorSchedule;
+import com.hms.main.entity.User;
+import com.hms.main.entity.enums.BloodType;
+import com.hms.main.entity.enums.Gender;
+import com.hms.main.entity.enums.Roles;
+
+/**
+ * Realistic, seeded object graphs for benchmarks: fully populated users, and
+ * doctors with a schedule for every day of the week.
+ */
+public final class DoctorFixtures {
+
+    private static final String[] SPECIALTIES = { "Cardiology", "Dermatology", "Neurology", "Pediatrics",
+            "Oncology" };
+
+    private DoctorFixtures() {
+    }
+
+    public static User user(int index, Roles role, SplittableRandom random) {
+        return User.builder()
+                .id(UUID.randomUUID())
+                .fullName((role == Roles.DOCTOR ? "Doctor " : "Patient ") + index)
+                .email(role.name().toLowerCase() + index + "@hospital.example")
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOa3J8Zr1a3lN4kS8dQbq0pQ2sJ1Vw8y2")
+                .phoneNumber(String.format("09%08d", random.nextInt(100_000_000)))
+                .gender(random.nextBoolean() ? Gender.MALE : Gender.FEMALE)
+                .bloodType(BloodType.values()[random.nextInt(BloodType.values().length)])
+                .dateOfBirth(LocalDate.of(1950 + random.nextInt(50), 1 + random.nextInt(12), 1 + random.nextInt(28)))
+                .address(random.nextInt(999) + " Example Street, District " + random.nextInt(12))
+                .emergencyContactName("Contact " + index)
+                .emergencyContactPhone(String.format("09%08d", random.nextInt(100_000_000)))
+                .role(role)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .version(0L)
+                .build();
+    }
+
+    public static List<Doctor> doctors(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        return IntStream.range(0, count).mapToObj(i -> {
+            Doctor doctor = Doctor.builder()
+                    .id(UUID.randomUUID())
+                    .user(user(i, Roles.DOCTOR, random))
+                    .specialty(SPECIALTIES[random.nextInt(SPECIALTIES.length)])
+                    .licenseNumber("LIC-" + i)
+                    .yearsOfExperience(random.nextInt(40))
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .version(0L)
+                    .schedules(new HashSet<>())
+                    .build();
+            for (DayOfWeek day : DayOfWeek.values()) {
+                doctor.getSchedules().add(DoctorSchedule.builder()
+                        .id(UUID.randomUUID())
+                        .doctor(doctor)
+                        .dayOfWeek(day)
+                        .startTime(LocalTime.of(8, 0))
+                        .endTime(LocalTime.of(17, 0))
+                        .build());
+            }
+            return doctor;
+        }).toList();
+    }
+}
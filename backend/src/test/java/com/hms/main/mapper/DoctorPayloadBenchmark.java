@@ -0,0 +1,110 @@
+package com.hms.main.mapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.hms.main.entity.Doctor;
+
+/**
+ * Payload size and latency of the doctor list with and without
+ * {@code fields=}.
+ * <p>
+ * Without {@code --url} it compares, in process, mapping plus JSON
+ * serialization of full {@link DoctorMapper} output against the nested maps a
+ * picker gets for {@code id,specialty,user.fullName}. With {@code --url} it
+ * calls both variants of {@code GET /api/v1/doctors} on a running server,
+ * which also covers the columns and schedules no longer fetched.
+ *
+ * <pre>
+ * java -cp ... com.hms.main.mapper.DoctorPayloadBenchmark --doctors=500 --iterations=2000
+ * java -cp ... com.hms.main.mapper.DoctorPayloadBenchmark --url=http://localhost:8081 --token=$JWT
+ * </pre>
+ */
+public final class DoctorPayloadBenchmark {
+
+    private static final String PICKER_FIELDS = "id,specialty,user.fullName";
+
+    private DoctorPayloadBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] parts = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(parts[0], parts.length > 1 ? parts[1] : "true");
+        }
+        int iterations = Integer.parseInt(options.getOrDefault("iterations", "2000"));
+
+        if (options.containsKey("url")) {
+            String base = options.get("url") + "/api/v1/doctors";
+            String token = options.get("token");
+            HttpClient client = HttpClient.newHttpClient();
+            report("http full", iterations, () -> get(client, base, token));
+            report("http " + PICKER_FIELDS, iterations, () -> get(client, base + "?fields=" + PICKER_FIELDS, token));
+            return;
+        }
+
+        int count = Integer.parseInt(options.getOrDefault("doctors", "500"));
+        List<Doctor> doctors = DoctorFixtures.doctors(count, 42);
+        ObjectMapper json = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        report("full", iterations, () -> json.writeValueAsBytes(
+                doctors.stream().map(DoctorMapper::toResponse).toList()).length);
+        report(PICKER_FIELDS, iterations, () -> json.writeValueAsBytes(doctors.stream().map(doctor -> {
+            Map<String, Object> user = new LinkedHashMap<>();
+            user.put("fullName", doctor.getUser().getFullName());
+            Map<String, Object> picked = new LinkedHashMap<>();
+            picked.put("id", doctor.getId());
+            picked.put("specialty", doctor.getSpecialty());
+            picked.put("user", user);
+            return picked;
+        }).toList()).length);
+    }
+
+    private interface Sample {
+        // Returns the payload size in bytes
+        int run() throws Exception;
+    }
+
+    private static void report(String name, int iterations, Sample sample) throws Exception {
+        // Warm up the JIT before measuring
+        for (int i = 0; i < Math.min(iterations, 500); i++) {
+            sample.run();
+        }
+        long[] nanos = new long[iterations];
+        int bytes = 0;
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            bytes = sample.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        System.out.printf("%-32s %,10d bytes  p50 %,9.1f us  p99 %,9.1f us%n", name, bytes,
+                nanos[iterations / 2] / 1_000.0, nanos[(int) (iterations * 0.99)] / 1_000.0);
+    }
+
+    private static int get(HttpClient client, String url, String token) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url)).GET();
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(url + " returned " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
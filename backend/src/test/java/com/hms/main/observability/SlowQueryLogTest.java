@@ -0,0 +1,61 @@
+package com.hms.main.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+class SlowQueryLogTest {
+
+    private final SlowQueryLog slowQueryLog = new SlowQueryLog(null, Duration.ofMillis(100), 500, false, Duration.ofMinutes(10), Duration.ofSeconds(5));
+
+    @Test
+    void aggregatesSlowStatementsByShape() throws Exception {
+        execute("select * from appointments where doctor_id = ? and date > '2026-01-01'", 150, UUID.randomUUID());
+        execute("select * from appointments where doctor_id = ? and date > '2026-02-01'", 250, UUID.randomUUID());
+        execute("select * from appointments where doctor_id = ? and date > '2026-03-01'", 20, UUID.randomUUID());
+
+        assertThat(slowQueryLog.top(10)).singleElement().satisfies(row -> {
+            assertThat(row.shape()).isEqualTo("select * from appointments where doctor_id = ? and date > ?");
+            assertThat(row.count()).isEqualTo(2);
+            assertThat(row.totalMs()).isEqualTo(400);
+            assertThat(row.maxMs()).isEqualTo(250);
+            assertThat(row.parameterTypes()).isEqualTo("(UUID)");
+            assertThat(row.endpoints()).containsExactly("(no request)");
+            assertThat(row.plan()).isNull();
+        });
+    }
+
+    @Test
+    void analyzesOnlyStatementsThatCannotWrite() {
+        assertThat(SlowQueryLog.explainCommand("select * from users where updated_at > ?"))
+                .isEqualTo("EXPLAIN (ANALYZE, BUFFERS) ");
+        assertThat(SlowQueryLog.explainCommand("with recent as (select id from users) select * from recent"))
+                .isEqualTo("EXPLAIN (ANALYZE, BUFFERS) ");
+        assertThat(SlowQueryLog.explainCommand("update users set full_name = ? where id = ?")).isEqualTo("EXPLAIN ");
+        assertThat(SlowQueryLog.explainCommand("insert into users (id) values (?)")).isEqualTo("EXPLAIN ");
+        assertThat(SlowQueryLog.explainCommand("with moved as (delete from appointments_default returning *) "
+                + "select count(*) from moved")).isEqualTo("EXPLAIN ");
+        assertThat(SlowQueryLog.explainCommand("select * from doctors where id = ? for update")).isEqualTo("EXPLAIN ");
+        assertThat(SlowQueryLog.explainCommand("select * from users for no key update")).isEqualTo("EXPLAIN ");
+        assertThat(SlowQueryLog.explainCommand("select nextval('users_seq')")).isEqualTo("EXPLAIN ");
+    }
+
+    private void execute(String sql, long millis, Object parameter) throws Exception {
+        QueryInfo query = new QueryInfo(sql);
+        query.getParametersList().add(List.of(new ParameterSetOperation(
+                PreparedStatement.class.getMethod("setObject", int.class, Object.class), new Object[] { 1, parameter })));
+        ExecutionInfo execution = new ExecutionInfo();
+        execution.setElapsedTime(millis);
+        execution.setSuccess(true);
+        slowQueryLog.afterQuery(execution, List.of(query));
+    }
+}
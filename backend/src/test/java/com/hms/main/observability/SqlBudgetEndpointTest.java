@@ -0,0 +1,176 @@
+package com.hms.main.observability;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import com.hms.main.cache.ResourceVersions;
+import com.hms.main.controller.ClinicalSummaryController;
+import com.hms.main.controller.DoctorController;
+import com.hms.main.dto.response.DoctorResponse;
+import com.hms.main.entity.Allergy;
+import com.hms.main.entity.User;
+import com.hms.main.entity.enums.Roles;
+import com.hms.main.entity.enums.Severity;
+import com.hms.main.repository.AllergyRepository;
+import com.hms.main.repository.UserRepository;
+import com.hms.main.service.DoctorService;
+import com.hms.main.service.implementation.ClinicalSummaryServiceImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Drives endpoints annotated with {@link SqlBudget} through the enforcing
+ * filter. Repositories record one statement per query they would run, so a
+ * change that adds queries per row pushes these requests over their budget.
+ */
+class SqlBudgetEndpointTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final User doctor = User.builder().id(UUID.randomUUID()).role(Roles.DOCTOR).build();
+
+    private final AllergyRepository allergyRepository = mock(AllergyRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final DoctorService doctorService = mock(DoctorService.class);
+
+    private final MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(
+                    new ClinicalSummaryController(
+                            new ClinicalSummaryServiceImpl(allergyRepository, userRepository, meterRegistry, 100)),
+                    new DoctorController(doctorService, new ResourceVersions(meterRegistry)))
+            .setCustomArgumentResolvers(new AuthenticatedUser())
+            .addFilters(new SqlStatementCountFilter(meterRegistry, 0, 0, true), (request, response, chain) -> {
+                // The user lookup of the JWT filter, which runs for every authenticated request
+                record("select * from users where email = ?");
+                chain.doFilter(request, response);
+            })
+            .addInterceptors(new SqlBudgetInterceptor())
+            .build();
+
+    @Test
+    void clinicalSummariesStayWithinTheirBudget() throws Exception {
+        List<UUID> patients = patients(20);
+        when(allergyRepository.findByPatientIdIn(anyCollection())).thenAnswer(invocation -> {
+            record("select * from allergies where patient_id in (?)");
+            return allergies(invocation.getArgument(0));
+        });
+        stubPatientIds();
+
+        mockMvc.perform(post("/api/v1/clinical-summaries").contentType(MediaType.APPLICATION_JSON)
+                .content(json(patients)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void clinicalSummariesFailWhenAllergiesLoadTheirPatientsOneByOne() {
+        List<UUID> patients = patients(20);
+        when(allergyRepository.findByPatientIdIn(anyCollection())).thenAnswer(invocation -> {
+            record("select * from allergies where patient_id in (?)");
+            List<Allergy> allergies = allergies(invocation.getArgument(0));
+            allergies.forEach(allergy -> record("select * from users where id = ?"));
+            return allergies;
+        });
+        stubPatientIds();
+
+        assertThatThrownBy(() -> mockMvc.perform(post("/api/v1/clinical-summaries")
+                .contentType(MediaType.APPLICATION_JSON).content(json(patients))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("POST /api/v1/clinical-summaries ran 13 SQL statements (budget 5)")
+                .hasMessageContaining("10x select * from users where id = ?");
+    }
+
+    @Test
+    void doctorDirectoryStaysWithinItsBudget() throws Exception {
+        when(doctorService.getAllDoctors()).thenAnswer(invocation -> {
+            record("select * from doctors d join users u on u.id = d.user_id left join doctor_schedules s "
+                    + "on s.doctor_id = d.id");
+            return doctors(30);
+        });
+
+        mockMvc.perform(get("/api/v1/doctors")).andExpect(status().isOk());
+    }
+
+    @Test
+    void doctorDirectoryFailsWhenSchedulesLoadPerDoctor() {
+        when(doctorService.getAllDoctors()).thenAnswer(invocation -> {
+            record("select * from doctors d join users u on u.id = d.user_id");
+            List<DoctorResponse> doctors = doctors(30);
+            doctors.forEach(doctor -> record("select * from doctor_schedules where doctor_id = ?"));
+            return doctors;
+        });
+
+        assertThatThrownBy(() -> mockMvc.perform(get("/api/v1/doctors")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("GET /api/v1/doctors ran 32 SQL statements (budget 3)")
+                .hasMessageContaining("30x select * from doctor_schedules where doctor_id = ?");
+    }
+
+    private void stubPatientIds() {
+        when(userRepository.findPatientIdsIn(anyCollection())).thenAnswer(invocation -> {
+            record("select id from users where id in (?) and role = ?");
+            return List.copyOf(invocation.<Collection<UUID>>getArgument(0));
+        });
+    }
+
+    private static List<UUID> patients(int count) {
+        return IntStream.range(0, count).mapToObj(i -> UUID.randomUUID()).toList();
+    }
+
+    // One allergy for every other patient, so both the allergy and the patient id lookups run
+    private static List<Allergy> allergies(Collection<UUID> patientIds) {
+        List<UUID> ids = List.copyOf(patientIds);
+        return IntStream.range(0, ids.size()).filter(i -> i % 2 == 0)
+                .mapToObj(i -> Allergy.builder().id(UUID.randomUUID()).name("Penicillin").severity(Severity.SEVERE)
+                        .patient(User.builder().id(ids.get(i)).build()).build())
+                .toList();
+    }
+
+    private static List<DoctorResponse> doctors(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> DoctorResponse.builder().id(UUID.randomUUID()).fullName("Doctor " + i).build())
+                .toList();
+    }
+
+    private static String json(List<UUID> ids) {
+        return ids.stream().map(id -> "\"" + id + "\"").toList().toString();
+    }
+
+    private static void record(String sql) {
+        RequestSqlStats.current().record(sql);
+    }
+
+    // Stands in for Spring Security's resolver of the authenticated user
+    private class AuthenticatedUser implements HandlerMethodArgumentResolver {
+
+        @Override
+        public boolean supportsParameter(MethodParameter parameter) {
+            return parameter.hasParameterAnnotation(AuthenticationPrincipal.class);
+        }
+
+        @Override
+        public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+            return doctor;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.hms.main.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+class SqlStatementCountFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final SqlStatementCountFilter filter = new SqlStatementCountFilter(meterRegistry, 0, 10, true);
+
+    @Test
+    void failsRequestsOverTheirBudgetWhenEnforced() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/doctors");
+        FilterChain nPlusOne = (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/doctors");
+            req.setAttribute(SqlBudgetInterceptor.BUDGET_ATTRIBUTE, 3);
+            RequestSqlStats.current().record("select * from doctors");
+            for (int i = 0; i < 4; i++) {
+                RequestSqlStats.current().record("select * from doctor_schedules where doctor_id = " + i);
+            }
+            res.getWriter().write("[]");
+            res.flushBuffer();
+        };
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> filter.doFilter(request, response, nPlusOne))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ran 5 SQL statements (budget 3)")
+                .hasMessageContaining("4x select * from doctor_schedules where doctor_id = ?");
+        assertThat(meterRegistry.get("hms.http.sql.statements").tag("uri", "/api/v1/doctors").summary().max())
+                .isEqualTo(5);
+        assertThat(RequestSqlStats.current()).isNull();
+        // Nothing reached the client, so the container can still answer 500
+        assertThat(response.isCommitted()).isFalse();
+        assertThat(response.getContentAsString()).isEmpty();
+    }
+
+    @Test
+    void normalizesLiteralsAndInLists() {
+        assertThat(SqlShapes.normalize("SELECT *\n  FROM users WHERE email = 'a''b' AND id IN (?, ?, ?) LIMIT 20"))
+                .isEqualTo("SELECT * FROM users WHERE email = ? AND id in (?...) LIMIT ?");
+    }
+}
@@ -0,0 +1,68 @@
+package com.hms.main.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+class TracingFilterTest {
+
+    private final TraceExporter exporter = new TraceExporter(new ObjectMapper(), new SimpleMeterRegistry(),
+            Duration.ofMillis(200), 0.0, 10, "");
+
+    private final TracingFilter filter = new TracingFilter(exporter, true, 1000);
+
+    @Test
+    void keepsSlowTracesWithSpansFromOtherThreads() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/patients/1/chart");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/patients/{id}/chart");
+            Span service = Tracing.start("PatientChartServiceImpl.getChart", "service");
+            try (ExecutorService sections = Executors.newVirtualThreadPerTaskExecutor()) {
+                sections.submit(Tracing.propagate(() -> {
+                    Span sql = Tracing.start("sql", "sql");
+                    try {
+                        Thread.sleep(250);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        sql.close();
+                    }
+                }));
+            } finally {
+                service.close();
+            }
+        };
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(exporter.recent()).hasSize(1);
+        TraceRecord trace = exporter.recent().get(0);
+        assertThat(response.getHeader(TracingFilter.TRACE_ID_HEADER)).isEqualTo(trace.traceId());
+        assertThat(trace.name()).isEqualTo("GET /api/v1/patients/{id}/chart");
+        assertThat(trace.spans()).extracting(TraceRecord.SpanRecord::name)
+                .containsExactly("request", "PatientChartServiceImpl.getChart", "sql");
+        assertThat(trace.spans().get(2).parentId()).isEqualTo(trace.spans().get(1).id());
+        assertThat(Tracing.active()).isFalse();
+    }
+
+    @Test
+    void dropsFastSuccessfulTraces() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/services"), new MockHttpServletResponse(),
+                (req, res) -> Tracing.start("ServiceServiceImpl.getAll", "service").close());
+
+        assertThat(exporter.recent()).isEmpty();
+    }
+}
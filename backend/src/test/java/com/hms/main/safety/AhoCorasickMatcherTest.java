@@ -0,0 +1,35 @@
+package com.hms.main.safety;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class AhoCorasickMatcherTest {
+
+    private final AhoCorasickMatcher<String> matcher = AhoCorasickMatcher.build(Map.of(
+            "penicillin", "penicillin",
+            "amoxicillin", "penicillin",
+            "co-amoxiclav", "penicillin",
+            "cillin", "fragment",
+            "aspirin", "nsaid",
+            "she", "she",
+            "he", "he",
+            "hers", "hers"));
+
+    @Test
+    void findsOverlappingWholeWordTermsInOnePass() {
+        assertThat(matcher.findAll("Amoxicillin 500mg / Co-Amoxiclav, ASPIRIN"))
+                .extracting(AhoCorasickMatcher.Match::term)
+                .containsExactly("amoxicillin", "co amoxiclav", "aspirin");
+    }
+
+    @Test
+    void ignoresTermsInsideLongerWords() {
+        assertThat(matcher.findAll("aspirinate ushers")).isEmpty();
+        assertThat(matcher.findAll("he she hers"))
+                .extracting(AhoCorasickMatcher.Match::payload)
+                .containsExactly("he", "she", "hers");
+    }
+}
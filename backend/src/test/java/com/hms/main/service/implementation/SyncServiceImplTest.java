@@ -0,0 +1,113 @@
+package com.hms.main.service.implementation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import com.hms.main.dto.response.ServiceResponse;
+import com.hms.main.dto.response.SyncResponse;
+import com.hms.main.entity.Service;
+import com.hms.main.entity.SyncPurgeHorizon;
+import com.hms.main.entity.User;
+import com.hms.main.entity.enums.Roles;
+import com.hms.main.entity.enums.SyncCollection;
+import com.hms.main.repository.AllergyRepository;
+import com.hms.main.repository.DoctorRepository;
+import com.hms.main.repository.ServiceRepository;
+import com.hms.main.repository.SyncPurgeHorizonRepository;
+import com.hms.main.repository.SyncTombstoneRepository;
+import com.hms.main.repository.UserRepository;
+
+class SyncServiceImplTest {
+
+    private static final Duration RETENTION = Duration.ofDays(30);
+
+    private final ServiceRepository serviceRepository = mock(ServiceRepository.class);
+    private final SyncTombstoneRepository syncTombstoneRepository = mock(SyncTombstoneRepository.class);
+    private final SyncPurgeHorizonRepository syncPurgeHorizonRepository = mock(SyncPurgeHorizonRepository.class);
+
+    private final SyncServiceImpl syncService = new SyncServiceImpl(mock(UserRepository.class),
+            mock(DoctorRepository.class), serviceRepository, mock(AllergyRepository.class),
+            syncTombstoneRepository, syncPurgeHorizonRepository, Duration.ofSeconds(5), RETENTION);
+
+    private final User admin = User.builder().id(UUID.randomUUID()).role(Roles.ADMIN).build();
+    private final List<Service> services = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // Untouched for two months, well before the last purge
+        LocalDateTime updatedAt = LocalDateTime.now().minusDays(60).truncatedTo(ChronoUnit.MICROS);
+        for (int i = 0; i < 5; i++) {
+            services.add(Service.builder().id(UUID.randomUUID()).name("Service " + i)
+                    .updatedAt(updatedAt.plusMinutes(i)).build());
+        }
+        services.sort(Comparator.comparing(Service::getUpdatedAt).thenComparing(Service::getId));
+
+        when(serviceRepository.findChangesAfter(any(), any(), any(), any())).thenAnswer(invocation -> {
+            LocalDateTime at = invocation.getArgument(0);
+            UUID id = invocation.getArgument(1);
+            LocalDateTime cutoff = invocation.getArgument(2);
+            Limit limit = invocation.getArgument(3);
+            return services.stream()
+                    .filter(service -> service.getUpdatedAt().isAfter(at)
+                            || service.getUpdatedAt().equals(at) && service.getId().compareTo(id) > 0)
+                    .filter(service -> !service.getUpdatedAt().isAfter(cutoff))
+                    .limit(limit.max())
+                    .toList();
+        });
+        when(syncTombstoneRepository.findAfter(any(), any(), any(), any(), any())).thenReturn(List.of());
+        when(syncPurgeHorizonRepository.findById(SyncPurgeHorizon.ID)).thenReturn(Optional.of(
+                new SyncPurgeHorizon(SyncPurgeHorizon.ID, LocalDateTime.now().minus(RETENTION))));
+    }
+
+    @Test
+    void pagesThroughRowsOlderThanTheRetention() {
+        List<UUID> synced = new ArrayList<>();
+        SyncResponse<Object> page = syncService.getChanges(admin, SyncCollection.SERVICES, null, 2);
+        synced.addAll(ids(page));
+        while (page.isHasMore()) {
+            page = syncService.getChanges(admin, SyncCollection.SERVICES, page.getWatermark(), 2);
+            synced.addAll(ids(page));
+        }
+
+        assertThat(synced).containsExactlyElementsOf(services.stream().map(Service::getId).toList());
+        // The final watermark is current and keeps working for deltas
+        assertThat(syncService.getChanges(admin, SyncCollection.SERVICES, page.getWatermark(), 2).getChanged())
+                .isEmpty();
+    }
+
+    @Test
+    void rejectsWatermarksFromBeforeTheLastPurge() {
+        SyncResponse<Object> firstPage = syncService.getChanges(admin, SyncCollection.SERVICES, null, 2);
+        SyncResponse<Object> lastPage = syncService.getChanges(admin, SyncCollection.SERVICES, null, 10);
+        // A purge a day from now removes deletions both clients still need
+        when(syncPurgeHorizonRepository.findById(SyncPurgeHorizon.ID)).thenReturn(Optional.of(
+                new SyncPurgeHorizon(SyncPurgeHorizon.ID, LocalDateTime.now().plusDays(1))));
+
+        assertThatThrownBy(() -> syncService.getChanges(admin, SyncCollection.SERVICES,
+                firstPage.getWatermark(), 2))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> syncService.getChanges(admin, SyncCollection.SERVICES,
+                lastPage.getWatermark(), 2))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static List<UUID> ids(SyncResponse<Object> page) {
+        return page.getChanged().stream().map(record -> ((ServiceResponse) record).getId()).toList();
+    }
+}
@@ -0,0 +1,200 @@
+package com.hms.main.telemetry;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.hms.main.dto.request.VitalReadingRequest;
+import com.hms.main.entity.enums.VitalType;
+
+/**
+ * Replayable load generator for {@code POST /api/v1/telemetry/vitals}.
+ * <p>
+ * Readings are derived only from the seed, so two runs with the same arguments
+ * send identical frames. Frames can also be recorded to a file and replayed
+ * later at the same or a different rate. Requests are sent on an open model:
+ * one batch every {@code batch / rate} seconds, independent of how fast the
+ * server answers.
+ *
+ * <pre>
+ * java -cp ... com.hms.main.telemetry.TelemetryLoadGenerator \
+ *     --url=http://localhost:8081 --token=$JWT --rate=20000 --batch=500 \
+ *     --duration=60 --patients=200 --seed=42 [--record=frames.bin | --replay=frames.bin]
+ * </pre>
+ */
+public final class TelemetryLoadGenerator {
+
+    private static final VitalType[] TYPES = VitalType.values();
+
+    private TelemetryLoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String url = options.getOrDefault("url", "http://localhost:8081") + "/api/v1/telemetry/vitals";
+        String token = options.get("token");
+        int rate = Integer.parseInt(options.getOrDefault("rate", "10000"));
+        int batch = Integer.parseInt(options.getOrDefault("batch", "500"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "30"));
+        int patients = Integer.parseInt(options.getOrDefault("patients", "100"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        Instant start = Instant.parse(options.getOrDefault("start", "2025-01-01T00:00:00Z"));
+        Path record = options.containsKey("record") ? Path.of(options.get("record")) : null;
+        Path replay = options.containsKey("replay") ? Path.of(options.get("replay")) : null;
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) * batch / rate;
+        int totalFrames = (int) ((long) rate * durationSeconds / batch);
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        LongAdder accepted = new LongAdder();
+        LongAdder throttled = new LongAdder();
+        LongAdder failed = new LongAdder();
+        AtomicLong totalLatencyMicros = new AtomicLong();
+
+        DataInputStream replayIn = replay != null
+                ? new DataInputStream(new BufferedInputStream(Files.newInputStream(replay)))
+                : null;
+        DataOutputStream recordOut = record != null
+                ? new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(record)))
+                : null;
+
+        SplittableRandom random = new SplittableRandom(seed);
+        long began = System.nanoTime();
+        int sent = 0;
+        try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int frame = 0; replayIn != null || frame < totalFrames; frame++) {
+                byte[] body;
+                if (replayIn != null) {
+                    body = readFrame(replayIn);
+                    if (body == null) {
+                        break;
+                    }
+                } else {
+                    body = generateFrame(random, frame, batch, patients, seed, start);
+                }
+                if (recordOut != null) {
+                    recordOut.writeInt(body.length);
+                    recordOut.write(body);
+                }
+
+                long due = began + frame * intervalNanos;
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                }
+
+                HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                        .header("Content-Type", TelemetryFrameCodec.BINARY)
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+                if (token != null) {
+                    request.header("Authorization", "Bearer " + token);
+                }
+                long sentAt = System.nanoTime();
+                senders.submit(() -> {
+                    try {
+                        HttpResponse<Void> response = client.send(request.build(),
+                                HttpResponse.BodyHandlers.discarding());
+                        totalLatencyMicros.addAndGet((System.nanoTime() - sentAt) / 1000);
+                        switch (response.statusCode()) {
+                            case 200, 202 -> accepted.increment();
+                            case 429 -> throttled.increment();
+                            default -> failed.increment();
+                        }
+                    } catch (IOException | InterruptedException e) {
+                        failed.increment();
+                    }
+                });
+                sent++;
+            }
+        } finally {
+            if (recordOut != null) {
+                recordOut.close();
+            }
+            if (replayIn != null) {
+                replayIn.close();
+            }
+        }
+
+        double seconds = (System.nanoTime() - began) / 1e9;
+        long answered = accepted.sum() + throttled.sum() + failed.sum();
+        System.out.printf("frames=%d accepted=%d throttled(429)=%d failed=%d%n",
+                sent, accepted.sum(), throttled.sum(), failed.sum());
+        System.out.printf("elapsed=%.1fs offered=%.0f readings/s accepted=%.0f readings/s mean latency=%.1f ms%n",
+                seconds, sent * (double) batch / seconds, accepted.sum() * (double) batch / seconds,
+                answered == 0 ? 0 : totalLatencyMicros.get() / 1000.0 / answered);
+    }
+
+    private static byte[] generateFrame(SplittableRandom random, int frame, int batch, int patients, long seed,
+            Instant start) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(6 + batch * TelemetryFrameCodec.RECORD_SIZE);
+        TelemetryFrameCodec.writeBinaryHeader(buffer);
+        DataOutputStream out = new DataOutputStream(buffer);
+        for (int i = 0; i < batch; i++) {
+            long sequence = (long) frame * batch + i;
+            UUID patientId = new UUID(seed, sequence % patients);
+            VitalType type = TYPES[(int) ((sequence / patients) % TYPES.length)];
+            // One reading per patient and type per second keeps keys unique across the run
+            Instant recordedAt = start.plusSeconds(sequence / ((long) patients * TYPES.length));
+            TelemetryFrameCodec.writeBinaryRecord(out, new VitalReadingRequest(patientId, type, recordedAt,
+                    typicalValue(type) + random.nextGaussian() * typicalValue(type) * 0.05));
+        }
+        out.flush();
+        return buffer.toByteArray();
+    }
+
+    private static double typicalValue(VitalType type) {
+        return switch (type) {
+            case HEART_RATE -> 75;
+            case SYSTOLIC_BLOOD_PRESSURE -> 120;
+            case DIASTOLIC_BLOOD_PRESSURE -> 80;
+            case RESPIRATORY_RATE -> 16;
+            case OXYGEN_SATURATION -> 97;
+            case TEMPERATURE -> 36.8;
+            case BLOOD_GLUCOSE -> 5.5;
+            case WEIGHT -> 72;
+        };
+    }
+
+    private static byte[] readFrame(DataInputStream in) throws IOException {
+        int length;
+        try {
+            length = in.readInt();
+        } catch (EOFException e) {
+            return null;
+        }
+        byte[] body = new byte[length];
+        in.readFully(body);
+        return body;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return options;
+    }
+}